@@ -0,0 +1,71 @@
+package uk.ac.aston.dc2300.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import uk.ac.aston.dc2300.model.entity.Building;
+import uk.ac.aston.dc2300.model.entity.Client;
+import uk.ac.aston.dc2300.model.entity.Elevator;
+import uk.ac.aston.dc2300.model.entity.Employee;
+import uk.ac.aston.dc2300.model.entity.Floor;
+import uk.ac.aston.dc2300.utility.logging.LogLevel;
+import uk.ac.aston.dc2300.utility.logging.NoOpEventSink;
+import uk.ac.aston.dc2300.utility.logging.SimulationLog;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the complaint check run over the whole building on every tick. The building is filled with a mix of
+ * employees and queuing clients spread over the floors, none of the clients have waited long enough to complain so
+ * every invocation does the same work.
+ *
+ * @since 18/10/26
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BuildingBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    public int numOccupants;
+
+    private Building building;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        SimulationLog.configure(new NoOpEventSink(), LogLevel.OFF);
+
+        List<Floor> floors = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            floors.add(new Floor(i));
+        }
+        List<Elevator> elevators = new ArrayList<>();
+        elevators.add(new Elevator(8, floors.get(0)));
+        building = new Building(elevators, floors);
+
+        for (int i = 0; i < numOccupants; i++) {
+            Floor floor = floors.get(i % floors.size());
+            if (i % 4 == 0) {
+                // Every fourth occupant is a client who joined the queue at the start
+                Client client = new Client(0, 600);
+                client.enterBuilding(building);
+                floor.addOccupant(client);
+                client.callElevator(floor, 0);
+            } else {
+                Employee employee = new Employee(0);
+                employee.enterBuilding(building);
+                floor.addOccupant(employee);
+            }
+        }
+    }
+
+    @Benchmark
+    public int getClientComplaints() {
+        // Just before anybody has waited long enough to complain
+        return building.getClientComplaints(Client.COMPLAINT_WAIT_TIME - 10);
+    }
+
+}
@@ -0,0 +1,112 @@
+package uk.ac.aston.dc2300.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import uk.ac.aston.dc2300.model.entity.Developer;
+import uk.ac.aston.dc2300.model.entity.Elevator;
+import uk.ac.aston.dc2300.model.entity.Employee;
+import uk.ac.aston.dc2300.model.entity.Floor;
+import uk.ac.aston.dc2300.model.status.DeveloperCompany;
+import uk.ac.aston.dc2300.model.status.ElevatorDirection;
+import uk.ac.aston.dc2300.utility.logging.LogLevel;
+import uk.ac.aston.dc2300.utility.logging.NoOpEventSink;
+import uk.ac.aston.dc2300.utility.logging.SimulationLog;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the elevator decisions made on every tick. The elevator sits with its doors open half way up the building
+ * having just moved up, carrying a Goggles developer and some employees for the floors above. All of the other floors
+ * have somebody queuing and the elevator floor has a queue of Mugtome developers.
+ *
+ * Loading skips every developer because of their rival and moves them to the back of the queue, which leaves the queue
+ * in the same order it started so every invocation does the same work.
+ *
+ * @since 18/10/26
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ElevatorBenchmark {
+
+    @Param({"10", "50"})
+    public int numFloors;
+
+    @Param({"10", "100", "1000"})
+    public int queueLength;
+
+    private List<Floor> floors;
+
+    private Elevator elevator;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        SimulationLog.configure(new NoOpEventSink(), LogLevel.OFF);
+
+        floors = new ArrayList<>();
+        for (int i = 0; i < numFloors; i++) {
+            floors.add(new Floor(i));
+        }
+        int middleFloor = numFloors / 2;
+
+        // Move the elevator up to the middle floor
+        elevator = new Elevator(8, floors.get(0));
+        Floor top = floors.get(numFloors - 1);
+        Employee rider = new Employee(0);
+        rider.setDestination(top);
+        elevator.addOccupant(rider);
+        while (elevator.getCurrentFloor().getFloorNumber() < middleFloor) {
+            elevator.moveIfRequested(floors);
+            // Moving takes two ticks
+            elevator.moveIfRequested(floors);
+        }
+
+        // Passengers going to the floors above and a developer who every rival will refuse to ride with
+        Developer goggles = new Developer(0, DeveloperCompany.GOGGLES);
+        goggles.setDestination(top);
+        elevator.addOccupant(goggles);
+        for (int i = 0; i < 3; i++) {
+            Employee passenger = new Employee(0);
+            passenger.setDestination(floors.get(middleFloor + 1 + i % (numFloors - middleFloor - 1)));
+            elevator.addOccupant(passenger);
+        }
+
+        // Somebody queuing on all of the other floors
+        for (Floor floor : floors) {
+            if (floor.getFloorNumber() == middleFloor) continue;
+            Employee waiting = new Employee(0);
+            waiting.setDestination(floors.get(0));
+            floor.addOccupant(waiting);
+            floor.addToBackOfQueue(waiting);
+        }
+
+        // A queue of rivals on the elevator floor
+        Floor currentFloor = elevator.getCurrentFloor();
+        for (int i = 0; i < queueLength; i++) {
+            Developer rival = new Developer(0, DeveloperCompany.MUGTOME);
+            rival.setDestination(top);
+            currentFloor.addOccupant(rival);
+            currentFloor.addToBackOfQueue(rival);
+        }
+
+        // Open the doors, the queue makes them start opening and the next update finishes opening them
+        elevator.updateDoorStatus(floors);
+        elevator.updateDoorStatus(floors);
+    }
+
+    @Benchmark
+    public ElevatorDirection whichDirectionNext() {
+        return elevator.whichDirectionNext(floors);
+    }
+
+    @Benchmark
+    public int loadPassengers() {
+        elevator.loadPassengers(floors, 0);
+        return elevator.getOccupants().size();
+    }
+
+}
@@ -0,0 +1,45 @@
+package uk.ac.aston.dc2300.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import uk.ac.aston.dc2300.model.status.SimulationStatistics;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures working out the average wait time from the statistics of a finished simulation. The GUI does this on every
+ * tick so it needs to stay cheap as the number of recorded waits grows.
+ *
+ * @since 18/10/26
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StatisticsBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int numWaitTimes;
+
+    private SimulationStatistics statistics;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random random = new Random(420);
+        int[] waitTimes = new int[numWaitTimes];
+        for (int i = 0; i < numWaitTimes; i++) {
+            // Waits are whole ticks of 10 seconds
+            waitTimes[i] = random.nextInt(120) * 10;
+        }
+        statistics = new SimulationStatistics(0);
+        statistics.addWaitTimes(waitTimes);
+    }
+
+    @Benchmark
+    public int getAverageTime() {
+        return statistics.getAverageTime();
+    }
+
+}
@@ -0,0 +1,55 @@
+package uk.ac.aston.dc2300.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import uk.ac.aston.dc2300.component.Simulation;
+import uk.ac.aston.dc2300.model.configuration.SimulationConfiguration;
+import uk.ac.aston.dc2300.model.status.SimulationStatus;
+import uk.ac.aston.dc2300.utility.logging.LogLevel;
+import uk.ac.aston.dc2300.utility.logging.NoOpEventSink;
+import uk.ac.aston.dc2300.utility.logging.SimulationLog;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how many simulation ticks can be run per second as the building grows in floors and employees. The per
+ * tick work is linear in the number of occupants so ticks/s multiplied by numEmployees should stay flat, a quadratic
+ * lookup anywhere in the tick shows up as that product falling away for the larger buildings.
+ *
+ * The bytes allocated per tick are reported as gc.alloc.rate.norm when run through BenchmarkRunner. A steady state
+ * tick should not allocate anything that grows with the size of the building.
+ *
+ * @since 18/10/26
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TickThroughputBenchmark {
+
+    @Param({"5", "20", "50"})
+    public int numFloors;
+
+    @Param({"100", "1000", "10000"})
+    public int numEmployees;
+
+    private Simulation simulation;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        // Logging would drown out the measurement, with the log off each event costs a single branch
+        SimulationLog.configure(new NoOpEventSink(), LogLevel.OFF);
+
+        SimulationConfiguration configuration = new SimulationConfiguration(new BigDecimal("0.01"),
+                new BigDecimal("0.005"), 420, numEmployees, 0, numFloors, 8, Integer.MAX_VALUE);
+        simulation = new Simulation(configuration);
+    }
+
+    @Benchmark
+    public SimulationStatus tick() {
+        return simulation.tick();
+    }
+
+}
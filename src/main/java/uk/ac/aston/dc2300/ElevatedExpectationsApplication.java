@@ -1,8 +1,11 @@
 package uk.ac.aston.dc2300;
 
 import uk.ac.aston.dc2300.controller.ApplicationController;
+import uk.ac.aston.dc2300.controller.BatchController;
 import uk.ac.aston.dc2300.controller.CliController;
 import uk.ac.aston.dc2300.controller.GuiController;
+import uk.ac.aston.dc2300.controller.RunController;
+import uk.ac.aston.dc2300.controller.SweepController;
 
 /**
  * ElevatedExpectationApplication is the main application class which contains the entry point of the application.
@@ -15,6 +18,15 @@ import uk.ac.aston.dc2300.controller.GuiController;
  *
  * cli - Runs in command line interface mode
  * gui - Runs as a graphical user interface
+ * run - Runs a single simulation to the end without interaction and writes its statistics
+ * batch - Runs many seeds of one configuration in parallel without interaction
+ * sweep - Runs every combination of a set of configuration values in parallel without interaction
+ *
+ * In cli mode any further arguments are passed to the CliController, eg. '--log=events.log' to write simulation events
+ * to a file rather than the console. In run, batch and sweep mode the configuration is given as arguments or read from
+ * a '--config' file, see RunController, BatchController and SweepController. An option the mode doesn't understand
+ * stops the application rather than being ignored. Messages from this class are written to standard error so the
+ * statistics written to standard output can be piped straight into another program.
  *
  * @author George Davies
  * @since 04/04/17
@@ -25,20 +37,29 @@ public class ElevatedExpectationsApplication {
 
     public static void main(String[] args) {
 
-        System.out.println("Starting Elevated Expectations");
+        System.err.println("Starting Elevated Expectations");
 
         try{
             String runningMode = args[0];
             if (runningMode.equalsIgnoreCase("cli")) {
-                applicationController = new CliController();
+                applicationController = new CliController(args);
             } else if (runningMode.equalsIgnoreCase("gui")) {
                 applicationController = new GuiController();
+            } else if (runningMode.equalsIgnoreCase("run")) {
+                applicationController = new RunController(args);
+            } else if (runningMode.equalsIgnoreCase("batch")) {
+                applicationController = new BatchController(args);
+            } else if (runningMode.equalsIgnoreCase("sweep")) {
+                applicationController = new SweepController(args);
             } else {
-                System.out.println("Unable to start interface. Unexpected parameter, please specify either 'cli' or 'gui' mode");
+                System.err.println("Unable to start interface. Unexpected parameter, please specify either 'cli', 'gui', 'run', 'batch' or 'sweep' mode");
                 System.exit(1);
             }
         } catch (IndexOutOfBoundsException e) {
-            System.out.println("Unable to start interface. No parameters found, please specify either 'cli' or 'gui' mode");
+            System.err.println("Unable to start interface. No parameters found, please specify either 'cli', 'gui', 'run', 'batch' or 'sweep' mode");
+            System.exit(1);
+        } catch (IllegalArgumentException e) {
+            System.err.println("Unable to start interface. " + e.getMessage());
             System.exit(1);
         }
 
@@ -0,0 +1,80 @@
+package uk.ac.aston.dc2300.component;
+
+import uk.ac.aston.dc2300.model.configuration.SimulationConfiguration;
+import uk.ac.aston.dc2300.model.status.SimulationStatistics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Runs replications of a single configuration over a range of seeds. Each seed is run as an independent Simulation on
+ * a work stealing pool so the replications are spread over every core, a Simulation never shares state with another
+ * so the results for a seed are the same as running it on its own.
+ *
+ * The simulation log is shared by every simulation so it should be switched off before running a batch.
+ *
+ * @since 18/10/26
+ */
+public class BatchRunner {
+
+    private final SimulationConfiguration configuration;
+
+    private final int parallelism;
+
+    /**
+     * @param configuration the configuration to run, the seed is replaced for each replication
+     * @param parallelism the number of simulations to run at the same time
+     */
+    public BatchRunner(SimulationConfiguration configuration, int parallelism) {
+        this.configuration = configuration;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Runs one simulation for each seed from firstSeed to firstSeed + runs - 1 and waits for them all to finish
+     *
+     * @param firstSeed the seed of the first replication
+     * @param runs the number of replications to run
+     * @return the final statistics of each replication in seed order
+     * @throws InterruptedException if interrupted while waiting for the replications
+     */
+    public List<SimulationStatistics> run(long firstSeed, int runs) throws InterruptedException {
+        List<Callable<SimulationStatistics>> replications = new ArrayList<>(runs);
+        for (int i = 0; i < runs; i++) {
+            SimulationConfiguration replication = configuration.withSeed(firstSeed + i);
+            replications.add(() -> new Simulation(replication).runToEnd());
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            List<SimulationStatistics> results = new ArrayList<>(runs);
+            for (Future<SimulationStatistics> result : pool.invokeAll(replications)) {
+                results.add(result.get());
+            }
+            return results;
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Simulation replication failed", e.getCause());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Combines the statistics of every replication together
+     *
+     * @param results the statistics of each replication
+     * @return the combined statistics
+     */
+    public static SimulationStatistics aggregate(List<SimulationStatistics> results) {
+        SimulationStatistics aggregate = new SimulationStatistics(0);
+        for (SimulationStatistics result : results) {
+            aggregate = aggregate.merge(result);
+        }
+        return aggregate;
+    }
+
+}
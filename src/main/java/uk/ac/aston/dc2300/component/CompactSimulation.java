@@ -0,0 +1,788 @@
+package uk.ac.aston.dc2300.component;
+
+import uk.ac.aston.dc2300.model.configuration.SimulationConfiguration;
+import uk.ac.aston.dc2300.model.entity.Client;
+import uk.ac.aston.dc2300.model.entity.MaintenanceCrew;
+import uk.ac.aston.dc2300.model.status.DeveloperCompany;
+import uk.ac.aston.dc2300.model.status.ElevatorDirection;
+import uk.ac.aston.dc2300.model.status.ElevatorDoorStatus;
+import uk.ac.aston.dc2300.model.status.ElevatorMovementStatus;
+import uk.ac.aston.dc2300.model.status.SimulationStatistics;
+import uk.ac.aston.dc2300.model.status.SimulationStatus;
+import uk.ac.aston.dc2300.utility.RandomUtils;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+import static uk.ac.aston.dc2300.model.status.ElevatorDoorStatus.CLOSED;
+import static uk.ac.aston.dc2300.model.status.ElevatorDoorStatus.CLOSING;
+import static uk.ac.aston.dc2300.model.status.ElevatorDoorStatus.OPEN;
+import static uk.ac.aston.dc2300.model.status.ElevatorDoorStatus.OPENING;
+import static uk.ac.aston.dc2300.model.status.ElevatorMovementStatus.MOVING;
+import static uk.ac.aston.dc2300.model.status.ElevatorMovementStatus.STATIONARY;
+
+/**
+ * A simulation engine for very large buildings which keeps every occupant as a slot in a set of primitive arrays
+ * rather than as an object. The floors, their elevator queues and the elevator are lists threaded through the same
+ * arrays by slot number, so an occupant costs around fifty bytes however many waits they have, and each phase of a tick
+ * is a loop over the arrays.
+ *
+ * The rules are exactly those of the tick engine, occupants are visited in the same order and draw the same random
+ * numbers, so this engine produces the same statistics as Simulation for the same configuration. Only the statistics of
+ * the whole simulation are kept, there is no Building to look at and no wait history for each occupant.
+ *
+ * @since 18/10/26
+ */
+public class CompactSimulation {
+
+    // Types of occupant
+    private static final byte EMPLOYEE = 0;
+    private static final byte DEVELOPER = 1;
+    private static final byte CLIENT = 2;
+    private static final byte MAINTENANCE_CREW = 3;
+
+    // Occupant flags
+    private static final byte SIGNED_IN = 1;
+    private static final byte LEAVING = 2;
+    private static final byte IN_ELEVATOR = 4;
+
+    // Marks the end of a list or an occupant who isn't on a floor or in a queue
+    private static final int NONE = -1;
+
+    private final SimulationConfiguration configuration;
+
+    private final double floorChangeProbability;
+    private final double clientArrivalProbability;
+    private final int simulationRunTime;
+
+    private final RandomUtils randomUtils;
+
+    private final SimulationStatus status;
+
+    private int currentTime = 0;
+
+    private final int numberOfFloors;
+
+    // The first floor of the top half of the building, the bottom half is every floor below it
+    private final int topHalfStart;
+
+    // One entry per occupant slot
+    private byte[] type;
+    private byte[] company;
+    private byte[] flags;
+    private int[] timeEntered;
+    private int[] leaveAfterArrivalTime;
+    private int[] floor;
+    private int[] destination;
+    private int[] destinationArrivalTime;
+    private int[] queueEntryTime;
+    private int[] queueFloor;
+    private int[] floorPrevious;
+    private int[] floorNext;
+    private int[] queuePrevious;
+    private int[] queueNext;
+
+    // Slots in use are below this, slots given back by occupants who have left are reused first
+    private int slotsUsed;
+    private int[] freeSlots;
+    private int freeSlotCount;
+
+    // The occupants on each floor and queuing on each floor, in order
+    private final int[] floorHead;
+    private final int[] floorTail;
+    private final int[] queueHead;
+    private final int[] queueTail;
+    private final int[] queueSize;
+    private final BitSet waitingFloors;
+
+    // The elevator
+    private final int elevatorCapacity;
+    private int elevatorFloor;
+    private int elevatorPreviousFloor;
+    private ElevatorDoorStatus doorStatus;
+    private ElevatorMovementStatus movementStatus;
+    private final int[] passengers;
+    private int passengerCount;
+    private int usedCapacity;
+    private final int[] passengersPerFloor;
+    private final BitSet passengerDestinations;
+    private final int[] developersPerCompany;
+    private int developerCount;
+    private boolean changedSinceDoorUpdate;
+
+    // Clients who joined a queue and the time they joined, in time order, to find who complains without a scan
+    private int[] complaintClients;
+    private int[] complaintTimes;
+    private int complaintHead;
+    private int complaintCount;
+
+    private int numberComplaints;
+    private final SimulationStatistics waitStatistics;
+    private int numberOfVisitors;
+    private long numberDepartedVisitors;
+
+    /**
+     * Creates a CompactSimulation instance with the provided simulationConfiguration as properties
+     *
+     * @param simulationConfiguration configuration for simulation to run from
+     */
+    public CompactSimulation(SimulationConfiguration simulationConfiguration) {
+        configuration = simulationConfiguration;
+        floorChangeProbability = simulationConfiguration.getEmpFloorChangeProbabilityValue();
+        clientArrivalProbability = simulationConfiguration.getClientArrivalProbabilityValue();
+        simulationRunTime = simulationConfiguration.getSimulationTime();
+        randomUtils = new RandomUtils(simulationConfiguration.getSeed());
+        status = new SimulationStatus(null, currentTime, true);
+
+        numberOfFloors = simulationConfiguration.getNumFloors();
+        topHalfStart = numberOfFloors / 2 + numberOfFloors % 2;
+        floorHead = filled(numberOfFloors);
+        floorTail = filled(numberOfFloors);
+        queueHead = filled(numberOfFloors);
+        queueTail = filled(numberOfFloors);
+        queueSize = new int[numberOfFloors];
+        waitingFloors = new BitSet(numberOfFloors);
+
+        elevatorCapacity = simulationConfiguration.getElevatorCapacity();
+        doorStatus = CLOSED;
+        movementStatus = STATIONARY;
+        // Everybody takes at least one space so the elevator can't hold more passengers than its capacity
+        passengers = new int[Math.max(1, elevatorCapacity)];
+        passengersPerFloor = new int[numberOfFloors];
+        passengerDestinations = new BitSet(numberOfFloors);
+        developersPerCompany = new int[DeveloperCompany.values().length];
+
+        complaintClients = new int[16];
+        complaintTimes = new int[16];
+        waitStatistics = new SimulationStatistics(0);
+
+        int initialOccupants = simulationConfiguration.getNumEmployees() + simulationConfiguration.getNumDevelopers();
+        allocateArrays(Math.max(16, initialOccupants + initialOccupants / 8));
+
+        // Create employee(s) and developer(s) and put in ground floor
+        for (int i = 0; i < simulationConfiguration.getNumEmployees(); i++) {
+            enterBuilding(EMPLOYEE, null, 0);
+        }
+        for (int i = 0; i < simulationConfiguration.getNumDevelopers(); i++) {
+            enterBuilding(DEVELOPER, Simulation.COMPANIES[i % 2], 0);
+        }
+
+        // Give all occupants new destination floors
+        int occupant = floorHead[0];
+        while (occupant != NONE) {
+            int next = floorNext[occupant];
+            setNewDestination(occupant, 0, 1);
+            occupant = next;
+        }
+    }
+
+    /**
+     * Gets the simulation statistics for the given simulation
+     *
+     * @return a SimulationStatistics object containing information about the simulation
+     */
+    public SimulationStatistics getStatistics() {
+        return new SimulationStatistics(numberComplaints).merge(waitStatistics);
+    }
+
+    /**
+     * Ticks the simulation until it has finished and returns the final statistics
+     *
+     * @return the statistics at the end of the simulation
+     */
+    public SimulationStatistics runToEnd() {
+        while (tick().isSimulationRunning()) {
+            // Keep ticking until the simulation time has run out
+        }
+        return getStatistics();
+    }
+
+    /**
+     * Progresses the simulation through one logic time unit (10 seconds) and returns the new status. The same status
+     * object is returned by every tick and updated in place, it has no building.
+     *
+     * @return the new status of the simulation
+     */
+    public SimulationStatus tick() {
+        reassignDestinations();
+        checkForArrivingClient();
+        checkForArrivingMaintenanceCrew();
+        updateDoorStatus();
+        unloadPassengers();
+        loadPassengers();
+        moveElevator();
+        checkClientComplaints();
+
+        status.update(currentTime, currentTime < simulationRunTime);
+        currentTime += 10;
+        return status;
+    }
+
+    /**
+     * Asks everybody who is on their destination floor whether they want to go somewhere else, floor by floor in the
+     * order they arrived on each floor
+     */
+    private void reassignDestinations() {
+        for (int f = 0; f < numberOfFloors; f++) {
+            int occupant = floorHead[f];
+            while (occupant != NONE) {
+                // Taken first as the occupant may leave the building
+                int next = floorNext[occupant];
+                if (destination[occupant] == f) {
+                    setNewDestination(occupant, f, floorChangeProbability);
+                }
+                occupant = next;
+            }
+        }
+    }
+
+    /**
+     * Carries out the rules each type of occupant follows to choose a new destination, see the setNewDestination method
+     * of each BuildingOccupant
+     *
+     * @param occupant the occupant
+     * @param currentFloor the floor the occupant is on
+     * @param probability the probability an employee or developer chooses a new destination
+     */
+    private void setNewDestination(int occupant, int currentFloor, double probability) {
+        switch (type[occupant]) {
+            case EMPLOYEE:
+                if (randomUtils.getDouble() <= probability) {
+                    // Employees go to any other floor
+                    int newDestination = randomUtils.getIntInRange(0, numberOfFloors - 1);
+                    while (newDestination == currentFloor) {
+                        newDestination = randomUtils.getIntInRange(0, numberOfFloors - 1);
+                    }
+                    setDestination(occupant, newDestination);
+                    callElevator(occupant, currentFloor, false);
+                }
+                break;
+            case DEVELOPER:
+                if (randomUtils.getDouble() <= probability) {
+                    // Developers go to another floor in the top half
+                    int topHalfSize = numberOfFloors - topHalfStart;
+                    int newDestination = topHalfStart + randomUtils.getIntInRange(0, topHalfSize - 1);
+                    while (newDestination == currentFloor) {
+                        newDestination = topHalfStart + randomUtils.getIntInRange(0, topHalfSize - 1);
+                    }
+                    setDestination(occupant, newDestination);
+                    callElevator(occupant, currentFloor, false);
+                }
+                break;
+            case CLIENT:
+                if (currentFloor == 0 && timeEntered[occupant] == currentTime) {
+                    // Clients arriving go to a floor in the bottom half
+                    int newDestination = randomUtils.getIntInRange(0, topHalfStart - 1);
+                    setDestination(occupant, newDestination);
+                    if (newDestination != currentFloor) {
+                        callElevator(occupant, currentFloor, true);
+                    }
+                } else if (currentFloor == 0 && (flags[occupant] & LEAVING) != 0) {
+                    leaveBuilding(occupant, currentFloor);
+                } else if (destination[occupant] == currentFloor
+                        && currentTime >= destinationArrivalTime[occupant] + leaveAfterArrivalTime[occupant]) {
+                    setDestination(occupant, 0);
+                    if (currentFloor != 0) {
+                        callElevator(occupant, currentFloor, true);
+                    } else {
+                        leaveBuilding(occupant, currentFloor);
+                    }
+                }
+                break;
+            case MAINTENANCE_CREW:
+                if (currentFloor == 0 && timeEntered[occupant] == currentTime) {
+                    // Maintenance crews arriving go to the top floor
+                    setDestination(occupant, numberOfFloors - 1);
+                    callElevator(occupant, currentFloor, false);
+                } else if (currentFloor == 0 && destination[occupant] == 0) {
+                    leaveBuilding(occupant, currentFloor);
+                } else if (destination[occupant] == currentFloor
+                        && currentTime >= destinationArrivalTime[occupant] + leaveAfterArrivalTime[occupant]) {
+                    setDestination(occupant, 0);
+                    callElevator(occupant, currentFloor, false);
+                }
+                break;
+        }
+    }
+
+    /**
+     * Randomly (against given probability) creates a client on the ground floor and sets their destination
+     */
+    private void checkForArrivingClient() {
+        if (randomUtils.getDouble() <= clientArrivalProbability) {
+            // Generate random leaving time between 10 and 30 minutes, change to seconds.
+            int leaveAfter = randomUtils.getIntInRange(Client.MINIMUM_STAY_MINUTES, Client.MAXIMUM_STAY_MINUTES) * 60;
+            int client = enterBuilding(CLIENT, null, leaveAfter);
+            setNewDestination(client, 0, 1);
+        }
+    }
+
+    /**
+     * Randomly (against given probability) creates a maintenance crew on the ground floor and sets their destination
+     */
+    private void checkForArrivingMaintenanceCrew() {
+        if (randomUtils.getDouble() <= Simulation.MAINTENANCE_CREW_ARRIVAL_PROBABILITY) {
+            // Generate random leaving time between 20 and 40 minutes, change to seconds.
+            int leaveAfter = randomUtils.getIntInRange(MaintenanceCrew.MINIMUM_STAY_MINUTES,
+                    MaintenanceCrew.MAXIMUM_STAY_MINUTES) * 60;
+            int maintenanceCrew = enterBuilding(MAINTENANCE_CREW, null, leaveAfter);
+            setNewDestination(maintenanceCrew, 0, 1);
+        }
+    }
+
+    /**
+     * Opens or closes the elevator doors, see Elevator.updateDoorStatus
+     */
+    private void updateDoorStatus() {
+        switch (doorStatus) {
+            case OPENING:
+                doorStatus = OPEN;
+                break;
+            case CLOSING:
+                doorStatus = CLOSED;
+                break;
+            case OPEN:
+                // Close once nobody got in or out since the last update
+                if (!changedSinceDoorUpdate) {
+                    doorStatus = CLOSING;
+                }
+                break;
+            case CLOSED:
+                // Everybody queuing is willing to get in whichever way the elevator is going
+                if (movementStatus == STATIONARY
+                        && (passengerDestinations.get(elevatorFloor) || queueSize[elevatorFloor] > 0)) {
+                    doorStatus = OPENING;
+                }
+                break;
+        }
+        changedSinceDoorUpdate = false;
+    }
+
+    /**
+     * Lets out every passenger whose destination is the current floor, in the order they got in
+     */
+    private void unloadPassengers() {
+        if (doorStatus != OPEN || !passengerDestinations.get(elevatorFloor)) {
+            return;
+        }
+        int kept = 0;
+        int count = passengerCount;
+        for (int i = 0; i < count; i++) {
+            int passenger = passengers[i];
+            if (destination[passenger] == elevatorFloor) {
+                leftElevator(passenger);
+                addToFloor(passenger, elevatorFloor);
+                destinationArrivalTime[passenger] = currentTime;
+            } else {
+                passengers[kept++] = passenger;
+            }
+        }
+        passengerCount = kept;
+    }
+
+    /**
+     * Visits everybody queuing on the current floor when loading began, in queue order, and lets them in while there
+     * is room. Developers who won't ride with a rival go to the back of the queue and aren't visited again.
+     */
+    private void loadPassengers() {
+        if (doorStatus != OPEN) {
+            return;
+        }
+        int currentFloor = elevatorFloor;
+        int last = queueTail[currentFloor];
+        int occupant = queueHead[currentFloor];
+        while (occupant != NONE && usedCapacity != elevatorCapacity) {
+            int next = queueNext[occupant];
+            if (usedCapacity + sizeOf(occupant) <= elevatorCapacity) {
+                getInElevator(occupant, currentFloor);
+            }
+            if (occupant == last) {
+                break;
+            }
+            occupant = next;
+        }
+    }
+
+    /**
+     * Moves an occupant from the queue into the elevator, see the getInElevator method of each BuildingOccupant
+     *
+     * @param occupant the occupant at the front of the walk
+     * @param currentFloor the floor the elevator is on
+     */
+    private void getInElevator(int occupant, int currentFloor) {
+        if (type[occupant] == DEVELOPER) {
+            removeFromQueue(occupant);
+            if (developerCount > developersPerCompany[company[occupant]]) {
+                // Won't ride with a rival
+                addToQueue(occupant, currentFloor, false);
+            } else {
+                removeFromFloor(occupant);
+                enteredElevator(occupant);
+                resetQueueTimer(occupant);
+            }
+        } else {
+            resetQueueTimer(occupant);
+            removeFromQueue(occupant);
+            removeFromFloor(occupant);
+            enteredElevator(occupant);
+        }
+    }
+
+    /**
+     * Moves the elevator a floor if it has somewhere to go, see Elevator.moveIfRequested
+     */
+    private void moveElevator() {
+        if (movementStatus == MOVING) {
+            movementStatus = STATIONARY;
+            return;
+        }
+        ElevatorDirection direction = whichDirectionNext();
+        if (direction == ElevatorDirection.UP && anybodyPending(elevatorFloor + 1, numberOfFloors)) {
+            moveTo(elevatorFloor + 1);
+        } else if (direction == ElevatorDirection.DOWN) {
+            moveTo(elevatorFloor - 1);
+        }
+    }
+
+    /**
+     * Works out which way the elevator should go next, see Elevator.whichDirectionNext
+     *
+     * @return UP, DOWN or null to stay put
+     */
+    private ElevatorDirection whichDirectionNext() {
+        boolean above = anybodyPending(elevatorFloor + 1, numberOfFloors);
+        boolean below = anybodyPending(0, elevatorFloor);
+        if (elevatorFloor != 0 && !(anybodyPending(elevatorFloor, elevatorFloor + 1) || below || above)) {
+            return ElevatorDirection.DOWN;
+        } else if (elevatorFloor == 0) {
+            return ElevatorDirection.UP;
+        } else if (elevatorFloor > elevatorPreviousFloor) {
+            if (above) {
+                return ElevatorDirection.UP;
+            } else if (below) {
+                return ElevatorDirection.DOWN;
+            }
+        } else if (elevatorFloor < elevatorPreviousFloor) {
+            if (below) {
+                return ElevatorDirection.DOWN;
+            } else if (above) {
+                return ElevatorDirection.UP;
+            }
+        }
+        return null;
+    }
+
+    private void moveTo(int newFloor) {
+        if (doorStatus == CLOSED) {
+            movementStatus = MOVING;
+            elevatorPreviousFloor = elevatorFloor;
+            elevatorFloor = newFloor;
+        }
+    }
+
+    /**
+     * Checks if anyone is queuing on or riding to the floors in the given range
+     *
+     * @param fromFloor the first floor to check (inclusive)
+     * @param toFloor the last floor to check (exclusive)
+     * @return anybody pending or not
+     */
+    private boolean anybodyPending(int fromFloor, int toFloor) {
+        int waitingFloor = waitingFloors.nextSetBit(fromFloor);
+        if (waitingFloor >= 0 && waitingFloor < toFloor) {
+            return true;
+        }
+        int passengerDestination = passengerDestinations.nextSetBit(fromFloor);
+        return passengerDestination >= 0 && passengerDestination < toFloor;
+    }
+
+    /**
+     * Sends home every client who has been queuing for the complaint wait time. Clients join the list in time order so
+     * only those at the front can be due, anyone who has stopped queuing since is passed over.
+     */
+    private void checkClientComplaints() {
+        while (complaintCount > 0) {
+            int client = complaintClients[complaintHead];
+            int joined = complaintTimes[complaintHead];
+            if (currentTime - joined < Client.COMPLAINT_WAIT_TIME) {
+                break;
+            }
+            complaintHead = (complaintHead + 1) % complaintClients.length;
+            complaintCount--;
+            if (type[client] == CLIENT && queueEntryTime[client] == joined) {
+                numberComplaints++;
+                setDestination(client, 0);
+                resetQueueTimer(client);
+                flags[client] |= LEAVING;
+            }
+        }
+    }
+
+    /**
+     * Creates an occupant on the ground floor and signs them in
+     *
+     * @return the slot of the occupant
+     */
+    private int enterBuilding(byte occupantType, DeveloperCompany developerCompany, int leaveAfter) {
+        int occupant;
+        if (freeSlotCount > 0) {
+            occupant = freeSlots[--freeSlotCount];
+        } else {
+            if (slotsUsed == type.length) {
+                allocateArrays(type.length + (type.length >> 1));
+            }
+            occupant = slotsUsed++;
+        }
+        type[occupant] = occupantType;
+        company[occupant] = developerCompany == null ? 0 : (byte) developerCompany.ordinal();
+        flags[occupant] = SIGNED_IN;
+        timeEntered[occupant] = currentTime;
+        leaveAfterArrivalTime[occupant] = leaveAfter;
+        floor[occupant] = NONE;
+        destination[occupant] = NONE;
+        destinationArrivalTime[occupant] = 0;
+        queueEntryTime[occupant] = -1;
+        queueFloor[occupant] = NONE;
+        numberOfVisitors++;
+        addToFloor(occupant, 0);
+        return occupant;
+    }
+
+    /**
+     * Takes the occupant off their floor and signs them out, signing out more than once has no effect. The slot is
+     * given back once nothing refers to the occupant, a client who complained may still be in a queue.
+     */
+    private void leaveBuilding(int occupant, int currentFloor) {
+        removeFromFloor(occupant);
+        if ((flags[occupant] & SIGNED_IN) != 0) {
+            flags[occupant] &= ~SIGNED_IN;
+            numberOfVisitors--;
+            numberDepartedVisitors++;
+        }
+        if (queueFloor[occupant] == NONE) {
+            if (freeSlotCount == freeSlots.length) {
+                freeSlots = Arrays.copyOf(freeSlots, freeSlots.length * 2);
+            }
+            freeSlots[freeSlotCount++] = occupant;
+        }
+    }
+
+    private void setDestination(int occupant, int newDestination) {
+        int oldDestination = destination[occupant];
+        destination[occupant] = newDestination;
+        // The elevator counts its passengers by destination
+        if ((flags[occupant] & IN_ELEVATOR) != 0 && oldDestination != newDestination) {
+            removePassengerDestination(oldDestination);
+            addPassengerDestination(newDestination);
+        }
+    }
+
+    private void callElevator(int occupant, int currentFloor, boolean front) {
+        addToQueue(occupant, currentFloor, front);
+        queueEntryTime[occupant] = currentTime;
+        if (type[occupant] == CLIENT) {
+            addComplaintCheck(occupant, currentTime);
+        }
+    }
+
+    private void resetQueueTimer(int occupant) {
+        if (queueEntryTime[occupant] >= 0) {
+            waitStatistics.addWaitTime(currentTime - queueEntryTime[occupant]);
+        }
+        queueEntryTime[occupant] = -1;
+    }
+
+    private int sizeOf(int occupant) {
+        return type[occupant] == MAINTENANCE_CREW ? MaintenanceCrew.SIZE : 1;
+    }
+
+    private void addToFloor(int occupant, int newFloor) {
+        floor[occupant] = newFloor;
+        floorNext[occupant] = NONE;
+        floorPrevious[occupant] = floorTail[newFloor];
+        if (floorTail[newFloor] == NONE) {
+            floorHead[newFloor] = occupant;
+        } else {
+            floorNext[floorTail[newFloor]] = occupant;
+        }
+        floorTail[newFloor] = occupant;
+    }
+
+    /**
+     * Takes the occupant off the floor they are on, if they are on one
+     */
+    private void removeFromFloor(int occupant) {
+        int currentFloor = floor[occupant];
+        if (currentFloor == NONE) {
+            return;
+        }
+        int previous = floorPrevious[occupant];
+        int next = floorNext[occupant];
+        if (previous == NONE) floorHead[currentFloor] = next; else floorNext[previous] = next;
+        if (next == NONE) floorTail[currentFloor] = previous; else floorPrevious[next] = previous;
+        floor[occupant] = NONE;
+    }
+
+    private void addToQueue(int occupant, int queueFloorNumber, boolean front) {
+        queueFloor[occupant] = queueFloorNumber;
+        if (front) {
+            queuePrevious[occupant] = NONE;
+            queueNext[occupant] = queueHead[queueFloorNumber];
+            if (queueHead[queueFloorNumber] == NONE) {
+                queueTail[queueFloorNumber] = occupant;
+            } else {
+                queuePrevious[queueHead[queueFloorNumber]] = occupant;
+            }
+            queueHead[queueFloorNumber] = occupant;
+        } else {
+            queueNext[occupant] = NONE;
+            queuePrevious[occupant] = queueTail[queueFloorNumber];
+            if (queueTail[queueFloorNumber] == NONE) {
+                queueHead[queueFloorNumber] = occupant;
+            } else {
+                queueNext[queueTail[queueFloorNumber]] = occupant;
+            }
+            queueTail[queueFloorNumber] = occupant;
+        }
+        if (queueSize[queueFloorNumber]++ == 0) {
+            waitingFloors.set(queueFloorNumber);
+        }
+    }
+
+    private void removeFromQueue(int occupant) {
+        int queueFloorNumber = queueFloor[occupant];
+        int previous = queuePrevious[occupant];
+        int next = queueNext[occupant];
+        if (previous == NONE) queueHead[queueFloorNumber] = next; else queueNext[previous] = next;
+        if (next == NONE) queueTail[queueFloorNumber] = previous; else queuePrevious[next] = previous;
+        queueFloor[occupant] = NONE;
+        if (--queueSize[queueFloorNumber] == 0) {
+            waitingFloors.clear(queueFloorNumber);
+        }
+    }
+
+    private void enteredElevator(int occupant) {
+        passengers[passengerCount++] = occupant;
+        flags[occupant] |= IN_ELEVATOR;
+        usedCapacity += sizeOf(occupant);
+        addPassengerDestination(destination[occupant]);
+        if (type[occupant] == DEVELOPER) {
+            developersPerCompany[company[occupant]]++;
+            developerCount++;
+        }
+        changedSinceDoorUpdate = true;
+    }
+
+    /**
+     * Updates the elevator totals for a passenger getting out, the caller takes them out of the passenger list
+     */
+    private void leftElevator(int occupant) {
+        flags[occupant] &= ~IN_ELEVATOR;
+        usedCapacity -= sizeOf(occupant);
+        removePassengerDestination(destination[occupant]);
+        if (type[occupant] == DEVELOPER) {
+            developersPerCompany[company[occupant]]--;
+            developerCount--;
+        }
+        changedSinceDoorUpdate = true;
+    }
+
+    private void addPassengerDestination(int floorNumber) {
+        if (passengersPerFloor[floorNumber]++ == 0) {
+            passengerDestinations.set(floorNumber);
+        }
+    }
+
+    private void removePassengerDestination(int floorNumber) {
+        if (--passengersPerFloor[floorNumber] == 0) {
+            passengerDestinations.clear(floorNumber);
+        }
+    }
+
+    private void addComplaintCheck(int client, int joined) {
+        if (complaintCount == complaintClients.length) {
+            // Grow the ring, unwrapping it so the oldest entry is first
+            int[] clients = new int[complaintClients.length * 2];
+            int[] times = new int[complaintTimes.length * 2];
+            for (int i = 0; i < complaintCount; i++) {
+                int index = (complaintHead + i) % complaintClients.length;
+                clients[i] = complaintClients[index];
+                times[i] = complaintTimes[index];
+            }
+            complaintClients = clients;
+            complaintTimes = times;
+            complaintHead = 0;
+        }
+        int tail = (complaintHead + complaintCount) % complaintClients.length;
+        complaintClients[tail] = client;
+        complaintTimes[tail] = joined;
+        complaintCount++;
+    }
+
+    private void allocateArrays(int slots) {
+        if (type == null) {
+            type = new byte[slots];
+            company = new byte[slots];
+            flags = new byte[slots];
+            timeEntered = new int[slots];
+            leaveAfterArrivalTime = new int[slots];
+            floor = new int[slots];
+            destination = new int[slots];
+            destinationArrivalTime = new int[slots];
+            queueEntryTime = new int[slots];
+            queueFloor = new int[slots];
+            floorPrevious = new int[slots];
+            floorNext = new int[slots];
+            queuePrevious = new int[slots];
+            queueNext = new int[slots];
+            freeSlots = new int[16];
+        } else {
+            type = Arrays.copyOf(type, slots);
+            company = Arrays.copyOf(company, slots);
+            flags = Arrays.copyOf(flags, slots);
+            timeEntered = Arrays.copyOf(timeEntered, slots);
+            leaveAfterArrivalTime = Arrays.copyOf(leaveAfterArrivalTime, slots);
+            floor = Arrays.copyOf(floor, slots);
+            destination = Arrays.copyOf(destination, slots);
+            destinationArrivalTime = Arrays.copyOf(destinationArrivalTime, slots);
+            queueEntryTime = Arrays.copyOf(queueEntryTime, slots);
+            queueFloor = Arrays.copyOf(queueFloor, slots);
+            floorPrevious = Arrays.copyOf(floorPrevious, slots);
+            floorNext = Arrays.copyOf(floorNext, slots);
+            queuePrevious = Arrays.copyOf(queuePrevious, slots);
+            queueNext = Arrays.copyOf(queueNext, slots);
+        }
+    }
+
+    private static int[] filled(int length) {
+        int[] array = new int[length];
+        Arrays.fill(array, NONE);
+        return array;
+    }
+
+    public SimulationConfiguration getConfiguration() {
+        return configuration;
+    }
+
+    public int getCurrentTime() {
+        return currentTime;
+    }
+
+    public int getNumberComplaints() {
+        return numberComplaints;
+    }
+
+    /**
+     * Gets the number of visitors signed in to the building, the same as the number of visitors a Building holds
+     *
+     * @return the number of visitors
+     */
+    public int getNumberOfVisitors() {
+        return numberOfVisitors;
+    }
+
+    public long getNumberDepartedVisitors() {
+        return numberDepartedVisitors;
+    }
+
+}
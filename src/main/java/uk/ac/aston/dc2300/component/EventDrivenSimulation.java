@@ -0,0 +1,224 @@
+package uk.ac.aston.dc2300.component;
+
+import uk.ac.aston.dc2300.model.configuration.SimulationConfiguration;
+import uk.ac.aston.dc2300.model.entity.Building;
+import uk.ac.aston.dc2300.model.entity.BuildingOccupant;
+import uk.ac.aston.dc2300.model.entity.Client;
+import uk.ac.aston.dc2300.model.entity.Elevator;
+import uk.ac.aston.dc2300.model.entity.Floor;
+import uk.ac.aston.dc2300.utility.RandomUtils;
+
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * A Simulation engine which keeps a priority queue of timestamped events for the elevators and client complaints. The
+ * elevators, including their doors, are only stepped while somebody is waiting or riding, and each client complaint is
+ * checked once at its deadline instead of scanning every occupant on every tick. This saves the work of parked
+ * elevators and of the complaint scan, but it is not a fully event driven simulation.
+ *
+ * The occupants' decisions are still made by the same sweep over everybody on every floor as the tick engine, every
+ * 10 seconds. Every employee and developer at their destination draws from the shared random number stream on every
+ * tick, and clients and maintenance crews leave during the same sweep, joining queues in the order everybody is on
+ * their floors. Turning any of these into events of their own would change the order of the draws and queues, and
+ * so the outcome for a given seed. The work of each tick therefore still grows with the number of occupants, and this
+ * engine produces exactly the same statistics as the tick engine for the same configuration.
+ *
+ * A fork of this engine is also event driven, its events are worked out again from the copied building.
+ *
+ * @since 18/10/26
+ */
+public class EventDrivenSimulation extends Simulation {
+
+    private final PriorityQueue<SimulationEvent> events;
+
+    private long eventSequence = 0;
+
+    private boolean elevatorsAwake = false;
+
+    /**
+     * Creates an EventDrivenSimulation instance with the provided simulationConfiguration as properties
+     *
+     * @param simulationConfiguration configuration for simulation to run from
+     */
+    public EventDrivenSimulation(SimulationConfiguration simulationConfiguration) {
+        super(simulationConfiguration);
+        events = new PriorityQueue<>();
+        schedule(getCurrentTime(), SimulationEvent.Type.DECISIONS, null, -1);
+        wakeElevatorsIfRequested(getCurrentTime());
+    }
+
+    private EventDrivenSimulation(SimulationConfiguration simulationConfiguration, Building building,
+                                  RandomUtils randomUtils, int currentTime) {
+        super(simulationConfiguration, building, randomUtils, currentTime);
+        events = new PriorityQueue<>();
+        // Deadlines were scheduled when the clients joined their queues, before the next decisions were
+        for (Floor floor : building.getFloors()) {
+            scheduleComplaintDeadlines(floor.getOccupants());
+        }
+        for (Elevator elevator : building.getElevators()) {
+            scheduleComplaintDeadlines(elevator.getOccupants());
+        }
+        schedule(currentTime, SimulationEvent.Type.DECISIONS, null, -1);
+        wakeElevatorsIfRequested(currentTime);
+    }
+
+    @Override
+    public EventDrivenSimulation fork() {
+        return fork(getConfiguration());
+    }
+
+    /**
+     * Creates an independent copy of this simulation which is also event driven
+     *
+     * @param simulationConfiguration the configuration for the copy to carry on with
+     * @return the copy
+     * @throws IllegalArgumentException if the configuration describes a different building
+     */
+    @Override
+    public EventDrivenSimulation fork(SimulationConfiguration simulationConfiguration) {
+        Simulation copy = super.fork(simulationConfiguration);
+        return new EventDrivenSimulation(simulationConfiguration, copy.getBuilding(), copy.getRandomUtils(),
+                copy.getCurrentTime());
+    }
+
+    /**
+     * Processes every event that is due at or before the current simulation time
+     */
+    @Override
+    protected void processTick() {
+        int currentTime = getCurrentTime();
+        SimulationEvent event = events.peek();
+        while (event != null && event.getTime() <= currentTime) {
+            events.poll();
+            processEvent(event, currentTime);
+            event = events.peek();
+        }
+    }
+
+    /**
+     * Carries out the work for a single event and schedules any follow up events
+     *
+     * @param event the event to process
+     * @param currentTime the current simulation time
+     */
+    private void processEvent(SimulationEvent event, int currentTime) {
+        switch (event.getType()) {
+            case DECISIONS:
+                // Visits everybody on every floor, as the tick engine does, see the class comment
+                randomlyReassignDestinations();
+                checkForArrivingClients(currentTime);
+                checkForArrivingMaintenanceCrew(currentTime);
+                // Decisions are drawn from the random stream every tick
+                schedule(currentTime + 10, SimulationEvent.Type.DECISIONS, null, -1);
+                // Anyone who joined a queue needs an elevator this tick
+                wakeElevatorsIfRequested(currentTime);
+                break;
+            case ELEVATORS:
+                elevatorsAwake = false;
+                updateElevatorDoorStatuses();
+                unloadElevators();
+                loadElevators(currentTime);
+                moveElevators();
+                // Keep stepping the elevators until they are parked with nobody waiting
+                if (!allElevatorsParked()) {
+                    elevatorsAwake = true;
+                    schedule(currentTime + 10, SimulationEvent.Type.ELEVATORS, null, -1);
+                }
+                break;
+            case COMPLAINT_DEADLINE:
+                Client client = event.getClient();
+                // Only complain if the client is still in the same queue they were in when the deadline was set
+                if (client.getQueueEntryTime() == event.getQueueEntryTime()) {
+                    getBuilding().checkClientComplaint(client, currentTime);
+                }
+                break;
+        }
+    }
+
+    @Override
+    protected void reassignDestination(BuildingOccupant occupant) {
+        super.reassignDestination(occupant);
+        if (occupant instanceof Client) {
+            scheduleComplaintDeadlineIfQueued((Client) occupant);
+        }
+    }
+
+    @Override
+    protected Client checkForArrivingClients(int currentTime) {
+        Client arrivingClient = super.checkForArrivingClients(currentTime);
+        if (arrivingClient != null) {
+            scheduleComplaintDeadlineIfQueued(arrivingClient);
+        }
+        return arrivingClient;
+    }
+
+    /**
+     * Schedules the time at which a client will complain if they have just joined an elevator queue
+     *
+     * @param client the client to check
+     */
+    private void scheduleComplaintDeadlineIfQueued(Client client) {
+        int queueEntryTime = client.getQueueEntryTime();
+        if (queueEntryTime == getCurrentTime()) {
+            schedule(queueEntryTime + Client.COMPLAINT_WAIT_TIME, SimulationEvent.Type.COMPLAINT_DEADLINE, client,
+                    queueEntryTime);
+        }
+    }
+
+    /**
+     * Schedules the time at which each of the clients waiting in a queue will complain
+     *
+     * @param occupants the occupants to check
+     */
+    private void scheduleComplaintDeadlines(List<BuildingOccupant> occupants) {
+        for (BuildingOccupant occupant : occupants) {
+            int queueEntryTime = occupant.getQueueEntryTime();
+            if (occupant instanceof Client && queueEntryTime > -1) {
+                schedule(queueEntryTime + Client.COMPLAINT_WAIT_TIME, SimulationEvent.Type.COMPLAINT_DEADLINE,
+                        (Client) occupant, queueEntryTime);
+            }
+        }
+    }
+
+    /**
+     * Schedules the elevators to run at the given time if they are asleep and somebody is queuing for them
+     *
+     * @param time the time to wake the elevators at
+     */
+    private void wakeElevatorsIfRequested(int time) {
+        if (!elevatorsAwake && !allElevatorsParked()) {
+            elevatorsAwake = true;
+            schedule(time, SimulationEvent.Type.ELEVATORS, null, -1);
+        }
+    }
+
+    /**
+     * Checks whether every elevator in the building is parked with nothing to do
+     *
+     * @return all parked or not
+     */
+    private boolean allElevatorsParked() {
+        Building building = getBuilding();
+        if (building.isAnyoneWaiting()) {
+            return false;
+        }
+        for (Elevator elevator : building.getElevators()) {
+            if (!elevator.isParked()) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Adds a new event to the queue
+     *
+     * @param time the time the event is due
+     * @param type the type of event
+     * @param client the client the event concerns, if any
+     * @param queueEntryTime the queue entry time of the client, if any
+     */
+    private void schedule(int time, SimulationEvent.Type type, Client client, int queueEntryTime) {
+        events.add(new SimulationEvent(time, type, eventSequence++, client, queueEntryTime));
+    }
+
+}
@@ -0,0 +1,213 @@
+package uk.ac.aston.dc2300.component;
+
+import uk.ac.aston.dc2300.model.configuration.SimulationConfiguration;
+import uk.ac.aston.dc2300.model.entity.Building;
+import uk.ac.aston.dc2300.model.entity.BuildingOccupant;
+import uk.ac.aston.dc2300.model.entity.Floor;
+import uk.ac.aston.dc2300.utility.RandomUtils;
+import uk.ac.aston.dc2300.utility.logging.SimulationLog;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * A Simulation engine which makes the occupants' choices of new destination in parallel. On every tick the employees
+ * and developers on their destination floors choose at random on a fork/join pool, without changing the building, then
+ * the choices are carried out one at a time in the order everybody was on their floors, as the tick engine visits them,
+ * so queues are joined in the same order whichever thread made each choice. Occupants with nothing to do are skipped.
+ *
+ * Each of these occupants draws from their own stream of random numbers, keyed by the seed, the time and their place in
+ * the building when the tick began, rather than from the shared stream. The results are identical for a given seed
+ * however many threads the pool has, but they are not the same as the results of the tick engine. Everything else,
+ * including the first destinations and visitor arrivals, is drawn from the shared stream as before.
+ *
+ * @since 18/10/26
+ */
+public class ParallelSimulation extends Simulation {
+
+    // The number of occupants each parallel task makes the choices for
+    private static final int DECISIONS_PER_TASK = 4096;
+
+    private final ForkJoinPool pool;
+
+    // For everybody on a floor when the tick began, in the order they will be visited, whether they have anything to do
+    // and their new destination if they chose one, with the place the occupants of each floor start from
+    private boolean[] acting = new boolean[0];
+    private Floor[] decisions = new Floor[0];
+    private int[] floorStarts = new int[0];
+    private int numberOfOccupants;
+    private int nextDecision;
+
+    /**
+     * Creates a ParallelSimulation instance with the provided simulationConfiguration as properties
+     *
+     * @param simulationConfiguration configuration for simulation to run from
+     * @param pool the pool to make the occupants' choices on
+     */
+    public ParallelSimulation(SimulationConfiguration simulationConfiguration, ForkJoinPool pool) {
+        super(simulationConfiguration);
+        this.pool = pool;
+    }
+
+    private ParallelSimulation(SimulationConfiguration simulationConfiguration, Building building,
+                               RandomUtils randomUtils, int currentTime, ForkJoinPool pool) {
+        super(simulationConfiguration, building, randomUtils, currentTime);
+        this.pool = pool;
+    }
+
+    @Override
+    public ParallelSimulation fork() {
+        return fork(getConfiguration());
+    }
+
+    /**
+     * Creates an independent copy of this simulation which also makes choices in parallel, on the same pool
+     *
+     * @param simulationConfiguration the configuration for the copy to carry on with
+     * @return the copy
+     * @throws IllegalArgumentException if the configuration describes a different building
+     */
+    @Override
+    public ParallelSimulation fork(SimulationConfiguration simulationConfiguration) {
+        Simulation copy = super.fork(simulationConfiguration);
+        return new ParallelSimulation(simulationConfiguration, copy.getBuilding(), copy.getRandomUtils(),
+                copy.getCurrentTime(), pool);
+    }
+
+    /**
+     * Makes every random choice of new destination in parallel, then carries them out in the order everybody was on
+     * their floors
+     */
+    @Override
+    protected void randomlyReassignDestinations() {
+        countOccupants();
+        pool.invoke(new DecisionTask(0, numberOfOccupants));
+
+        if (isRecordingJournal()) {
+            // The journal records the place of everybody asked on their floor, so visit everybody as usual
+            nextDecision = 0;
+            super.randomlyReassignDestinations();
+            return;
+        }
+        List<Floor> floors = getBuilding().getFloors();
+        for (int i = 0; i < floors.size(); i++) {
+            List<BuildingOccupant> floorOccupants = floors.get(i).getOccupants();
+            // Anybody leaving the building is taken off the floor, moving everybody after them back a place
+            int numberLeft = 0;
+            for (int j = floorStarts[i]; j < floorStarts[i + 1]; j++) {
+                if (acting[j]) {
+                    int numberOnFloor = floorOccupants.size();
+                    carryOutDecision(floorOccupants.get(j - floorStarts[i] - numberLeft), j);
+                    numberLeft += numberOnFloor - floorOccupants.size();
+                }
+            }
+        }
+    }
+
+    /**
+     * Carries out the choice made for the occupant when the whole building is visited
+     *
+     * @param occupant the occupant to reassign
+     * @throws IllegalStateException if more occupants are visited than were on the floors when the tick began
+     */
+    @Override
+    protected void reassignDestination(BuildingOccupant occupant) {
+        if (nextDecision >= numberOfOccupants) {
+            throw new IllegalStateException("More occupants were visited than were on the floors");
+        }
+        carryOutDecision(occupant, nextDecision++);
+    }
+
+    /**
+     * Works out where the occupants of each floor start in the arrays and makes room for everybody
+     */
+    private void countOccupants() {
+        List<Floor> floors = getBuilding().getFloors();
+        if (floorStarts.length != floors.size() + 1) {
+            floorStarts = new int[floors.size() + 1];
+        }
+        int total = 0;
+        for (int i = 0; i < floors.size(); i++) {
+            floorStarts[i] = total;
+            total += floors.get(i).getOccupants().size();
+        }
+        floorStarts[floors.size()] = total;
+        if (acting.length < total) {
+            int length = Math.max(total, acting.length + (acting.length >> 1));
+            acting = new boolean[length];
+            decisions = new Floor[length];
+        }
+        numberOfOccupants = total;
+    }
+
+    /**
+     * Carries out the choice made for the occupant, occupants who don't choose at random are asked to choose now
+     *
+     * @param occupant the occupant
+     * @param index the place of the occupant in the arrays
+     */
+    private void carryOutDecision(BuildingOccupant occupant, int index) {
+        if (!occupant.choosesRandomDestination()) {
+            super.reassignDestination(occupant);
+        } else if (acting[index]) {
+            Floor currentFloor = getBuilding().getFloorContainingOccupant(occupant);
+            Floor destination = decisions[index];
+            occupant.setDestination(destination);
+            SimulationLog.debug("Occupant on floor %s set destination floor %s", currentFloor.getFloorNumber(), destination.getFloorNumber());
+            occupant.callElevator(currentFloor, getCurrentTime());
+        }
+    }
+
+    /**
+     * Makes the choices for a range of occupants, splitting the range between more tasks while it is large
+     */
+    private class DecisionTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int start;
+        private final int end;
+
+        private DecisionTask(int start, int end) {
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected void compute() {
+            if (end - start > DECISIONS_PER_TASK) {
+                int middle = (start + end) >>> 1;
+                invokeAll(new DecisionTask(start, middle), new DecisionTask(middle, end));
+                return;
+            }
+            Building building = getBuilding();
+            List<Floor> floors = building.getFloors();
+            SimulationConfiguration configuration = getConfiguration();
+            double probability = configuration.getEmpFloorChangeProbabilityValue();
+            long seed = configuration.getSeed();
+            int currentTime = getCurrentTime();
+            int floorNumber = 0;
+            for (int i = start; i < end; i++) {
+                // Move on to the floor the occupant is on, skipping any floors with nobody on them
+                while (floorStarts[floorNumber + 1] <= i) {
+                    floorNumber++;
+                }
+                Floor currentFloor = floors.get(floorNumber);
+                BuildingOccupant occupant = currentFloor.getOccupants().get(i - floorStarts[floorNumber]);
+                boolean atDestination = currentFloor.equals(occupant.getDestination());
+                if (occupant.choosesRandomDestination()) {
+                    Floor destination = atDestination ? occupant.chooseRandomDestination(building, currentFloor,
+                            RandomUtils.forKey(seed, currentTime, i), probability) : null;
+                    if (destination != null) {
+                        decisions[i] = destination;
+                    }
+                    acting[i] = destination != null;
+                } else {
+                    acting[i] = atDestination;
+                }
+            }
+        }
+    }
+
+}
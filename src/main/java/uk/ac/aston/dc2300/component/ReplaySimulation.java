@@ -0,0 +1,182 @@
+package uk.ac.aston.dc2300.component;
+
+import uk.ac.aston.dc2300.model.configuration.SimulationConfiguration;
+import uk.ac.aston.dc2300.model.entity.BuildingOccupant;
+import uk.ac.aston.dc2300.model.entity.Client;
+import uk.ac.aston.dc2300.model.entity.Floor;
+import uk.ac.aston.dc2300.model.entity.MaintenanceCrew;
+import uk.ac.aston.dc2300.utility.checkpoint.CheckpointReader;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * A Simulation engine which replays a run recorded by a SimulationJournal. Rather than drawing random numbers and
+ * asking every occupant on every tick whether they want to move, the decisions recorded in the journal are carried out
+ * directly, only the elevators and complaints are worked out as normal. The replay goes through exactly the same
+ * states as the recorded run and checks the number of complaints at the end of every tick against the journal.
+ *
+ * The starting building is set up from the configuration in the journal in the same way as any other simulation.
+ *
+ * A replay can't be forked or saved to a checkpoint, the copy would carry on without the rest of the journal.
+ *
+ * @since 18/10/26
+ */
+public class ReplaySimulation extends Simulation implements Closeable {
+
+    private final CheckpointReader reader;
+
+    private ReplaySimulation(SimulationConfiguration simulationConfiguration, CheckpointReader reader) {
+        super(simulationConfiguration);
+        this.reader = reader;
+    }
+
+    /**
+     * Opens a journal to replay
+     *
+     * @param file the journal file
+     * @return the simulation ready to replay from the start
+     * @throws IOException if the file isn't a journal this version can read or there is an error reading
+     */
+    public static ReplaySimulation open(Path file) throws IOException {
+        CheckpointReader reader = new CheckpointReader(FileChannel.open(file, StandardOpenOption.READ));
+        try {
+            if (reader.readInt() != SimulationJournal.MAGIC) {
+                throw new IOException(file + " is not a simulation journal");
+            }
+            int version = reader.readInt();
+            if (version != SimulationJournal.VERSION) {
+                throw new IOException("Unsupported journal version " + version + ", expected "
+                        + SimulationJournal.VERSION);
+            }
+            return new ReplaySimulation(SimulationCheckpoint.readConfiguration(reader), reader);
+        } catch (IOException | RuntimeException e) {
+            reader.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Replays can't be forked as the fork would have no journal to carry on from
+     *
+     * @param simulationConfiguration the configuration for the copy to carry on with
+     * @return never returns
+     * @throws IllegalStateException always
+     */
+    @Override
+    public Simulation fork(SimulationConfiguration simulationConfiguration) {
+        throw new IllegalStateException("A replay can't be forked");
+    }
+
+    /**
+     * Carries out the decisions recorded for the current time then runs the elevators and complaints
+     *
+     * @throws UncheckedIOException if the journal can't be read
+     * @throws IllegalStateException if the replay no longer matches the journal
+     */
+    @Override
+    protected void processTick() {
+        int currentTime = getCurrentTime();
+        int numberComplaints;
+        try {
+            numberComplaints = replayDecisions(currentTime);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read journal at time " + currentTime, e);
+        }
+        updateElevatorDoorStatuses();
+        unloadElevators();
+        loadElevators(currentTime);
+        moveElevators();
+
+        if (getBuilding().getClientComplaints(currentTime) != numberComplaints) {
+            throw new IllegalStateException("Replay no longer matches the journal at time " + currentTime);
+        }
+    }
+
+    /**
+     * Carries out each decision in the journal up to the end of the current tick
+     *
+     * @param currentTime the current simulation time
+     * @return the number of complaints the journal has at the end of the tick
+     * @throws IOException encountered error
+     */
+    private int replayDecisions(int currentTime) throws IOException {
+        List<Floor> floors = getBuilding().getFloors();
+        Floor groundFloor = floors.get(0);
+        while (true) {
+            int type = reader.readByte();
+            switch (type) {
+                case SimulationJournal.DESTINATION_CHOSEN: {
+                    Floor floor = floorAt(floors, reader.readInt());
+                    BuildingOccupant occupant = occupantAt(floor, reader.readInt());
+                    occupant.setDestination(floorAt(floors, reader.readInt()));
+                    if (reader.readBoolean()) {
+                        occupant.callElevator(floor, currentTime);
+                    }
+                    break;
+                }
+                case SimulationJournal.OCCUPANT_LEFT: {
+                    Floor floor = floorAt(floors, reader.readInt());
+                    BuildingOccupant occupant = occupantAt(floor, reader.readInt());
+                    occupant.setDestination(floorAt(floors, reader.readInt()));
+                    occupant.leaveBuilding(floor, currentTime);
+                    break;
+                }
+                case SimulationJournal.CLIENT_ARRIVED:
+                    arrive(new Client(currentTime, reader.readInt()), groundFloor, currentTime);
+                    break;
+                case SimulationJournal.MAINTENANCE_CREW_ARRIVED:
+                    arrive(new MaintenanceCrew(currentTime, reader.readInt()), groundFloor, currentTime);
+                    break;
+                case SimulationJournal.TICK_ENDED:
+                    int time = reader.readInt();
+                    if (time != currentTime) {
+                        throw new IllegalStateException("Journal is at time " + time + " but the replay is at time "
+                                + currentTime);
+                    }
+                    return reader.readInt();
+                default:
+                    throw new IOException("Journal is corrupt, unknown record type " + type);
+            }
+        }
+    }
+
+    /**
+     * Puts an arriving occupant on the ground floor with the destination they chose
+     */
+    private void arrive(BuildingOccupant occupant, Floor groundFloor, int currentTime) throws IOException {
+        occupant.enterBuilding(getBuilding());
+        groundFloor.addOccupant(occupant);
+        occupant.setDestination(floorAt(getBuilding().getFloors(), reader.readInt()));
+        if (reader.readBoolean()) {
+            occupant.callElevator(groundFloor, currentTime);
+        }
+    }
+
+    private static Floor floorAt(List<Floor> floors, int floorNumber) {
+        if (floorNumber < 0 || floorNumber >= floors.size()) {
+            throw new IllegalStateException("Journal refers to floor " + floorNumber + " which doesn't exist");
+        }
+        return floors.get(floorNumber);
+    }
+
+    private static BuildingOccupant occupantAt(Floor floor, int index) {
+        List<BuildingOccupant> occupants = floor.getOccupants();
+        if (index < 0 || index >= occupants.size()) {
+            throw new IllegalStateException("Journal refers to occupant " + index + " on floor "
+                    + floor.getFloorNumber() + " who isn't there");
+        }
+        return occupants.get(index);
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+}
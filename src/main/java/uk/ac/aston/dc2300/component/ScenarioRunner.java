@@ -0,0 +1,68 @@
+package uk.ac.aston.dc2300.component;
+
+import uk.ac.aston.dc2300.model.configuration.SimulationConfiguration;
+import uk.ac.aston.dc2300.model.status.SimulationStatistics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Runs what-if scenarios which all carry on from the same point of a simulation. The simulation is only run up to that
+ * point once, each scenario is then a fork of it with its own configuration and the forks are run to the end on a work
+ * stealing pool.
+ *
+ * The simulation log is shared by every simulation so it should be switched off before running scenarios.
+ *
+ * @since 18/10/26
+ */
+public class ScenarioRunner {
+
+    private final Simulation simulation;
+
+    private final int parallelism;
+
+    /**
+     * @param simulation the simulation every scenario carries on from, it isn't changed by running the scenarios
+     * @param parallelism the number of scenarios to run at the same time
+     */
+    public ScenarioRunner(Simulation simulation, int parallelism) {
+        this.simulation = simulation;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Forks the simulation for each scenario and runs every fork to the end
+     *
+     * @param scenarios the configuration of each scenario, only the probabilities, simulation time and seed can differ
+     *                  from the simulation being forked
+     * @return the final statistics of each scenario in the order given
+     * @throws InterruptedException if interrupted while waiting for the scenarios
+     * @throws IllegalArgumentException if a scenario describes a different building
+     */
+    public List<SimulationStatistics> run(List<SimulationConfiguration> scenarios) throws InterruptedException {
+        // Fork on this thread so the simulation is only ever read by one thread
+        List<Callable<SimulationStatistics>> forks = new ArrayList<>(scenarios.size());
+        for (SimulationConfiguration scenario : scenarios) {
+            Simulation fork = simulation.fork(scenario);
+            forks.add(fork::runToEnd);
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            List<SimulationStatistics> results = new ArrayList<>(scenarios.size());
+            for (Future<SimulationStatistics> result : pool.invokeAll(forks)) {
+                results.add(result.get());
+            }
+            return results;
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Simulation scenario failed", e.getCause());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+}
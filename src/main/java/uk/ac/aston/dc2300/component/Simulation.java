@@ -6,8 +6,8 @@ import uk.ac.aston.dc2300.model.status.DeveloperCompany;
 import uk.ac.aston.dc2300.model.status.SimulationStatistics;
 import uk.ac.aston.dc2300.model.status.SimulationStatus;
 import uk.ac.aston.dc2300.utility.RandomUtils;
+import uk.ac.aston.dc2300.utility.logging.SimulationLog;
 
-import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -20,11 +20,18 @@ import java.util.List;
  */
 public class Simulation {
 
-    private final DeveloperCompany[] COMPANIES = new DeveloperCompany[]{DeveloperCompany.GOGGLES, DeveloperCompany.MUGTOME};
+    // The companies developers are assigned to in turn, shared with the compact engine
+    static final DeveloperCompany[] COMPANIES = new DeveloperCompany[]{DeveloperCompany.GOGGLES, DeveloperCompany.MUGTOME};
 
-    private final BigDecimal MAINTENANCE_CREW_ARRIVAL_PROBABILITY = BigDecimal.valueOf(0.005);
-    private final BigDecimal FLOOR_CHANGE_PROBABILITY;
-    private final BigDecimal CLIENT_ARRIVAL_PROBABILITY;
+    /**
+     * The probability each tick that a maintenance crew will arrive at the building
+     */
+    public static final double MAINTENANCE_CREW_ARRIVAL_PROBABILITY = 0.005;
+
+    private final double FLOOR_CHANGE_PROBABILITY;
+    private final double CLIENT_ARRIVAL_PROBABILITY;
+
+    private final SimulationConfiguration CONFIGURATION;
 
     private final Building BUILDING;
 
@@ -32,16 +39,34 @@ public class Simulation {
 
     private final int SIMULATION_RUN_TIME;
 
+    private final SimulationStatus STATUS;
+
     private int currentTime = 0;
 
+    // Records the decisions made on each tick, only while a journal is being recorded
+    private SimulationJournal journal;
+
     /**
      * Creates a Simulation instance with the provided simulationConfiguration as properties
      *
      * @param simulationConfiguration configuration for simulation to run from
      */
     public Simulation(SimulationConfiguration simulationConfiguration) {
+        this(simulationConfiguration, false);
+    }
+
+    /**
+     * Creates a Simulation instance with the provided simulationConfiguration as properties
+     *
+     * @param simulationConfiguration configuration for simulation to run from
+     * @param keepingWaitHistory whether every occupant should keep all of their wait times, only the statistics of
+     *                           the whole simulation are kept otherwise
+     */
+    public Simulation(SimulationConfiguration simulationConfiguration, boolean keepingWaitHistory) {
+
+        SimulationLog.info("Creating simulation");
 
-        System.out.println("Creating simulation");
+        CONFIGURATION = simulationConfiguration;
 
         // Create floor(s)
         List<Floor> floors = new ArrayList<>();
@@ -56,20 +81,23 @@ public class Simulation {
         elevators.add(elevator);
 
         // Set floor change probability
-        FLOOR_CHANGE_PROBABILITY = simulationConfiguration.getEmpFloorChangeProbability();
+        FLOOR_CHANGE_PROBABILITY = simulationConfiguration.getEmpFloorChangeProbabilityValue();
 
         // Set client arrival probability
-        CLIENT_ARRIVAL_PROBABILITY = simulationConfiguration.getClientArrivalProbability();
+        CLIENT_ARRIVAL_PROBABILITY = simulationConfiguration.getClientArrivalProbabilityValue();
 
         // Set random seed
         RANDOM_UTILS = new RandomUtils(simulationConfiguration.getSeed());
 
         // Create and set Building
-        BUILDING = new Building(elevators, floors);
+        BUILDING = new Building(elevators, floors, keepingWaitHistory);
 
         // Set time to run simulation for
         SIMULATION_RUN_TIME = simulationConfiguration.getSimulationTime();
 
+        // Create the status which is updated on every tick
+        STATUS = new SimulationStatus(BUILDING, currentTime, true);
+
         // Create employee(s) and put in ground floor
         for (int i = 0; i < simulationConfiguration.getNumEmployees(); i++) {
             Employee employee = new Employee(currentTime);
@@ -89,16 +117,73 @@ public class Simulation {
 
     }
 
+    /**
+     * Creates a Simulation instance which carries on from a building part way through a simulation, such as one read
+     * back from a checkpoint
+     *
+     * @param simulationConfiguration configuration the simulation was started from
+     * @param building the building with everybody in it
+     * @param randomUtils the random number generator in the state it was left in
+     * @param currentTime the time of the next tick
+     */
+    protected Simulation(SimulationConfiguration simulationConfiguration, Building building, RandomUtils randomUtils,
+                         int currentTime) {
+        SimulationLog.info("Resuming simulation at time %s", currentTime);
+
+        CONFIGURATION = simulationConfiguration;
+        FLOOR_CHANGE_PROBABILITY = simulationConfiguration.getEmpFloorChangeProbabilityValue();
+        CLIENT_ARRIVAL_PROBABILITY = simulationConfiguration.getClientArrivalProbabilityValue();
+        SIMULATION_RUN_TIME = simulationConfiguration.getSimulationTime();
+        RANDOM_UTILS = randomUtils;
+        BUILDING = building;
+        this.currentTime = currentTime;
+        STATUS = new SimulationStatus(BUILDING, currentTime, true);
+    }
+
+    /**
+     * Creates an independent copy of this simulation at its current time which carries on exactly as this one would
+     *
+     * @return the copy
+     */
+    public Simulation fork() {
+        return fork(CONFIGURATION);
+    }
+
+    /**
+     * Creates an independent copy of this simulation at its current time which carries on with a different
+     * configuration. Only the probabilities, the simulation time and the seed can be changed as everything else
+     * describes how the building was set up. With the same seed the copy carries on with the same random numbers this
+     * simulation would have used, a different seed starts a new sequence of random numbers from now on.
+     *
+     * The copy shares nothing with this simulation so both can be run at the same time on different threads.
+     *
+     * @param simulationConfiguration the configuration for the copy to carry on with
+     * @return the copy
+     * @throws IllegalArgumentException if the configuration describes a different building
+     */
+    public Simulation fork(SimulationConfiguration simulationConfiguration) {
+        if (simulationConfiguration.getNumEmployees() != CONFIGURATION.getNumEmployees()
+                || simulationConfiguration.getNumDevelopers() != CONFIGURATION.getNumDevelopers()
+                || simulationConfiguration.getNumFloors() != CONFIGURATION.getNumFloors()
+                || simulationConfiguration.getElevatorCapacity() != CONFIGURATION.getElevatorCapacity()) {
+            throw new IllegalArgumentException("A fork can only change the probabilities, simulation time and seed");
+        }
+        RandomUtils randomUtils = simulationConfiguration.getSeed() == CONFIGURATION.getSeed()
+                ? RandomUtils.fromState(RANDOM_UTILS.getState())
+                : new RandomUtils(simulationConfiguration.getSeed());
+        return new Simulation(simulationConfiguration, BuildingCheckpoint.copy(BUILDING), randomUtils, currentTime);
+    }
+
     /**
      * Sets the initial destinations of the building occupants and makes them call the elevator
      */
     private void initialise() {
-        System.out.println("Setting initial occupant destinations...");
+        SimulationLog.info("Setting initial occupant destinations...");
         // Get all the occupants on the ground floor
         Floor groundFloor = BUILDING.getFloors().get(0);
         for (BuildingOccupant buildingOccupant : groundFloor.getOccupants()) {
             // Give all occupants new destination floors
-            buildingOccupant.setNewDestination(BUILDING, RANDOM_UTILS, BigDecimal.ONE, currentTime);
+            buildingOccupant.setNewDestination(BUILDING, RANDOM_UTILS, 1, currentTime);
         }
     }
 
@@ -108,25 +193,46 @@ public class Simulation {
      * @return a SimulationStatistics object containing information about the simulation
      */
     public SimulationStatistics getStatistics() {
-        SimulationStatistics statistics = new SimulationStatistics(BUILDING.getNumberComplaints());
-      
-        // Add all wait times
-        List<BuildingOccupant> occupants  = BUILDING.getAllVisitors();
-        for(BuildingOccupant occupant : occupants) {
-            statistics.addWaitTimes(occupant.getWaitTimes());
-        }
+        return BUILDING.getStatistics();
+    }
 
-        return statistics;
+    /**
+     * Ticks the simulation until it has finished and returns the final statistics
+     *
+     * @return the statistics at the end of the simulation
+     */
+    public SimulationStatistics runToEnd() {
+        while (tick().isSimulationRunning()) {
+            // Keep ticking until the simulation time has run out
+        }
+        return getStatistics();
     }
 
     /**
-     * Progresses the simulation through one logic time unit (10 seconds) and returns the new status
+     * Progresses the simulation through one logic time unit (10 seconds) and returns the new status. The same status
+     * object is returned by every tick and updated in place.
      *
      * @return the new status of the simulation
      */
     public SimulationStatus tick() {
-        System.out.println(String.format("Time: %s", currentTime));
+        SimulationLog.debug("Time: %s", currentTime);
+
+        processTick();
+        if (journal != null) {
+            journal.tickEnded(currentTime, BUILDING.getNumberComplaints());
+        }
+
+        STATUS.update(currentTime, currentTime < SIMULATION_RUN_TIME);
+        currentTime += 10;
 
+        return STATUS;
+    }
+
+    /**
+     * Runs every phase of the simulation logic for the current time. Alternative engines override this to only run
+     * the work that is due.
+     */
+    protected void processTick() {
         randomlyReassignDestinations();
         checkForArrivingClients(currentTime);
         checkForArrivingMaintenanceCrew(currentTime);
@@ -136,11 +242,6 @@ public class Simulation {
         moveElevators();
 
         BUILDING.getClientComplaints(currentTime);
-
-        SimulationStatus currentStatus = new SimulationStatus(BUILDING, currentTime, currentTime < SIMULATION_RUN_TIME);
-        currentTime += 10;
-
-        return currentStatus;
     }
 
     /**
@@ -148,20 +249,27 @@ public class Simulation {
      * sets their destination
      *
      * @param currentTime the current simulation time
+     * @return the client that arrived or null if nobody arrived
      */
-    private void checkForArrivingClients(int currentTime) {
+    protected Client checkForArrivingClients(int currentTime) {
         // Only execute following code if random is in range of probability
-        if (RANDOM_UTILS.getBigDecimal().compareTo(CLIENT_ARRIVAL_PROBABILITY) <= 0) {
+        if (RANDOM_UTILS.getDouble() <= CLIENT_ARRIVAL_PROBABILITY) {
             // Generate random leaving time between 10 and 30 minutes, change to seconds.
-            int leaveAfterArrivalTime = RANDOM_UTILS.getIntInRange(10, 30) * 60;
+            int leaveAfterArrivalTime = RANDOM_UTILS.getIntInRange(Client.MINIMUM_STAY_MINUTES,
+                    Client.MAXIMUM_STAY_MINUTES) * 60;
             Client arrivingClient = new Client(currentTime, leaveAfterArrivalTime);
             // Put client into building (ground floor)
             arrivingClient.enterBuilding(BUILDING);
             Floor groundFloor = BUILDING.getFloors().get(0);
             groundFloor.addOccupant(arrivingClient);
             // Assign initial destination floor
-            arrivingClient.setNewDestination(BUILDING, RANDOM_UTILS, null, currentTime);
+            arrivingClient.setNewDestination(BUILDING, RANDOM_UTILS, 1, currentTime);
+            if (journal != null) {
+                journal.clientArrived(arrivingClient, currentTime);
+            }
+            return arrivingClient;
         }
+        return null;
     }
 
     /**
@@ -169,71 +277,170 @@ public class Simulation {
      * floor and sets their destination
      *
      * @param currentTime the current simulation time
+     * @return the maintenance crew that arrived or null if nobody arrived
      */
-    private void checkForArrivingMaintenanceCrew(int currentTime) {
+    protected MaintenanceCrew checkForArrivingMaintenanceCrew(int currentTime) {
         // Only execute following code if random is in range of probability
-        if (RANDOM_UTILS.getBigDecimal().compareTo(MAINTENANCE_CREW_ARRIVAL_PROBABILITY) <= 0) {
+        if (RANDOM_UTILS.getDouble() <= MAINTENANCE_CREW_ARRIVAL_PROBABILITY) {
             // Generate random leaving time between 20 and 40 minutes, change to seconds.
-            int leaveAfterArrivalTime = RANDOM_UTILS.getIntInRange(20, 40) * 60;
+            int leaveAfterArrivalTime = RANDOM_UTILS.getIntInRange(MaintenanceCrew.MINIMUM_STAY_MINUTES,
+                    MaintenanceCrew.MAXIMUM_STAY_MINUTES) * 60;
             MaintenanceCrew arrivingMaintenanceCrew = new MaintenanceCrew(currentTime, leaveAfterArrivalTime);
             arrivingMaintenanceCrew.enterBuilding(BUILDING);
             // Put crew into building (ground floor)
             Floor groundFloor = BUILDING.getFloors().get(0);
             groundFloor.addOccupant(arrivingMaintenanceCrew);
             // Assign initial destination floor
-            arrivingMaintenanceCrew.setNewDestination(BUILDING, RANDOM_UTILS, null, currentTime);
+            arrivingMaintenanceCrew.setNewDestination(BUILDING, RANDOM_UTILS, 1, currentTime);
+            if (journal != null) {
+                journal.maintenanceCrewArrived(arrivingMaintenanceCrew, currentTime);
+            }
+            return arrivingMaintenanceCrew;
         }
+        return null;
     }
 
     /**
      * Will call all occupants that are on their destination floors to set new destinations providing each of their
      * individual setNewDestination method implementation requirements are met
      */
-    private void randomlyReassignDestinations() {
-        for (BuildingOccupant occupant : BUILDING.getAllOccupantsOnFloors()) {
-            Floor currentFloor = BUILDING.getFloorContainingOccupant(occupant);
-            // If occupant current floor is also their destination then set new destination
-            if (currentFloor.equals(occupant.getDestination())) {
-                occupant.setNewDestination(BUILDING, RANDOM_UTILS, FLOOR_CHANGE_PROBABILITY, currentTime);
+    protected void randomlyReassignDestinations() {
+        List<Floor> floors = BUILDING.getFloors();
+        for (int i = 0; i < floors.size(); i++) {
+            // Walk each floor in place, the only change an occupant can make to the floor is leaving the building so
+            // only move on if they are still there
+            Floor floor = floors.get(i);
+            List<BuildingOccupant> occupants = floor.getOccupants();
+            int index = 0;
+            while (index < occupants.size()) {
+                BuildingOccupant occupant = occupants.get(index);
+                Floor destination = occupant.getDestination();
+                int queueSize = floor.getElevatorQueue().size();
+                reassignDestination(occupant);
+                boolean stillOnFloor = index < occupants.size() && occupants.get(index) == occupant;
+                if (journal != null) {
+                    recordDecision(floor, index, occupant, stillOnFloor, destination, queueSize);
+                }
+                if (stillOnFloor) {
+                    index++;
+                }
+            }
+        }
+    }
+
+    /**
+     * Records the outcome of an occupant being asked to set a new destination, if anything changed
+     *
+     * @param floor the floor the occupant was on
+     * @param index the place the occupant had on the floor
+     * @param occupant the occupant
+     * @param stillOnFloor whether the occupant is still on the floor, the only way off is to leave the building
+     * @param previousDestination the destination of the occupant before being asked
+     * @param previousQueueSize the size of the floor queue before the occupant was asked
+     */
+    private void recordDecision(Floor floor, int index, BuildingOccupant occupant, boolean stillOnFloor,
+                                Floor previousDestination, int previousQueueSize) {
+        if (!stillOnFloor) {
+            journal.occupantLeft(floor.getFloorNumber(), index, occupant.getDestination());
+        } else {
+            boolean calledElevator = floor.getElevatorQueue().size() > previousQueueSize;
+            if (calledElevator || occupant.getDestination() != previousDestination) {
+                journal.destinationChosen(floor.getFloorNumber(), index, occupant.getDestination(), calledElevator);
             }
         }
     }
 
+    /**
+     * Calls the occupant to set a new destination if they are currently on their destination floor
+     *
+     * @param occupant the occupant to reassign
+     */
+    protected void reassignDestination(BuildingOccupant occupant) {
+        Floor currentFloor = BUILDING.getFloorContainingOccupant(occupant);
+        // If occupant current floor is also their destination then set new destination
+        if (currentFloor.equals(occupant.getDestination())) {
+            occupant.setNewDestination(BUILDING, RANDOM_UTILS, FLOOR_CHANGE_PROBABILITY, currentTime);
+        }
+    }
+
     /**
      * Commands all elevators to look at their current occupants and those waiting outside and will open/close the doors
      * where needed
      */
-    private void updateElevatorDoorStatuses() {
-        for (Elevator elevator : BUILDING.getElevators()) {
-            elevator.updateDoorStatus(BUILDING.getFloors());
+    protected void updateElevatorDoorStatuses() {
+        List<Elevator> elevators = BUILDING.getElevators();
+        for (int i = 0; i < elevators.size(); i++) {
+            elevators.get(i).updateDoorStatus(BUILDING.getFloors());
         }
     }
 
     /**
      * Commands all elevators to unload any passengers that want to get out onto the current floor
      */
-    private void unloadElevators() {
-        for (Elevator elevator : BUILDING.getElevators()) {
-            elevator.unloadPassengers(currentTime);
+    protected void unloadElevators() {
+        List<Elevator> elevators = BUILDING.getElevators();
+        for (int i = 0; i < elevators.size(); i++) {
+            elevators.get(i).unloadPassengers(currentTime);
         }
     }
 
     /**
      * Commands all elevators to load any passengers that want to get into the elevator
      */
-    private void loadElevators(int currentTime) {
-        for (Elevator elevator : BUILDING.getElevators()) {
-            elevator.loadPassengers(BUILDING.getFloors(), currentTime);
+    protected void loadElevators(int currentTime) {
+        List<Elevator> elevators = BUILDING.getElevators();
+        for (int i = 0; i < elevators.size(); i++) {
+            elevators.get(i).loadPassengers(BUILDING.getFloors(), currentTime);
         }
     }
 
     /**
      * Commands all elevators to move to their next positions
      */
-    private void moveElevators() {
-        for (Elevator elevator : BUILDING.getElevators()) {
-            elevator.moveIfRequested(BUILDING.getFloors());
+    protected void moveElevators() {
+        List<Elevator> elevators = BUILDING.getElevators();
+        for (int i = 0; i < elevators.size(); i++) {
+            elevators.get(i).moveIfRequested(BUILDING.getFloors());
         }
     }
 
+    /**
+     * Sets the journal recording the decisions made on each tick
+     *
+     * @param journal the journal or null to stop recording
+     */
+    void setJournal(SimulationJournal journal) {
+        this.journal = journal;
+    }
+
+    /**
+     * Checks whether a journal of the decisions made on each tick is being recorded
+     *
+     * @return recording or not
+     */
+    boolean isRecordingJournal() {
+        return journal != null;
+    }
+
+    public SimulationConfiguration getConfiguration() {
+        return CONFIGURATION;
+    }
+
+    /**
+     * Gets the random number generator, the next number it gives is the next one the simulation will use
+     *
+     * @return the random utils
+     */
+    protected RandomUtils getRandomUtils() {
+        return RANDOM_UTILS;
+    }
+
+    public Building getBuilding() {
+        return BUILDING;
+    }
+
+    public int getCurrentTime() {
+        return currentTime;
+    }
+
 }
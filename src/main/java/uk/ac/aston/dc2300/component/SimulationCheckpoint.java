@@ -0,0 +1,135 @@
+package uk.ac.aston.dc2300.component;
+
+import uk.ac.aston.dc2300.model.configuration.SimulationConfiguration;
+import uk.ac.aston.dc2300.model.entity.Building;
+import uk.ac.aston.dc2300.model.entity.BuildingCheckpoint;
+import uk.ac.aston.dc2300.utility.RandomUtils;
+import uk.ac.aston.dc2300.utility.checkpoint.CheckpointReader;
+import uk.ac.aston.dc2300.utility.checkpoint.CheckpointWriter;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Saves a running simulation to a binary file and restores it, so a simulation can be stopped part way through and
+ * carried on later or somewhere else. The checkpoint holds the configuration, the current time, the state of the random
+ * number generator and the whole building, so a restored simulation goes on to give exactly the same results as one
+ * that was never stopped.
+ *
+ * The file starts with a marker and a format version, a checkpoint written in a different version is refused rather
+ * than read wrongly. A simulation is always restored as a tick engine Simulation, whichever engine saved it.
+ *
+ * @since 18/10/26
+ */
+public final class SimulationCheckpoint {
+
+    // "ELEV" in ASCII
+    private static final int MAGIC = 0x454C4556;
+
+    public static final int VERSION = 1;
+
+    private SimulationCheckpoint() {
+    }
+
+    /**
+     * Saves the simulation to a file, replacing the file if it exists. The simulation should be saved between ticks.
+     *
+     * The checkpoint is written to a temporary file next to the file and only moved into its place once it is complete,
+     * so a save which fails part way through leaves any earlier checkpoint as it was.
+     *
+     * @param simulation the simulation to save
+     * @param file the file to write to
+     * @throws IOException encountered error
+     * @throws IllegalStateException if the simulation is a replay, which only the journal can carry on
+     */
+    public static void save(Simulation simulation, Path file) throws IOException {
+        if (simulation instanceof ReplaySimulation) {
+            throw new IllegalStateException("A replay can't be saved to a checkpoint");
+        }
+        Path temporaryFile = Files.createTempFile(file.toAbsolutePath().getParent(),
+                file.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temporaryFile, StandardOpenOption.WRITE);
+                 CheckpointWriter writer = new CheckpointWriter(channel)) {
+                writer.writeInt(MAGIC);
+                writer.writeInt(VERSION);
+                writeConfiguration(simulation.getConfiguration(), writer);
+                writer.writeInt(simulation.getCurrentTime());
+                writer.writeLong(simulation.getRandomUtils().getState());
+                BuildingCheckpoint.write(simulation.getBuilding(), writer);
+                writer.flush();
+                channel.force(true);
+            }
+            Files.move(temporaryFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temporaryFile);
+        }
+    }
+
+    /**
+     * Restores a simulation saved to a file
+     *
+     * @param file the file to read from
+     * @return the simulation ready to carry on from the tick it was saved at
+     * @throws IOException if the file isn't a checkpoint this version can read or there is an error reading
+     */
+    public static Simulation restore(Path file) throws IOException {
+        try (CheckpointReader reader = new CheckpointReader(FileChannel.open(file, StandardOpenOption.READ))) {
+            if (reader.readInt() != MAGIC) {
+                throw new IOException(file + " is not a simulation checkpoint");
+            }
+            int version = reader.readInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported checkpoint version " + version + ", expected " + VERSION);
+            }
+            SimulationConfiguration configuration = readConfiguration(reader);
+            int currentTime = reader.readInt();
+            RandomUtils randomUtils = RandomUtils.fromState(reader.readLong());
+            Building building = BuildingCheckpoint.read(reader);
+            return new Simulation(configuration, building, randomUtils, currentTime);
+        }
+    }
+
+    /**
+     * Writes a configuration, this is shared with the journal
+     *
+     * @param configuration the configuration to write
+     * @param writer the checkpoint to write to
+     * @throws IOException encountered error
+     */
+    static void writeConfiguration(SimulationConfiguration configuration, CheckpointWriter writer)
+            throws IOException {
+        // Probabilities are written exactly as they were given
+        writer.writeString(configuration.getEmpFloorChangeProbability().toString());
+        writer.writeString(configuration.getClientArrivalProbability().toString());
+        writer.writeLong(configuration.getSeed());
+        writer.writeInt(configuration.getNumEmployees());
+        writer.writeInt(configuration.getNumDevelopers());
+        writer.writeInt(configuration.getNumFloors());
+        writer.writeInt(configuration.getElevatorCapacity());
+        writer.writeInt(configuration.getSimulationTime());
+    }
+
+    /**
+     * Reads a configuration written by writeConfiguration
+     *
+     * @param reader the checkpoint to read from
+     * @return the configuration
+     * @throws IOException if the configuration is corrupt or there is an error reading
+     */
+    static SimulationConfiguration readConfiguration(CheckpointReader reader) throws IOException {
+        try {
+            return new SimulationConfiguration(new BigDecimal(reader.readString()), new BigDecimal(reader.readString()),
+                    reader.readLong(), reader.readInt(), reader.readInt(), reader.readInt(), reader.readInt(),
+                    reader.readInt());
+        } catch (NumberFormatException e) {
+            throw new IOException("Checkpoint is corrupt, unreadable probability", e);
+        }
+    }
+
+}
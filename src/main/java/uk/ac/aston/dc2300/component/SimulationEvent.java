@@ -0,0 +1,67 @@
+package uk.ac.aston.dc2300.component;
+
+import uk.ac.aston.dc2300.model.entity.Client;
+
+/**
+ * A timestamped unit of work scheduled on the event driven simulation engine. Events due at the same time are
+ * processed in the order of their type so that a tick runs its phases in the same order as the tick engine.
+ *
+ * @since 18/10/26
+ */
+public class SimulationEvent implements Comparable<SimulationEvent> {
+
+    /**
+     * The kinds of event the engine knows about, declared in the order they must run within a single tick
+     */
+    public enum Type {
+        DECISIONS, ELEVATORS, COMPLAINT_DEADLINE
+    }
+
+    private final int time;
+    private final Type type;
+    private final long sequence;
+    private final Client client;
+    private final int queueEntryTime;
+
+    /**
+     * @param time the simulation time in seconds the event is due
+     * @param type the type of the event
+     * @param sequence tie breaker preserving scheduling order for events of the same time and type
+     * @param client the client the event concerns (complaint deadlines only)
+     * @param queueEntryTime the time the client joined the queue (complaint deadlines only)
+     */
+    public SimulationEvent(int time, Type type, long sequence, Client client, int queueEntryTime) {
+        this.time = time;
+        this.type = type;
+        this.sequence = sequence;
+        this.client = client;
+        this.queueEntryTime = queueEntryTime;
+    }
+
+    @Override
+    public int compareTo(SimulationEvent other) {
+        if (time != other.time) {
+            return Integer.compare(time, other.time);
+        }
+        if (type != other.type) {
+            return type.compareTo(other.type);
+        }
+        return Long.compare(sequence, other.sequence);
+    }
+
+    public int getTime() {
+        return time;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public Client getClient() {
+        return client;
+    }
+
+    public int getQueueEntryTime() {
+        return queueEntryTime;
+    }
+}
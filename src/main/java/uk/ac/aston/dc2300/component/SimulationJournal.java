@@ -0,0 +1,181 @@
+package uk.ac.aston.dc2300.component;
+
+import uk.ac.aston.dc2300.model.entity.BuildingOccupant;
+import uk.ac.aston.dc2300.model.entity.Client;
+import uk.ac.aston.dc2300.model.entity.Floor;
+import uk.ac.aston.dc2300.model.entity.MaintenanceCrew;
+import uk.ac.aston.dc2300.utility.checkpoint.BackgroundChannel;
+import uk.ac.aston.dc2300.utility.checkpoint.CheckpointWriter;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Records the decisions a simulation makes on every tick to a binary file so the run can be replayed with a
+ * ReplaySimulation. The random numbers a simulation draws only ever decide who arrives, who chooses a new destination
+ * and who leaves, so rather than the numbers themselves the journal holds the outcome of each of those decisions.
+ * Occupants are identified by the floor they are on and their place on it, which is the same on replay as everything
+ * happens in the same order.
+ *
+ * Each tick ends with the number of complaints so far, which lets a replay check it hasn't gone wrong. The file is
+ * written by a background thread so recording only costs the simulation the time taken to copy each event into a
+ * buffer.
+ *
+ * @since 18/10/26
+ */
+public class SimulationJournal implements Closeable {
+
+    // "ELEJ" in ASCII
+    static final int MAGIC = 0x454C454A;
+
+    public static final int VERSION = 1;
+
+    // Types of record in the journal
+    static final int DESTINATION_CHOSEN = 1;
+    static final int OCCUPANT_LEFT = 2;
+    static final int CLIENT_ARRIVED = 3;
+    static final int MAINTENANCE_CREW_ARRIVED = 4;
+    static final int TICK_ENDED = 5;
+
+    private static final int MAXIMUM_PENDING_WRITES = 16;
+
+    private final Simulation simulation;
+
+    private final CheckpointWriter writer;
+
+    private SimulationJournal(Simulation simulation, CheckpointWriter writer) {
+        this.simulation = simulation;
+        this.writer = writer;
+    }
+
+    /**
+     * Starts recording a simulation to a file, replacing the file if it exists. The journal should be closed once the
+     * simulation has finished to make sure everything is written.
+     *
+     * @param simulation the simulation to record, it must not have been ticked yet
+     * @param file the file to write to
+     * @return the journal
+     * @throws IOException encountered error
+     * @throws IllegalStateException if the simulation has already started
+     */
+    public static SimulationJournal record(Simulation simulation, Path file) throws IOException {
+        if (simulation.getCurrentTime() != 0) {
+            throw new IllegalStateException("A journal has to be recorded from the start of a simulation");
+        }
+        CheckpointWriter writer = new CheckpointWriter(new BackgroundChannel(FileChannel.open(file,
+                StandardOpenOption.WRITE, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING),
+                MAXIMUM_PENDING_WRITES));
+        try {
+            writer.writeInt(MAGIC);
+            writer.writeInt(VERSION);
+            SimulationCheckpoint.writeConfiguration(simulation.getConfiguration(), writer);
+        } catch (IOException e) {
+            writer.close();
+            throw e;
+        }
+        SimulationJournal journal = new SimulationJournal(simulation, writer);
+        simulation.setJournal(journal);
+        return journal;
+    }
+
+    /**
+     * Records an occupant choosing a new destination
+     *
+     * @param floorNumber the floor the occupant is on
+     * @param index the place of the occupant on the floor
+     * @param destination the new destination
+     * @param calledElevator whether the occupant joined the elevator queue
+     */
+    void destinationChosen(int floorNumber, int index, Floor destination, boolean calledElevator) {
+        try {
+            writer.writeByte(DESTINATION_CHOSEN);
+            writer.writeInt(floorNumber);
+            writer.writeInt(index);
+            writer.writeInt(destination.getFloorNumber());
+            writer.writeBoolean(calledElevator);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to write to journal", e);
+        }
+    }
+
+    /**
+     * Records an occupant leaving the building
+     *
+     * @param floorNumber the floor the occupant was on
+     * @param index the place the occupant had on the floor
+     * @param destination the destination of the occupant as they left
+     */
+    void occupantLeft(int floorNumber, int index, Floor destination) {
+        try {
+            writer.writeByte(OCCUPANT_LEFT);
+            writer.writeInt(floorNumber);
+            writer.writeInt(index);
+            writer.writeInt(destination.getFloorNumber());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to write to journal", e);
+        }
+    }
+
+    /**
+     * Records a client arriving at the building
+     *
+     * @param client the client who arrived
+     * @param currentTime the current simulation time
+     */
+    void clientArrived(Client client, int currentTime) {
+        arrived(CLIENT_ARRIVED, client, client.getLeaveAfterArrivalTime(), currentTime);
+    }
+
+    /**
+     * Records a maintenance crew arriving at the building
+     *
+     * @param maintenanceCrew the crew who arrived
+     * @param currentTime the current simulation time
+     */
+    void maintenanceCrewArrived(MaintenanceCrew maintenanceCrew, int currentTime) {
+        arrived(MAINTENANCE_CREW_ARRIVED, maintenanceCrew, maintenanceCrew.getLeaveAfterArrivalTime(), currentTime);
+    }
+
+    private void arrived(int type, BuildingOccupant occupant, int leaveAfterArrivalTime, int currentTime) {
+        try {
+            writer.writeByte(type);
+            writer.writeInt(leaveAfterArrivalTime);
+            writer.writeInt(occupant.getDestination().getFloorNumber());
+            writer.writeBoolean(occupant.getQueueEntryTime() == currentTime);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to write to journal", e);
+        }
+    }
+
+    /**
+     * Records the end of a tick
+     *
+     * @param time the time of the tick
+     * @param numberComplaints the number of complaints made up to the end of the tick
+     */
+    void tickEnded(int time, int numberComplaints) {
+        try {
+            writer.writeByte(TICK_ENDED);
+            writer.writeInt(time);
+            writer.writeInt(numberComplaints);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to write to journal", e);
+        }
+    }
+
+    /**
+     * Stops recording and waits for everything recorded to be written
+     *
+     * @throws IOException encountered error
+     */
+    @Override
+    public void close() throws IOException {
+        simulation.setJournal(null);
+        writer.close();
+    }
+
+}
@@ -0,0 +1,85 @@
+package uk.ac.aston.dc2300.component;
+
+import uk.ac.aston.dc2300.model.configuration.ParameterSweep;
+import uk.ac.aston.dc2300.model.configuration.SimulationConfiguration;
+import uk.ac.aston.dc2300.model.status.SimulationStatistics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+
+/**
+ * Runs every point of a ParameterSweep with a fixed number of worker threads. Each worker takes the next point of the
+ * sweep as soon as it finishes the last, so no more than the given number of simulations are ever in memory at once
+ * and the grid is only expanded as it is worked through.
+ *
+ * Results are handed to the listener as each point completes, so they arrive in completion order rather than sweep
+ * order. The listener is only called by one worker at a time. The simulation log is shared by every simulation so it
+ * should be switched off before running a sweep.
+ *
+ * @since 18/10/26
+ */
+public class SweepRunner {
+
+    private final ParameterSweep sweep;
+
+    private final int concurrency;
+
+    /**
+     * @param sweep the sweep to run
+     * @param concurrency the maximum number of simulations to run at the same time
+     */
+    public SweepRunner(ParameterSweep sweep, int concurrency) {
+        this.sweep = sweep;
+        this.concurrency = concurrency;
+    }
+
+    /**
+     * Runs every point of the sweep and waits for them all to finish
+     *
+     * @param listener receives the configuration and final statistics of each point as it completes
+     * @throws InterruptedException if interrupted while waiting for the workers
+     */
+    public void run(BiConsumer<SimulationConfiguration, SimulationStatistics> listener) throws InterruptedException {
+        AtomicLong nextIndex = new AtomicLong();
+        AtomicReference<RuntimeException> failure = new AtomicReference<>();
+        long size = sweep.size();
+
+        Runnable worker = () -> {
+            long index;
+            while (failure.get() == null && (index = nextIndex.getAndIncrement()) < size) {
+                try {
+                    SimulationConfiguration configuration = sweep.get(index);
+                    SimulationStatistics statistics = new Simulation(configuration).runToEnd();
+                    synchronized (listener) {
+                        listener.accept(configuration, statistics);
+                    }
+                } catch (RuntimeException e) {
+                    // Stop every worker and report the first failure
+                    failure.compareAndSet(null, e);
+                }
+            }
+        };
+
+        int workerCount = (int) Math.max(1, Math.min(concurrency, size));
+        Thread[] workers = new Thread[workerCount];
+        for (int i = 0; i < workerCount; i++) {
+            workers[i] = new Thread(worker, "sweep-worker-" + i);
+            workers[i].start();
+        }
+        try {
+            for (Thread thread : workers) {
+                thread.join();
+            }
+        } catch (InterruptedException e) {
+            // Let the workers finish the points they are on then stop
+            failure.compareAndSet(null, new IllegalStateException("Sweep interrupted"));
+            throw e;
+        }
+
+        if (failure.get() != null) {
+            throw new IllegalStateException("Sweep point failed", failure.get());
+        }
+    }
+
+}
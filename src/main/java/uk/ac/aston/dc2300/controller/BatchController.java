@@ -0,0 +1,89 @@
+package uk.ac.aston.dc2300.controller;
+
+import uk.ac.aston.dc2300.component.BatchRunner;
+import uk.ac.aston.dc2300.model.configuration.SimulationConfiguration;
+import uk.ac.aston.dc2300.model.status.SimulationStatistics;
+import uk.ac.aston.dc2300.utility.ArgumentUtils;
+import uk.ac.aston.dc2300.utility.FileUtils;
+import uk.ac.aston.dc2300.utility.logging.LogLevel;
+import uk.ac.aston.dc2300.utility.logging.NoOpEventSink;
+import uk.ac.aston.dc2300.utility.logging.SimulationLog;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+/**
+ * An implementation of ApplicationController which runs a single configuration over a range of seeds without any
+ * interaction and writes the results in CSV format. There is one row for each seed followed by an aggregate row of the
+ * combined wait times and total complaints of every seed. The application exits with a non-zero status if the batch is
+ * interrupted or the results can't be written.
+ *
+ * Options:
+ * --p, --q, --seed, --employees, --developers, --floors, --capacity, --time : the configuration, --seed is the first seed
+ * --runs=[n]      : the number of seeds to run (default 10)
+ * --config=[file] : a properties or JSON file to read any of these options from, see OptionsFile
+ * --threads=[n]   : the number of simulations to run at once (default one per core)
+ * --output=[file] : the file to write the results to (default STDOUT)
+ *
+ * @since 18/10/26
+ */
+public class BatchController implements ApplicationController {
+
+    private final SimulationConfiguration simulationConfiguration;
+    private final int runs;
+    private final int threads;
+    private final String outputFile;
+
+    /**
+     * @param args the application arguments
+     * @throws IllegalArgumentException if any of the options are invalid
+     */
+    public BatchController(String[] args) {
+        ArgumentUtils arguments = new ArgumentUtils(args,
+                ArgumentUtils.withConfigurationOptions("runs", "threads", "output"));
+        simulationConfiguration = arguments.getConfiguration();
+        runs = arguments.getInteger("runs", 10);
+        threads = Math.max(1, arguments.getInteger("threads", Runtime.getRuntime().availableProcessors()));
+        outputFile = arguments.getString("output", null);
+    }
+
+    @Override
+    public void start() {
+        // Simulations running at the same time would interleave their events, so don't log them
+        SimulationLog.configure(new NoOpEventSink(), LogLevel.OFF);
+
+        long firstSeed = simulationConfiguration.getSeed();
+        System.err.println(String.format("Running %s seeds from %s on %s threads", runs, firstSeed, threads));
+
+        List<SimulationStatistics> results;
+        try {
+            results = new BatchRunner(simulationConfiguration, threads).run(firstSeed, runs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            System.err.println("Batch interrupted");
+            System.exit(1);
+            return;
+        }
+
+        try (Writer writer = FileUtils.openResultsWriter(outputFile)) {
+            writer.write("Run," + simulationConfiguration.getCSVHeaders() + "," + new SimulationStatistics(0).getCSVHeaders());
+            writer.write(System.lineSeparator());
+            for (int i = 0; i < results.size(); i++) {
+                SimulationConfiguration replication = simulationConfiguration.withSeed(firstSeed + i);
+                writer.write((firstSeed + i) + "," + replication.toCSV() + "," + results.get(i).toCSV());
+                writer.write(System.lineSeparator());
+            }
+            writer.write("Aggregate," + simulationConfiguration.toCSV() + "," + BatchRunner.aggregate(results).toCSV());
+            writer.write(System.lineSeparator());
+        } catch (IOException e) {
+            System.err.println("File writing failed: " + e.getMessage());
+            System.exit(1);
+        }
+
+        if (outputFile != null) {
+            System.err.println("Results saved to: " + outputFile);
+        }
+    }
+
+}
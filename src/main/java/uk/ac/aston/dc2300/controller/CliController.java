@@ -5,12 +5,18 @@ import uk.ac.aston.dc2300.model.configuration.SimulationConfiguration;
 import uk.ac.aston.dc2300.model.entity.*;
 import uk.ac.aston.dc2300.model.status.SimulationStatistics;
 import uk.ac.aston.dc2300.model.status.SimulationStatus;
+import uk.ac.aston.dc2300.utility.ArgumentUtils;
 import uk.ac.aston.dc2300.utility.CliUtils;
 import uk.ac.aston.dc2300.utility.FileUtils;
+import uk.ac.aston.dc2300.utility.logging.ConsoleEventSink;
+import uk.ac.aston.dc2300.utility.logging.FileEventSink;
+import uk.ac.aston.dc2300.utility.logging.LogLevel;
+import uk.ac.aston.dc2300.utility.logging.SimulationLog;
 
 import java.io.File;
 import java.io.IOException;
 import java.math.BigDecimal;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Scanner;
 import java.util.regex.Matcher;
@@ -29,12 +35,47 @@ public class CliController implements ApplicationController {
 
     private SimulationStatus currentStatus;
 
-    public CliController() {
+    /**
+     * @param args the application arguments, '--log=[file]' writes every simulation event to the given file and
+     *             '--log-level=[debug|info|off]' sets the lowest level of event that is written
+     * @throws IllegalArgumentException if any of the options are invalid
+     */
+    public CliController(String[] args) {
         System.out.println("Initializing application in 'cli' mode");
+        configureEventLog(args);
         simulationConfiguration = getConfigurationInput();
         simulation = new Simulation(simulationConfiguration);
     }
 
+    /**
+     * Chooses where simulation events are written from the application arguments. By default every event is written to
+     * the console.
+     *
+     * @param args the application arguments
+     * @throws IllegalArgumentException if an option isn't known or the log level isn't valid
+     */
+    private void configureEventLog(String[] args) {
+        ArgumentUtils arguments = new ArgumentUtils(args, Arrays.asList("log", "log-level"));
+        String logFile = arguments.getString("log", null);
+        LogLevel logLevel;
+        try {
+            logLevel = LogLevel.valueOf(arguments.getString("log-level", "debug").toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("--log-level must be one of debug, info or off");
+        }
+
+        if (logFile != null) {
+            try {
+                SimulationLog.configure(new FileEventSink(new File(logFile)), logLevel);
+                System.out.println("Writing simulation events to: " + logFile);
+                return;
+            } catch (IOException e) {
+                System.out.println("Unable to open log file, writing simulation events to the console");
+            }
+        }
+        SimulationLog.configure(new ConsoleEventSink(), logLevel);
+    }
+
     /**
      * Prompts the user to enter configuration settings and assembles them together into a SimulationConfiguration
      * object.
@@ -92,6 +133,7 @@ public class CliController implements ApplicationController {
 
             if (userInput.equalsIgnoreCase("/quit")) {
                 System.out.println("Goodbye!");
+                SimulationLog.close();
                 System.exit(0);
             } else {
                 handleCommand(userInput);
@@ -5,10 +5,13 @@ import uk.ac.aston.dc2300.gui.frames.ControlPanel;
 import uk.ac.aston.dc2300.gui.frames.LandingConfig;
 import uk.ac.aston.dc2300.gui.frames.SimulationCanvas;
 import uk.ac.aston.dc2300.model.configuration.SimulationConfiguration;
-import uk.ac.aston.dc2300.model.entity.Building;
+import uk.ac.aston.dc2300.model.status.BuildingFrame;
 import uk.ac.aston.dc2300.model.status.SimulationStatistics;
 import uk.ac.aston.dc2300.model.status.SimulationStatus;
 import uk.ac.aston.dc2300.utility.FileUtils;
+import uk.ac.aston.dc2300.utility.logging.LogLevel;
+import uk.ac.aston.dc2300.utility.logging.NoOpEventSink;
+import uk.ac.aston.dc2300.utility.logging.SimulationLog;
 
 import javax.swing.JFrame;
 import javax.swing.JPanel;
@@ -18,6 +21,7 @@ import javax.swing.border.EmptyBorder;
 import java.awt.*;
 import java.io.File;
 import java.io.IOException;
+import java.util.concurrent.TimeUnit;
 
 /**
  * An implementation of ApplicationController which displays a graphical user interface.
@@ -28,15 +32,20 @@ import java.io.IOException;
 public class GuiController implements ApplicationController {
 
     private JFrame uiFrame;
-    private int simSpeedMultiplier;
-    private boolean simulationRunning;
-    private boolean simulationPaused;
+    private volatile int simSpeedMultiplier;
+    // Set by the control panel and read by the simulation worker
+    private volatile boolean simulationRunning;
+    private volatile boolean simulationPaused;
     private static final int SIM_SPEED_DEFAULT = 200;
-    private boolean goToEnd;
-    private boolean stats;
+    // While going to the end progress is shown at most ten times a second
+    private static final long GO_TO_END_PROGRESS_INTERVAL = TimeUnit.MILLISECONDS.toNanos(100);
+    private volatile boolean goToEnd;
+    private volatile boolean stats;
 
     public GuiController() {
         System.out.println("Initializing application in 'GUI' mode");
+        // The canvas shows everything that happens so there's no need to log simulation events
+        SimulationLog.configure(new NoOpEventSink(), LogLevel.OFF);
         initialiseFields();
     }
 
@@ -173,22 +182,27 @@ public class GuiController implements ApplicationController {
 
                 while (simulationRunning) {
                     if (!simulationPaused) {
-                        currentStatus = simulation.tick();
-                        simulationCanvas.update(currentStatus.getBuilding());
-                        simulationCanvas.drawStats(simulation.getStatistics());
-                        simulationRunning = currentStatus.isSimulationRunning();
+                        if (goToEnd) {
+                            currentStatus = goToEnd(simulation, currentStatus, simulationCanvas);
+                        } else {
+                            currentStatus = simulation.tick();
+                            // Only capture a frame once the canvas has painted the last one, it would be dropped anyway
+                            if (simulationCanvas.isReadyForFrame()) {
+                                simulationCanvas.publishFrame(BuildingFrame.capture(currentStatus.getBuilding(),
+                                        currentStatus.getTime()));
+                            }
+                        }
+                        // Don't carry on if the simulation was stopped while the tick was running
+                        simulationRunning = simulationRunning && currentStatus.isSimulationRunning();
                     }
-                    if (!goToEnd) {
+                    if (simulationRunning && (!goToEnd || simulationPaused)) {
                         Thread.sleep(SIM_SPEED_DEFAULT / simSpeedMultiplier);
                     }
                 }
 
                 if (stats) {
-                    // Collect end of sim stats.
-                    SimulationStatistics stats = simulation.getStatistics();
-
-                    // Render end of sim stats
-                    simulationCanvas.drawStats(stats);
+                    // Render the end of sim building and stats
+                    simulationCanvas.publishFrame(BuildingFrame.capture(currentStatus.getBuilding(), currentStatus.getTime()));
 
                     // Trigger stats file save process
                     controlPanel.saveStatsFile();
@@ -200,6 +214,38 @@ public class GuiController implements ApplicationController {
         };
     }
 
+    /**
+     * Ticks the simulation as fast as it can until it finishes or is paused, slowed down or stopped. Nothing is drawn
+     * for each tick, instead a frame is shown at most every GO_TO_END_PROGRESS_INTERVAL so the canvas shows how far
+     * the simulation has got.
+     *
+     * @param simulation the simulation to run
+     * @param currentStatus the status of the last tick
+     * @param simulationCanvas canvas to draw
+     * @return the status of the last tick run
+     */
+    private SimulationStatus goToEnd(Simulation simulation, SimulationStatus currentStatus,
+                                     SimulationCanvas simulationCanvas) {
+        long nextProgress = System.nanoTime() + GO_TO_END_PROGRESS_INTERVAL;
+        while (simulationRunning && goToEnd && !simulationPaused) {
+            currentStatus = simulation.tick();
+            if (!currentStatus.isSimulationRunning()) {
+                // The final frame is shown with the end of sim stats
+                return currentStatus;
+            }
+            long now = System.nanoTime();
+            if (now - nextProgress >= 0) {
+                simulationCanvas.publishFrame(BuildingFrame.capture(currentStatus.getBuilding(), currentStatus.getTime()));
+                nextProgress = now + GO_TO_END_PROGRESS_INTERVAL;
+            }
+        }
+        // Paused or slowed down, show where the simulation has got to as of the last tick like every other frame
+        if (currentStatus.getBuilding() != null) {
+            simulationCanvas.publishFrame(BuildingFrame.capture(currentStatus.getBuilding(), currentStatus.getTime()));
+        }
+        return currentStatus;
+    }
+
     /**
      * Stops the simulation running
      */
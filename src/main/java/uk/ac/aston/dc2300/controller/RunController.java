@@ -0,0 +1,98 @@
+package uk.ac.aston.dc2300.controller;
+
+import uk.ac.aston.dc2300.component.CompactSimulation;
+import uk.ac.aston.dc2300.component.ParallelSimulation;
+import uk.ac.aston.dc2300.component.Simulation;
+import uk.ac.aston.dc2300.model.configuration.SimulationConfiguration;
+import uk.ac.aston.dc2300.model.status.SimulationStatistics;
+import uk.ac.aston.dc2300.utility.ArgumentUtils;
+import uk.ac.aston.dc2300.utility.FileUtils;
+import uk.ac.aston.dc2300.utility.logging.LogLevel;
+import uk.ac.aston.dc2300.utility.logging.NoOpEventSink;
+import uk.ac.aston.dc2300.utility.logging.SimulationLog;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * An implementation of ApplicationController which runs a single simulation to the end without any interaction, for
+ * use from scripts. The configuration comes from the arguments or a config file and the statistics are written in the
+ * same CSV layout as the statistics files saved by the other interfaces, after an Engine column naming the engine which
+ * ran them (tick, compact or parallel) as the parallel engine gives different statistics for the same seed. The
+ * application exits with a non-zero status if the statistics can't be written.
+ *
+ * Options:
+ * --p, --q, --seed, --employees, --developers, --floors, --capacity, --time : the configuration, any not given use the
+ *                   same defaults as the command line interface
+ * --config=[file] : a properties or JSON file to read any of these options from, see OptionsFile
+ * --output=[file] : the file to write the statistics to (default STDOUT)
+ * --engine=[name] : the engine to run with (default tick)
+ *                   tick - the Simulation engine
+ *                   compact - the CompactSimulation engine, which gives the same statistics using far less memory
+ *                   parallel - the ParallelSimulation engine, which makes the occupants' choices on several threads.
+ *                              The statistics for a seed are the same for any number of threads but differ from those
+ *                              of the other engines.
+ * --threads=[n]   : the number of threads the parallel engine uses (default one per core), the other engines run on
+ *                   a single thread
+ *
+ * @since 18/10/26
+ */
+public class RunController implements ApplicationController {
+
+    private final SimulationConfiguration simulationConfiguration;
+    private final String outputFile;
+    private final String engine;
+    private final int threads;
+
+    /**
+     * @param args the application arguments
+     * @throws IllegalArgumentException if any of the options are invalid
+     */
+    public RunController(String[] args) {
+        ArgumentUtils arguments = new ArgumentUtils(args,
+                ArgumentUtils.withConfigurationOptions("output", "engine", "threads"));
+        simulationConfiguration = arguments.getConfiguration();
+        outputFile = arguments.getString("output", null);
+        engine = arguments.getString("engine", "tick").toLowerCase();
+        if (!engine.equals("tick") && !engine.equals("compact") && !engine.equals("parallel")) {
+            throw new IllegalArgumentException("--engine must be one of tick, compact or parallel");
+        }
+        threads = Math.max(1, arguments.getInteger("threads", Runtime.getRuntime().availableProcessors()));
+    }
+
+    @Override
+    public void start() {
+        // Only the statistics are wanted, so don't spend time logging events
+        SimulationLog.configure(new NoOpEventSink(), LogLevel.OFF);
+
+        SimulationStatistics statistics;
+        if (engine.equals("compact")) {
+            statistics = new CompactSimulation(simulationConfiguration).runToEnd();
+        } else if (engine.equals("parallel")) {
+            ForkJoinPool pool = new ForkJoinPool(threads);
+            try {
+                statistics = new ParallelSimulation(simulationConfiguration, pool).runToEnd();
+            } finally {
+                pool.shutdown();
+            }
+        } else {
+            statistics = new Simulation(simulationConfiguration).runToEnd();
+        }
+
+        try (Writer writer = FileUtils.openResultsWriter(outputFile)) {
+            writer.write("Engine," + simulationConfiguration.getCSVHeaders() + "," + statistics.getCSVHeaders());
+            writer.write(System.lineSeparator());
+            writer.write(engine + "," + simulationConfiguration.toCSV() + "," + statistics.toCSV());
+            writer.write(System.lineSeparator());
+        } catch (IOException e) {
+            System.err.println("File writing failed: " + e.getMessage());
+            System.exit(1);
+        }
+
+        if (outputFile != null) {
+            System.err.println("Statistics saved to: " + outputFile);
+        }
+    }
+
+}
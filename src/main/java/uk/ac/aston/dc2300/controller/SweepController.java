@@ -0,0 +1,95 @@
+package uk.ac.aston.dc2300.controller;
+
+import uk.ac.aston.dc2300.component.SweepRunner;
+import uk.ac.aston.dc2300.model.configuration.ParameterSweep;
+import uk.ac.aston.dc2300.model.configuration.SimulationConfiguration;
+import uk.ac.aston.dc2300.model.status.SimulationStatistics;
+import uk.ac.aston.dc2300.utility.ArgumentUtils;
+import uk.ac.aston.dc2300.utility.FileUtils;
+import uk.ac.aston.dc2300.utility.logging.LogLevel;
+import uk.ac.aston.dc2300.utility.logging.NoOpEventSink;
+import uk.ac.aston.dc2300.utility.logging.SimulationLog;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+
+/**
+ * An implementation of ApplicationController which runs every combination of a set of configuration values without
+ * any interaction. Each result is written in the same CSV layout as the statistics files saved by the other interfaces
+ * as soon as it completes, so rows appear in completion order. The application exits with a non-zero status if any
+ * point fails, the sweep is interrupted or the results can't be written.
+ *
+ * Options:
+ * --p, --q, --seed, --employees, --developers, --floors, --capacity, --time : comma separated values and
+ *                   'start:end:step' ranges to sweep, eg. --floors=5:20:5 --p=0.01,0.05
+ * --config=[file] : a properties or JSON file to read any of these options from, see OptionsFile
+ * --threads=[n]   : the number of simulations to run at once (default one per core)
+ * --output=[file] : the file to write the results to (default STDOUT)
+ *
+ * @since 18/10/26
+ */
+public class SweepController implements ApplicationController {
+
+    private final ParameterSweep sweep;
+    private final int threads;
+    private final String outputFile;
+
+    /**
+     * @param args the application arguments
+     * @throws IllegalArgumentException if any of the options are invalid
+     */
+    public SweepController(String[] args) {
+        ArgumentUtils arguments = new ArgumentUtils(args, ArgumentUtils.withConfigurationOptions("threads", "output"));
+        sweep = arguments.getSweep();
+        threads = Math.max(1, arguments.getInteger("threads", Runtime.getRuntime().availableProcessors()));
+        outputFile = arguments.getString("output", null);
+    }
+
+    @Override
+    public void start() {
+        // Simulations running at the same time would interleave their events, so don't log them
+        SimulationLog.configure(new NoOpEventSink(), LogLevel.OFF);
+
+        long size = sweep.size();
+        System.err.println(String.format("Running %s sweep points on %s threads", size, threads));
+
+        try (Writer writer = FileUtils.openResultsWriter(outputFile)) {
+            SimulationConfiguration firstPoint = sweep.get(0);
+            writer.write(firstPoint.getCSVHeaders() + "," + new SimulationStatistics(0).getCSVHeaders());
+            writer.write(System.lineSeparator());
+
+            long[] completed = new long[1];
+            new SweepRunner(sweep, threads).run((configuration, statistics) -> {
+                try {
+                    writer.write(configuration.toCSV() + "," + statistics.toCSV());
+                    writer.write(System.lineSeparator());
+                    // Flush each row so results can be followed while the sweep runs
+                    writer.flush();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                completed[0]++;
+            });
+            System.err.println(String.format("Completed %s sweep points", completed[0]));
+        } catch (IOException e) {
+            System.err.println("File writing failed: " + e.getMessage());
+            System.exit(1);
+        } catch (IllegalStateException e) {
+            // The error from the point which failed is the cause, if there is one
+            Throwable cause = e.getCause();
+            String message = cause != null && cause.getMessage() != null ? cause.getMessage() : e.getMessage();
+            System.err.println("Sweep failed: " + message);
+            System.exit(1);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            System.err.println("Sweep interrupted");
+            System.exit(1);
+        }
+
+        if (outputFile != null) {
+            System.err.println("Results saved to: " + outputFile);
+        }
+    }
+
+}
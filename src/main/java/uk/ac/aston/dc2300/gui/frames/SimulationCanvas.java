@@ -1,17 +1,18 @@
 package uk.ac.aston.dc2300.gui.frames;
 
-import uk.ac.aston.dc2300.model.entity.*;
-import uk.ac.aston.dc2300.model.status.DeveloperCompany;
-import uk.ac.aston.dc2300.model.status.SimulationStatistics;
+import uk.ac.aston.dc2300.model.status.BuildingFrame;
 
 import javax.swing.*;
 import java.awt.*;
-import java.util.*;
-import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * A custom JPanel that displays the simulation state
  *
+ * The canvas never looks at the building itself, the simulation thread shows it frames captured from the building and
+ * the canvas paints whichever frame is the latest when it gets to paint. Frames shown in between paints are dropped, so
+ * the simulation can run faster than the canvas can paint.
+ *
  * @author Dan Cotton
  * @since 28/05/17
  */
@@ -28,15 +29,17 @@ public class SimulationCanvas extends JPanel {
 
     private static final int PERSON_RADIUS = 10;
 
-    private Building building;
+    // The latest frame shown, handed over from the simulation thread
+    private final AtomicReference<BuildingFrame> latestFrame;
 
-    private SimulationStatistics statistics;
+    // The last frame painted, only read to know whether the latest has been painted yet
+    private volatile BuildingFrame paintedFrame;
 
     public SimulationCanvas () {
         super();
         setOpaque(true);
-        building = null;
-        statistics = null;
+        latestFrame = new AtomicReference<>();
+        paintedFrame = null;
     }
 
     @Override
@@ -47,54 +50,58 @@ public class SimulationCanvas extends JPanel {
     @Override
     protected void paintComponent (Graphics g) {
         super.paintComponent(g);
+        // Take the frame once so the whole paint is of the same tick
+        BuildingFrame frame = latestFrame.get();
         drawTitles(g);
         drawKey(g);
-        drawStats(g);
 
-        // Check we have a building
-        if (building != null) {
-            // Get the list of floors
-            java.util.List<Floor> floors = building.getFloors();
-            int numFloors = floors.size();
+        // Check we have a frame
+        if (frame != null) {
+            drawStats(frame, g);
+            drawTime(frame, g);
+
+            int numFloors = frame.getNumberOfFloors();
 
             // Iterate through
             for (int f = 0; f < numFloors; f++) {
                 // Get the current floor
-                Floor currentFloor = floors.get(numFloors - 1 - f);
+                int floorNumber = numFloors - 1 - f;
                 // Draw the basic skeleton
-                drawFloorSkeleton(currentFloor, g, numFloors);
+                drawFloorSkeleton(floorNumber, g, numFloors);
                 // Populate with people
-                populateFloor(currentFloor, g, numFloors);
+                populateFloor(frame, floorNumber, g, numFloors);
             }
 
             // Draw elevators
-            List<Elevator> elevators = building.getElevators();
-            drawElevators(elevators, g, numFloors);
+            drawElevators(frame, g, numFloors);
 
         }
+        paintedFrame = frame;
         // Reset color
         g.setColor(Color.BLACK);
     }
 
-    private void drawStats(Graphics g) {
-        if (statistics != null) {
-            int STATS_LEFT = 775;
-            int STATS_WIDTH = 150;
-            int STATS_TOP = BORDER_Y + ((BORDER + STATS_WIDTH) * 2);
-            int STATS_HEIGHT = STATS_WIDTH;
-            // Draw container
-            g.drawRect(STATS_LEFT, STATS_TOP, STATS_WIDTH, STATS_HEIGHT);
-            // Draw title
-            g.drawString("Statistics: ", STATS_LEFT + (BORDER / 2), STATS_TOP + BORDER);
-
-            // Draw Wait time
-            g.drawString("Avg Wait Time: ", STATS_LEFT + (BORDER / 2), STATS_TOP + BORDER * 3);
-            g.drawString(statistics.getAverageTime() + "s", STATS_LEFT + (BORDER), STATS_TOP + BORDER * 4);
-
-            // Draw Number of Complaints
-            g.drawString("# Of Complaints: ", STATS_LEFT + (BORDER / 2), STATS_TOP + BORDER * 6);
-            g.drawString(statistics.getNumberOfComplaints() + "", STATS_LEFT + (BORDER), STATS_TOP + BORDER * 7);
-        }
+    private void drawStats(BuildingFrame frame, Graphics g) {
+        int STATS_LEFT = 775;
+        int STATS_WIDTH = 150;
+        int STATS_TOP = BORDER_Y + ((BORDER + STATS_WIDTH) * 2);
+        int STATS_HEIGHT = STATS_WIDTH;
+        // Draw container
+        g.drawRect(STATS_LEFT, STATS_TOP, STATS_WIDTH, STATS_HEIGHT);
+        // Draw title
+        g.drawString("Statistics: ", STATS_LEFT + (BORDER / 2), STATS_TOP + BORDER);
+
+        // Draw Wait time
+        g.drawString("Avg Wait Time: ", STATS_LEFT + (BORDER / 2), STATS_TOP + BORDER * 3);
+        g.drawString(frame.getAverageWaitTime() + "s", STATS_LEFT + (BORDER), STATS_TOP + BORDER * 4);
+
+        // Draw Number of Complaints
+        g.drawString("# Of Complaints: ", STATS_LEFT + (BORDER / 2), STATS_TOP + BORDER * 6);
+        g.drawString(frame.getNumberOfComplaints() + "", STATS_LEFT + (BORDER), STATS_TOP + BORDER * 7);
+    }
+
+    private void drawTime(BuildingFrame frame, Graphics g) {
+        g.drawString("Time: " + frame.getTime() + "s", 775, BORDER_Y);
     }
 
     private void drawKey(Graphics g) {
@@ -122,13 +129,13 @@ public class SimulationCanvas extends JPanel {
         g.drawString(label, x + (PERSON_RADIUS * 2), y + PERSON_RADIUS);
     }
 
-    private void drawFloorSkeleton(Floor currentFloor, Graphics g, int numFloors) {
-        int floorPosition = numFloors - 1 - currentFloor.getFloorNumber();
+    private void drawFloorSkeleton(int floorNumber, Graphics g, int numFloors) {
+        int floorPosition = numFloors - 1 - floorNumber;
         // Setup basic floor layout
         g.drawRect(BORDER, BORDER_Y + BORDER + (SECTION_HEIGHT * floorPosition), SECTION_WIDTH, SECTION_HEIGHT);
         g.drawRect(BORDER + SECTION_WIDTH, BORDER_Y + BORDER + (SECTION_HEIGHT * floorPosition), SECTION_WIDTH, SECTION_HEIGHT);
         g.drawRect(BORDER + (2 * SECTION_WIDTH), BORDER_Y + BORDER + (SECTION_HEIGHT * floorPosition), SECTION_WIDTH, SECTION_HEIGHT);
-        g.drawString(currentFloor.getFloorNumber() + "", 0, BORDER_Y + BORDER + (SECTION_HEIGHT * floorPosition) + 10);
+        g.drawString(floorNumber + "", 0, BORDER_Y + BORDER + (SECTION_HEIGHT * floorPosition) + 10);
     }
 
     private void drawTitles(Graphics g) {
@@ -137,17 +144,14 @@ public class SimulationCanvas extends JPanel {
         g.drawString("On-Floor", BORDER + (SECTION_WIDTH * 2), BORDER_Y);
     }
 
-    private void drawElevators(List<Elevator> elevators, Graphics g, int numFloors) {
-        int elevatorCount = elevators.size();
-        int elevatorId = 0;
+    private void drawElevators(BuildingFrame frame, Graphics g, int numFloors) {
+        int elevatorCount = frame.getNumberOfElevators();
 
         int sectionWidth = (SECTION_WIDTH - 10) / elevatorCount;
         int elevatorHeight = SECTION_HEIGHT - 10;
 
-        for (Elevator elevator: elevators) {
-            List<BuildingOccupant> passengers = new ArrayList<>();
-            passengers.addAll(elevator.getOccupants());
-            int floorPosition = numFloors - elevator.getCurrentFloor().getFloorNumber() - 1;
+        for (int elevatorId = 0; elevatorId < elevatorCount; elevatorId++) {
+            int floorPosition = numFloors - frame.getElevatorFloor(elevatorId) - 1;
 
             int elevatorX = BORDER + (elevatorId * sectionWidth) + 5;
             int elevatorY = BORDER_Y + BORDER + 5 + (SECTION_HEIGHT * floorPosition);
@@ -156,9 +160,9 @@ public class SimulationCanvas extends JPanel {
 
             // Draw occupants
 
-            int occupantCount = 0;
-            for (BuildingOccupant passenger: passengers) {
-                g.setColor(getColorForOccupant(passenger));
+            int passengerCount = frame.getPassengerCount(elevatorId);
+            for (int occupantCount = 0; occupantCount < passengerCount; occupantCount++) {
+                g.setColor(getColorForOccupant(frame.getPassenger(elevatorId, occupantCount)));
 
                 // Work out how many we can fit
                 int horizontalCapacity = (SECTION_WIDTH / PERSON_RADIUS) - 4;
@@ -174,28 +178,24 @@ public class SimulationCanvas extends JPanel {
                     offsetY = offsetCount * PERSON_RADIUS;
                 }
                 g.fillOval(offset + elevatorX + 2, elevatorY + offsetY + PERSON_RADIUS, PERSON_RADIUS, PERSON_RADIUS);
-                occupantCount++;
             }
-            elevatorId++;
         }
     }
 
     /**
      * Populates a given floor on the UI both with the occupants in the elevator queue and on the floor
      *
-     * @param currentFloor The floor to populate
+     * @param frame The frame being painted
+     * @param floorNumber The floor to populate
      * @param g the graphics context to use to draw the occupants
      */
-    private void populateFloor(Floor currentFloor, Graphics g, int floorCount) {
-        int floorPos = floorCount - currentFloor.getFloorNumber() - 1;
-
-        // Get the elevator queue
-        List<BuildingOccupant> elevatorQueue = currentFloor.getElevatorQueue();
+    private void populateFloor(BuildingFrame frame, int floorNumber, Graphics g, int floorCount) {
+        int floorPos = floorCount - floorNumber - 1;
 
         // Draw each person in the queue
-        int queueLength = elevatorQueue.size();
+        int queueLength = frame.getQueueLength(floorNumber);
         for (int position = 0; position < queueLength; position++) {
-            g.setColor(getColorForOccupant(elevatorQueue.get(position)));
+            g.setColor(getColorForOccupant(frame.getQueuedOccupant(floorNumber, position)));
 
             // Work out how many we can fit
             int horizontalCapacity = (SECTION_WIDTH / PERSON_RADIUS) - 1;
@@ -213,16 +213,10 @@ public class SimulationCanvas extends JPanel {
             g.fillOval( SECTION_WIDTH + offset + 2, (int) (offsetY + BORDER_Y + BORDER * 1.25 + (SECTION_HEIGHT * floorPos)), PERSON_RADIUS, PERSON_RADIUS);
         }
 
-        List<BuildingOccupant> floorOccupants = new ArrayList<>();
-        // Get the floor occupants
-        for (BuildingOccupant occupant : currentFloor.getOccupants()) {
-            if (!elevatorQueue.contains(occupant)) floorOccupants.add(occupant); // Only add occupants that aren't queuing
-        }
-
-        // Draw each person on the floor
-        int position = 0;
-        for(BuildingOccupant occupant : floorOccupants) {
-            g.setColor(getColorForOccupant(occupant));
+        // Draw each person on the floor who isn't queuing
+        int floorOccupantCount = frame.getOnFloorCount(floorNumber);
+        for (int position = 0; position < floorOccupantCount; position++) {
+            g.setColor(getColorForOccupant(frame.getOnFloorOccupant(floorNumber, position)));
             // Work out how many we can fit
             int horizontalCapacity = (SECTION_WIDTH / PERSON_RADIUS) - 1;
             // Set x-offset
@@ -237,54 +231,48 @@ public class SimulationCanvas extends JPanel {
                 offsetY = offsetCount * PERSON_RADIUS;
             }
             g.fillOval( offset + (2 * SECTION_WIDTH), (int) (offsetY + BORDER_Y + BORDER * 1.25 + (SECTION_HEIGHT * floorPos)), PERSON_RADIUS, PERSON_RADIUS);
-            position++;
         }
         g.setColor ( Color.BLACK );
     }
 
     /**
-     * Returns an appropriate fill color for the BuildingOccupant provided.
+     * Returns an appropriate fill color for the type of occupant provided.
      *
-     * @param buildingOccupant The occupant to find a color for
-     * @return The fill color for the building occupant provided
+     * @param occupantType The type of occupant to find a color for
+     * @return The fill color for the occupant type provided
      */
-    private Color getColorForOccupant(BuildingOccupant buildingOccupant) {
-        if (buildingOccupant instanceof Client) {
-            return Color.BLUE;
-        } else if (buildingOccupant instanceof MaintenanceCrew) {
-            return Color.YELLOW;
-        } else if (buildingOccupant instanceof Developer) {
-            Developer developer = (Developer) buildingOccupant;
-            if (developer.getCompany() == DeveloperCompany.MUGTOME) {
+    private Color getColorForOccupant(BuildingFrame.OccupantType occupantType) {
+        switch (occupantType) {
+            case CLIENT:
+                return Color.BLUE;
+            case MAINTENANCE_CREW:
+                return Color.YELLOW;
+            case MUGTOME_DEVELOPER:
                 return Color.MAGENTA;
-            } else {
+            case GOGGLES_DEVELOPER:
                 return Color.GREEN;
-            }
+            default:
+                return Color.BLACK;
         }
-        return Color.BLACK;
     }
 
     /**
-     * Takes a new building and repaints the canvas
+     * Takes a new frame to paint and repaints the canvas. This can be called from any thread, if the canvas hasn't
+     * painted the previous frame yet it is dropped.
      *
-     * @param building the building
+     * @param frame the frame
      */
-    public void update(Building building) {
-        this.building = building;
-        invalidate();
-        revalidate();
+    public void publishFrame(BuildingFrame frame) {
+        latestFrame.set(frame);
         repaint();
     }
 
     /**
-     * Takes a new building and repaints the canvas
+     * Checks whether the latest frame has been painted, so a new frame is only worth capturing when this is true
      *
-     * @param simulationStatistics the simulationStatistics
+     * @return true if the canvas is ready for another frame
      */
-    public void drawStats(SimulationStatistics simulationStatistics) {
-        this.statistics = simulationStatistics;
-        invalidate();
-        revalidate();
-        repaint();
+    public boolean isReadyForFrame() {
+        return paintedFrame == latestFrame.get();
     }
 }
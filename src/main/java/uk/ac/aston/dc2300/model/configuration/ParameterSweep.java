@@ -0,0 +1,106 @@
+package uk.ac.aston.dc2300.model.configuration;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This class holds the values to try for each SimulationConfiguration field in a parameter sweep. The sweep covers
+ * every combination of the values but the grid is never built, each point is worked out from its index when it is
+ * needed so a sweep of any size takes up the same amount of memory.
+ *
+ * @since 18/10/26
+ */
+public class ParameterSweep {
+
+    private final List<BigDecimal> empFloorChangeProbabilities;
+    private final List<BigDecimal> clientArrivalProbabilities;
+    private final List<Long> seeds;
+    private final List<Integer> numEmployees;
+    private final List<Integer> numDevelopers;
+    private final List<Integer> numFloors;
+    private final List<Integer> elevatorCapacities;
+    private final List<Integer> simulationTimes;
+
+    /**
+     * @param empFloorChangeProbabilities the floor change probabilities to try
+     * @param clientArrivalProbabilities the client arrival probabilities to try
+     * @param seeds the seeds to try
+     * @param numEmployees the numbers of employees to try
+     * @param numDevelopers the numbers of developers to try
+     * @param numFloors the numbers of floors to try
+     * @param elevatorCapacities the elevator capacities to try
+     * @param simulationTimes the simulation times to try
+     * @throws IllegalArgumentException if any field has no values
+     */
+    public ParameterSweep(List<BigDecimal> empFloorChangeProbabilities, List<BigDecimal> clientArrivalProbabilities,
+                          List<Long> seeds, List<Integer> numEmployees, List<Integer> numDevelopers,
+                          List<Integer> numFloors, List<Integer> elevatorCapacities, List<Integer> simulationTimes) {
+        this.empFloorChangeProbabilities = copyOf(empFloorChangeProbabilities);
+        this.clientArrivalProbabilities = copyOf(clientArrivalProbabilities);
+        this.seeds = copyOf(seeds);
+        this.numEmployees = copyOf(numEmployees);
+        this.numDevelopers = copyOf(numDevelopers);
+        this.numFloors = copyOf(numFloors);
+        this.elevatorCapacities = copyOf(elevatorCapacities);
+        this.simulationTimes = copyOf(simulationTimes);
+    }
+
+    /**
+     * Gets the number of points in the sweep
+     *
+     * @return the number of configurations covered
+     */
+    public long size() {
+        return (long) empFloorChangeProbabilities.size() * clientArrivalProbabilities.size() * seeds.size()
+                * numEmployees.size() * numDevelopers.size() * numFloors.size() * elevatorCapacities.size()
+                * simulationTimes.size();
+    }
+
+    /**
+     * Works out the configuration at the given point in the sweep. Seeds change fastest so the replications of a
+     * configuration sit next to each other, followed by the simulation time and so on back to the floor change
+     * probability.
+     *
+     * @param index the point in the sweep, from 0 to size() - 1
+     * @return the configuration at that point
+     */
+    public SimulationConfiguration get(long index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Sweep index " + index + " out of range");
+        }
+        long remaining = index;
+        long seed = seeds.get((int) (remaining % seeds.size()));
+        remaining /= seeds.size();
+        int simulationTime = simulationTimes.get((int) (remaining % simulationTimes.size()));
+        remaining /= simulationTimes.size();
+        int elevatorCapacity = elevatorCapacities.get((int) (remaining % elevatorCapacities.size()));
+        remaining /= elevatorCapacities.size();
+        int floors = numFloors.get((int) (remaining % numFloors.size()));
+        remaining /= numFloors.size();
+        int developers = numDevelopers.get((int) (remaining % numDevelopers.size()));
+        remaining /= numDevelopers.size();
+        int employees = numEmployees.get((int) (remaining % numEmployees.size()));
+        remaining /= numEmployees.size();
+        BigDecimal clientArrivalProbability = clientArrivalProbabilities.get((int) (remaining % clientArrivalProbabilities.size()));
+        remaining /= clientArrivalProbabilities.size();
+        BigDecimal empFloorChangeProbability = empFloorChangeProbabilities.get((int) remaining);
+
+        return new SimulationConfiguration(empFloorChangeProbability, clientArrivalProbability, seed, employees,
+                developers, floors, elevatorCapacity, simulationTime);
+    }
+
+    /**
+     * Copies the given values checking there is at least one
+     *
+     * @param values the values to copy
+     * @return the copy
+     */
+    private static <T> List<T> copyOf(List<T> values) {
+        if (values.isEmpty()) {
+            throw new IllegalArgumentException("Every field of a sweep needs at least one value");
+        }
+        return new ArrayList<>(values);
+    }
+
+}
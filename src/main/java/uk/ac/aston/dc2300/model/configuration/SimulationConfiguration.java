@@ -1,5 +1,7 @@
 package uk.ac.aston.dc2300.model.configuration;
 
+import uk.ac.aston.dc2300.utility.RandomUtils;
+
 import java.math.BigDecimal;
 
 /**
@@ -15,6 +17,10 @@ public class SimulationConfiguration {
 
     private final BigDecimal CLIENT_ARRIVAL_PROBABILITY;
 
+    private final double EMP_FLOOR_CHANGE_PROBABILITY_VALUE;
+
+    private final double CLIENT_ARRIVAL_PROBABILITY_VALUE;
+
     private final long SEED;
 
     private final int NUM_EMPLOYEES;
@@ -42,6 +48,8 @@ public class SimulationConfiguration {
                                    int simulationTime) {
         EMP_FLOOR_CHANGE_PROBABILITY = empFloorChangeProbability;
         CLIENT_ARRIVAL_PROBABILITY = clientArrivalProbability;
+        EMP_FLOOR_CHANGE_PROBABILITY_VALUE = RandomUtils.toProbabilityThreshold(empFloorChangeProbability);
+        CLIENT_ARRIVAL_PROBABILITY_VALUE = RandomUtils.toProbabilityThreshold(clientArrivalProbability);
         SEED = seed;
         NUM_EMPLOYEES = numEmployees;
         NUM_DEVELOPERS = numDevelopers;
@@ -58,6 +66,68 @@ public class SimulationConfiguration {
         return CLIENT_ARRIVAL_PROBABILITY;
     }
 
+    /**
+     * Creates a copy of this configuration which uses a different random seed
+     *
+     * @param seed the seed for the copy to use
+     * @return the new configuration
+     */
+    public SimulationConfiguration withSeed(long seed) {
+        return new SimulationConfiguration(EMP_FLOOR_CHANGE_PROBABILITY, CLIENT_ARRIVAL_PROBABILITY, seed, NUM_EMPLOYEES,
+                NUM_DEVELOPERS, NUM_FLOORS, ELEVATOR_CAPACITY, SIMULATION_TIME);
+    }
+
+    /**
+     * Creates a copy of this configuration with a different probability of employees and developers changing floor
+     *
+     * @param empFloorChangeProbability the probability for the copy to use
+     * @return the new configuration
+     */
+    public SimulationConfiguration withEmpFloorChangeProbability(BigDecimal empFloorChangeProbability) {
+        return new SimulationConfiguration(empFloorChangeProbability, CLIENT_ARRIVAL_PROBABILITY, SEED, NUM_EMPLOYEES,
+                NUM_DEVELOPERS, NUM_FLOORS, ELEVATOR_CAPACITY, SIMULATION_TIME);
+    }
+
+    /**
+     * Creates a copy of this configuration with a different probability of clients arriving
+     *
+     * @param clientArrivalProbability the probability for the copy to use
+     * @return the new configuration
+     */
+    public SimulationConfiguration withClientArrivalProbability(BigDecimal clientArrivalProbability) {
+        return new SimulationConfiguration(EMP_FLOOR_CHANGE_PROBABILITY, clientArrivalProbability, SEED, NUM_EMPLOYEES,
+                NUM_DEVELOPERS, NUM_FLOORS, ELEVATOR_CAPACITY, SIMULATION_TIME);
+    }
+
+    /**
+     * Creates a copy of this configuration which runs for a different amount of time
+     *
+     * @param simulationTime the time in seconds for the copy to run for
+     * @return the new configuration
+     */
+    public SimulationConfiguration withSimulationTime(int simulationTime) {
+        return new SimulationConfiguration(EMP_FLOOR_CHANGE_PROBABILITY, CLIENT_ARRIVAL_PROBABILITY, SEED, NUM_EMPLOYEES,
+                NUM_DEVELOPERS, NUM_FLOORS, ELEVATOR_CAPACITY, simulationTime);
+    }
+
+    /**
+     * Gets the floor change probability as a primitive to compare random draws against
+     *
+     * @return the floor change probability
+     */
+    public double getEmpFloorChangeProbabilityValue() {
+        return EMP_FLOOR_CHANGE_PROBABILITY_VALUE;
+    }
+
+    /**
+     * Gets the client arrival probability as a primitive to compare random draws against
+     *
+     * @return the client arrival probability
+     */
+    public double getClientArrivalProbabilityValue() {
+        return CLIENT_ARRIVAL_PROBABILITY_VALUE;
+    }
+
     public long getSeed() {
         return SEED;
     }
@@ -1,7 +1,15 @@
 package uk.ac.aston.dc2300.model.entity;
 
+import uk.ac.aston.dc2300.model.status.SimulationStatistics;
+import uk.ac.aston.dc2300.utility.logging.SimulationLog;
+
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * This class represents a building which contains multiple elevators and floors for the elevators to visit. The
@@ -16,17 +24,46 @@ public class Building {
     private final List<Floor> floors;
 
     private int numberComplaints;
-    private List<BuildingOccupant> visitorList;
+
+    // Every wait recorded by the occupants signed in to the building
+    private SimulationStatistics waitStatistics;
+    private Set<BuildingOccupant> visitorList;
+
+    // What is left of the visitors who have signed out, their waits are already in the wait statistics
+    private long numberDepartedVisitors;
+    private long totalDepartedVisitTime;
+
+    // Whether occupants keep every wait they've had or only their totals
+    private final boolean keepingWaitHistory;
+
+    // The numbers of the floors that have somebody queuing for an elevator, kept up to date by the floors themselves
+    private final BitSet waitingFloors;
 
     /**
      * @param elevators The list of elevators inside the building
      * @param floors The list of floors contained by the building
      */
     public Building(List<Elevator> elevators, List<Floor> floors) {
+        this(elevators, floors, true);
+    }
+
+    /**
+     * @param elevators The list of elevators inside the building
+     * @param floors The list of floors contained by the building
+     * @param keepingWaitHistory whether the occupants signing in should keep every wait they have, otherwise they
+     *                           only keep the number and total of their waits
+     */
+    public Building(List<Elevator> elevators, List<Floor> floors, boolean keepingWaitHistory) {
         this.elevators = elevators;
+        this.keepingWaitHistory = keepingWaitHistory;
         this.floors = floors;
-        this.visitorList = new ArrayList<>();
+        this.visitorList = new LinkedHashSet<>();
         this.numberComplaints = 0;
+        this.waitStatistics = new SimulationStatistics(0);
+        this.waitingFloors = new BitSet(floors.size());
+        for (Floor floor : floors) {
+            floor.setBuilding(this);
+        }
     }
 
     /**
@@ -38,6 +75,20 @@ public class Building {
         visitorList.add(buildingOccupant);
     }
 
+    /**
+     * Sign off the visitor list when leaving the building. Only the number of visitors to have left and how long they
+     * stayed are remembered, signing out more than once has no effect.
+     *
+     * @param buildingOccupant the building occupant who is leaving
+     * @param currentTime the current simulation time
+     */
+    public void signOut(BuildingOccupant buildingOccupant, int currentTime) {
+        if (visitorList.remove(buildingOccupant)) {
+            numberDepartedVisitors++;
+            totalDepartedVisitTime += currentTime - buildingOccupant.getTimeEntered();
+        }
+    }
+
     /**
      * Gets all of the floors within the top section of the building
      *
@@ -71,18 +122,14 @@ public class Building {
     }
 
     /**
-     * Searches the building for the given occupant and returns the floor which contains them
+     * Returns the floor which contains the given occupant. Floors keep their occupants up to date with the floor they
+     * are on so this is a constant time lookup rather than a search of the building.
      *
      * @param buildingOccupant the occupant to find
      * @return the floor containing that occupant
      */
     public Floor getFloorContainingOccupant(BuildingOccupant buildingOccupant) {
-        // Loop through all the floors in the building
-        for (Floor floor : floors) {
-            // If the floor contains the occupant then return that floor
-            if (floor.getOccupants().contains(buildingOccupant)) return floor;
-        }
-        return null;
+        return buildingOccupant.getCurrentFloor();
     }
 
     /**
@@ -116,11 +163,10 @@ public class Building {
     /**
      * Collects all of the building visitors
      *
-     * @return all occupants to have entered the building based on the
-     * visitor log
+     * @return all occupants signed in to the building and yet to sign out, in the order they signed in
      */
-    public List<BuildingOccupant> getAllVisitors() {
-        return visitorList;
+    public Collection<BuildingOccupant> getAllVisitors() {
+        return Collections.unmodifiableSet(visitorList);
     }
 
     /**
@@ -157,19 +203,98 @@ public class Building {
      * @return the current number of complaints
      */
     public int getClientComplaints(int currentTime) {
-        for(BuildingOccupant occupant : getAllOccupants()) {
+        // Look through the floors then the elevators in place, complaining doesn't move anybody so no copy is needed
+        for (int i = 0; i < floors.size(); i++) {
+            checkClientComplaints(floors.get(i).getOccupants(), currentTime);
+        }
+        for (int i = 0; i < elevators.size(); i++) {
+            checkClientComplaints(elevators.get(i).getOccupants(), currentTime);
+        }
+        return numberComplaints;
+    }
+
+    /**
+     * Check if any of the clients in the given list would like to complain
+     *
+     * @param occupants the occupants to check
+     * @param currentTime the current simulation time
+     */
+    private void checkClientComplaints(List<BuildingOccupant> occupants, int currentTime) {
+        for (int i = 0; i < occupants.size(); i++) {
+            BuildingOccupant occupant = occupants.get(i);
             if (occupant instanceof Client) {
-                Client client = (Client) occupant;
-                if (client.wouldLikeToComplain(currentTime)) {
-                    // Complain
-                    numberComplaints++;
-                    System.out.println("Client complaining and leaving, total complaints: " + numberComplaints);
-                    // Leave
-                    client.getReadyToLeave(getFloors().get(0), currentTime);
-                }
+                checkClientComplaint((Client) occupant, currentTime);
             }
         }
-        return numberComplaints;
+    }
+
+    /**
+     * Check if the given client would like to complain and if so records the complaint and sends them home
+     *
+     * @param client the client to check
+     * @param currentTime the current simulation time
+     * @return whether or not the client complained
+     */
+    public boolean checkClientComplaint(Client client, int currentTime) {
+        if (client.wouldLikeToComplain(currentTime)) {
+            // Complain
+            numberComplaints++;
+            SimulationLog.info("Client complaining and leaving, total complaints: %s", numberComplaints);
+            // Leave
+            client.getReadyToLeave(getFloors().get(0), currentTime);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Checks if anyone is queuing for an elevator on any floor of the building
+     *
+     * @return boolean true=someone waiting, false=nobody waiting
+     */
+    public boolean isAnyoneWaiting() {
+        return !waitingFloors.isEmpty();
+    }
+
+    /**
+     * Checks if anyone is queuing for an elevator on any of the floors in the given range
+     *
+     * @param fromFloor the number of the first floor to check (inclusive)
+     * @param toFloor the number of the last floor to check (exclusive)
+     * @return boolean true=someone waiting, false=nobody waiting
+     */
+    public boolean isAnyoneWaitingBetween(int fromFloor, int toFloor) {
+        int waitingFloor = waitingFloors.nextSetBit(fromFloor);
+        return waitingFloor >= 0 && waitingFloor < toFloor;
+    }
+
+    /**
+     * Finds the closest floor to the given floor with somebody queuing for an elevator, the given floor itself counts
+     * as the closest. If a floor above and a floor below are the same distance away the floor below is returned.
+     *
+     * @param floorNumber the number of the floor to search from
+     * @return the nearest floor with someone waiting or null if nobody is waiting
+     */
+    public Floor getNearestWaitingFloor(int floorNumber) {
+        int above = waitingFloors.nextSetBit(floorNumber);
+        int below = floorNumber > 0 ? waitingFloors.previousSetBit(floorNumber - 1) : -1;
+        if (above < 0 && below < 0) {
+            return null;
+        } else if (above < 0) {
+            return floors.get(below);
+        } else if (below < 0) {
+            return floors.get(above);
+        }
+        return floors.get(above - floorNumber < floorNumber - below ? above : below);
+    }
+
+    /**
+     * Records whether anybody is queuing on the given floor
+     *
+     * @param floor the floor whose queue has changed
+     */
+    void updateWaitingFloor(Floor floor) {
+        waitingFloors.set(floor.getFloorNumber(), floor.isAnyoneWaiting());
     }
 
     public List<Elevator> getElevators() {
@@ -183,4 +308,63 @@ public class Building {
     public int getNumberComplaints() {
         return numberComplaints;
     }
+
+    public long getNumberDepartedVisitors() {
+        return numberDepartedVisitors;
+    }
+
+    /**
+     * Gets the average time visitors who have left spent in the building
+     *
+     * @return average time in seconds or 0 if nobody has left
+     */
+    public long getAverageDepartedVisitTime() {
+        return numberDepartedVisitors == 0 ? 0 : totalDepartedVisitTime / numberDepartedVisitors;
+    }
+
+    public boolean isKeepingWaitHistory() {
+        return keepingWaitHistory;
+    }
+
+    /**
+     * Records a wait for the elevator by one of the occupants signed in to the building
+     *
+     * @param waitTime the wait time in seconds
+     */
+    void recordWaitTime(int waitTime) {
+        waitStatistics.addWaitTime(waitTime);
+    }
+
+    /**
+     * Puts back the totals of a building read from a checkpoint
+     *
+     * @param numberComplaints the number of complaints made
+     * @param waitStatistics every wait recorded so far
+     * @param numberDepartedVisitors the number of visitors who have signed out
+     * @param totalDepartedVisitTime the total time those visitors spent in the building
+     */
+    void restoreState(int numberComplaints, SimulationStatistics waitStatistics, long numberDepartedVisitors,
+                      long totalDepartedVisitTime) {
+        this.numberComplaints = numberComplaints;
+        this.waitStatistics = waitStatistics;
+        this.numberDepartedVisitors = numberDepartedVisitors;
+        this.totalDepartedVisitTime = totalDepartedVisitTime;
+    }
+
+    SimulationStatistics getWaitStatistics() {
+        return waitStatistics;
+    }
+
+    long getTotalDepartedVisitTime() {
+        return totalDepartedVisitTime;
+    }
+
+    /**
+     * Gets the statistics of everybody who has been in the building so far
+     *
+     * @return a new SimulationStatistics object holding the waits and complaints up to now
+     */
+    public SimulationStatistics getStatistics() {
+        return new SimulationStatistics(numberComplaints).merge(waitStatistics);
+    }
 }
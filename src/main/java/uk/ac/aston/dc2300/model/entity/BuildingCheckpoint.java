@@ -0,0 +1,337 @@
+package uk.ac.aston.dc2300.model.entity;
+
+import uk.ac.aston.dc2300.model.status.DeveloperCompany;
+import uk.ac.aston.dc2300.model.status.ElevatorDoorStatus;
+import uk.ac.aston.dc2300.model.status.ElevatorMovementStatus;
+import uk.ac.aston.dc2300.model.status.SimulationStatistics;
+import uk.ac.aston.dc2300.utility.checkpoint.CheckpointReader;
+import uk.ac.aston.dc2300.utility.checkpoint.CheckpointWriter;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes a building and everything in it to a checkpoint and reads it back. Each occupant is written once to a table
+ * and the visitor list, floors, queues and elevators refer to occupants by their position in that table, so an
+ * occupant who is both on a floor and in its queue is still a single occupant when read back.
+ *
+ * Reading puts the occupants back through the same methods the simulation uses, so the running totals the floors,
+ * queues and elevators keep are rebuilt rather than written out.
+ *
+ * @since 18/10/26
+ */
+public final class BuildingCheckpoint {
+
+    private static final int EMPLOYEE = 0;
+    private static final int DEVELOPER = 1;
+    private static final int CLIENT = 2;
+    private static final int MAINTENANCE_CREW = 3;
+
+    private BuildingCheckpoint() {
+    }
+
+    /**
+     * Writes the building to a checkpoint
+     *
+     * @param building the building to write
+     * @param writer the checkpoint to write to
+     * @throws IOException encountered error
+     */
+    public static void write(Building building, CheckpointWriter writer) throws IOException {
+        // Number every occupant who can be reached from the building
+        Map<BuildingOccupant, Integer> ids = new IdentityHashMap<>(building.getAllVisitors().size());
+        List<BuildingOccupant> occupants = new ArrayList<>();
+        addOccupants(building.getAllVisitors(), ids, occupants);
+        for (Floor floor : building.getFloors()) {
+            addOccupants(floor.getOccupants(), ids, occupants);
+            addOccupants(floor.getElevatorQueue(), ids, occupants);
+        }
+        for (Elevator elevator : building.getElevators()) {
+            addOccupants(elevator.getOccupants(), ids, occupants);
+        }
+
+        writer.writeBoolean(building.isKeepingWaitHistory());
+        writer.writeInt(building.getNumberComplaints());
+        writer.writeLong(building.getNumberDepartedVisitors());
+        writer.writeLong(building.getTotalDepartedVisitTime());
+        building.getWaitStatistics().writeTo(writer);
+        writer.writeInt(building.getFloors().size());
+
+        writer.writeInt(occupants.size());
+        for (BuildingOccupant occupant : occupants) {
+            writeOccupant(occupant, building, writer);
+        }
+
+        writeOccupantIds(building.getAllVisitors(), ids, writer);
+
+        for (Floor floor : building.getFloors()) {
+            writeOccupantIds(floor.getOccupants(), ids, writer);
+            writer.writeInt(floor.getElevatorQueue().getPrioritySize());
+            writeOccupantIds(floor.getElevatorQueue(), ids, writer);
+        }
+
+        writer.writeInt(building.getElevators().size());
+        for (Elevator elevator : building.getElevators()) {
+            writer.writeInt(elevator.getMaxCapacity());
+            writer.writeInt(elevator.getCurrentFloor().getFloorNumber());
+            writer.writeInt(elevator.getPreviousFloor().getFloorNumber());
+            writer.writeByte(elevator.getDoorStatus().ordinal());
+            writer.writeByte(elevator.getMovementStatus().ordinal());
+            writer.writeBoolean(elevator.isChangedSinceLastTick());
+            writer.writeInt(elevator.getOccupantCountLastTick());
+            writeOccupantIds(elevator.getOccupants(), ids, writer);
+        }
+    }
+
+    /**
+     * Reads a building back from a checkpoint
+     *
+     * @param reader the checkpoint to read from
+     * @return the building as it was written
+     * @throws IOException if the checkpoint is corrupt or there is an error reading
+     */
+    public static Building read(CheckpointReader reader) throws IOException {
+        boolean keepingWaitHistory = reader.readBoolean();
+        int numberComplaints = reader.readInt();
+        long numberDepartedVisitors = reader.readLong();
+        long totalDepartedVisitTime = reader.readLong();
+        SimulationStatistics waitStatistics = SimulationStatistics.readFrom(reader);
+
+        int numberOfFloors = reader.readCount();
+        if (numberOfFloors == 0) {
+            throw new IOException("Checkpoint is corrupt, the building has no floors");
+        }
+        List<Floor> floors = new ArrayList<>(numberOfFloors);
+        for (int i = 0; i < numberOfFloors; i++) {
+            floors.add(new Floor(i));
+        }
+        List<Elevator> elevators = new ArrayList<>();
+        Building building = new Building(elevators, floors, keepingWaitHistory);
+        building.restoreState(numberComplaints, waitStatistics, numberDepartedVisitors, totalDepartedVisitTime);
+
+        BuildingOccupant[] occupants = new BuildingOccupant[reader.readCount()];
+        for (int i = 0; i < occupants.length; i++) {
+            occupants[i] = readOccupant(building, floors, reader);
+        }
+
+        for (BuildingOccupant visitor : readOccupantIds(occupants, reader)) {
+            building.signIn(visitor);
+        }
+
+        for (Floor floor : floors) {
+            for (BuildingOccupant occupant : readOccupantIds(occupants, reader)) {
+                floor.addOccupant(occupant);
+            }
+            int prioritySize = reader.readCount();
+            BuildingOccupant[] queue = readOccupantIds(occupants, reader);
+            if (prioritySize > queue.length) {
+                throw new IOException("Checkpoint is corrupt, the priority lane is longer than the queue");
+            }
+            // The latest priority entry is at the front
+            for (int i = prioritySize - 1; i >= 0; i--) {
+                floor.addToFrontOfQueue(queue[i]);
+            }
+            for (int i = prioritySize; i < queue.length; i++) {
+                floor.addToBackOfQueue(queue[i]);
+            }
+        }
+
+        int numberOfElevators = reader.readCount();
+        for (int i = 0; i < numberOfElevators; i++) {
+            int maxCapacity = reader.readInt();
+            Floor currentFloor = readFloor(floors, reader);
+            Floor previousFloor = readFloor(floors, reader);
+            ElevatorDoorStatus doorStatus = readEnum(ElevatorDoorStatus.values(), reader);
+            ElevatorMovementStatus movementStatus = readEnum(ElevatorMovementStatus.values(), reader);
+            boolean changedSinceLastTick = reader.readBoolean();
+            int occupantCountLastTick = reader.readInt();
+
+            Elevator elevator = new Elevator(maxCapacity, currentFloor);
+            for (BuildingOccupant passenger : readOccupantIds(occupants, reader)) {
+                elevator.addOccupant(passenger);
+            }
+            elevator.restoreState(previousFloor, doorStatus, movementStatus, changedSinceLastTick,
+                    occupantCountLastTick);
+            elevators.add(elevator);
+        }
+
+        return building;
+    }
+
+    /**
+     * Creates a copy of a building and everything in it which shares nothing with the original, by writing the
+     * building to memory and reading it straight back
+     *
+     * @param building the building to copy
+     * @return the copy
+     */
+    public static Building copy(Building building) {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (CheckpointWriter writer = new CheckpointWriter(Channels.newChannel(bytes))) {
+                write(building, writer);
+            }
+            try (CheckpointReader reader = new CheckpointReader(
+                    Channels.newChannel(new ByteArrayInputStream(bytes.toByteArray())))) {
+                return read(reader);
+            }
+        } catch (IOException e) {
+            // Memory streams don't fail, the building has something in it that can't be written
+            throw new IllegalStateException("Unable to copy building", e);
+        }
+    }
+
+    /**
+     * Numbers any of the given occupants who haven't been numbered yet
+     */
+    private static void addOccupants(Iterable<BuildingOccupant> toAdd, Map<BuildingOccupant, Integer> ids,
+                                     List<BuildingOccupant> occupants) {
+        for (BuildingOccupant occupant : toAdd) {
+            if (!ids.containsKey(occupant)) {
+                ids.put(occupant, occupants.size());
+                occupants.add(occupant);
+            }
+        }
+    }
+
+    private static void writeOccupant(BuildingOccupant occupant, Building building, CheckpointWriter writer)
+            throws IOException {
+        if (occupant.getBuilding() != null && occupant.getBuilding() != building) {
+            throw new IOException("Can't checkpoint an occupant who entered another building");
+        }
+        int type = occupantType(occupant);
+        writer.writeByte(type);
+        writer.writeInt(occupant.getTimeEntered());
+        switch (type) {
+            case DEVELOPER:
+                writer.writeByte(((Developer) occupant).getCompany().ordinal());
+                break;
+            case CLIENT:
+                writer.writeInt(((Client) occupant).getLeaveAfterArrivalTime());
+                writer.writeBoolean(((Client) occupant).isLeaving());
+                break;
+            case MAINTENANCE_CREW:
+                writer.writeInt(((MaintenanceCrew) occupant).getLeaveAfterArrivalTime());
+                break;
+        }
+
+        writer.writeBoolean(occupant.getBuilding() != null);
+        writer.writeInt(occupant.getDestination() == null ? -1 : occupant.getDestination().getFloorNumber());
+        writer.writeInt(occupant.getDestinationArrivalTime());
+        writer.writeInt(occupant.getQueueEntryTime());
+        writer.writeInt(occupant.getNumberOfWaits());
+        writer.writeLong(occupant.getTotalWaitTime());
+        writer.writeBoolean(occupant.isKeepingWaitHistory());
+        if (occupant.isKeepingWaitHistory()) {
+            int[] waitTimes = occupant.getWaitTimes();
+            writer.writeInt(waitTimes.length);
+            for (int waitTime : waitTimes) {
+                writer.writeInt(waitTime);
+            }
+        }
+    }
+
+    private static int occupantType(BuildingOccupant occupant) throws IOException {
+        if (occupant instanceof Developer) {
+            return DEVELOPER;
+        } else if (occupant instanceof Client) {
+            return CLIENT;
+        } else if (occupant instanceof MaintenanceCrew) {
+            return MAINTENANCE_CREW;
+        } else if (occupant instanceof Employee) {
+            return EMPLOYEE;
+        }
+        throw new IOException("Can't checkpoint occupant of type " + occupant.getClass().getName());
+    }
+
+    private static BuildingOccupant readOccupant(Building building, List<Floor> floors, CheckpointReader reader)
+            throws IOException {
+        int type = reader.readByte();
+        int timeEntered = reader.readInt();
+        BuildingOccupant occupant;
+        switch (type) {
+            case EMPLOYEE:
+                occupant = new Employee(timeEntered);
+                break;
+            case DEVELOPER:
+                occupant = new Developer(timeEntered, readEnum(DeveloperCompany.values(), reader));
+                break;
+            case CLIENT: {
+                Client client = new Client(timeEntered, reader.readInt());
+                client.setLeaving(reader.readBoolean());
+                occupant = client;
+                break;
+            }
+            case MAINTENANCE_CREW:
+                occupant = new MaintenanceCrew(timeEntered, reader.readInt());
+                break;
+            default:
+                throw new IOException("Checkpoint is corrupt, unknown occupant type " + type);
+        }
+
+        boolean inBuilding = reader.readBoolean();
+        int destinationNumber = reader.readInt();
+        Floor destination = destinationNumber == -1 ? null : floorAt(floors, destinationNumber);
+        int destinationArrivalTime = reader.readInt();
+        int queueEntryTime = reader.readInt();
+        int numberOfWaits = reader.readInt();
+        long totalWaitTime = reader.readLong();
+        boolean keepingWaitHistory = reader.readBoolean();
+        int[] waitHistory = new int[keepingWaitHistory ? reader.readCount() : 0];
+        for (int i = 0; i < waitHistory.length; i++) {
+            waitHistory[i] = reader.readInt();
+        }
+        occupant.restoreState(inBuilding ? building : null, destination, destinationArrivalTime, queueEntryTime,
+                numberOfWaits, totalWaitTime, keepingWaitHistory, waitHistory);
+        return occupant;
+    }
+
+    private static void writeOccupantIds(Collection<BuildingOccupant> occupants, Map<BuildingOccupant, Integer> ids,
+                                         CheckpointWriter writer) throws IOException {
+        writer.writeInt(occupants.size());
+        for (BuildingOccupant occupant : occupants) {
+            writer.writeInt(ids.get(occupant));
+        }
+    }
+
+    private static BuildingOccupant[] readOccupantIds(BuildingOccupant[] occupants, CheckpointReader reader)
+            throws IOException {
+        BuildingOccupant[] read = new BuildingOccupant[reader.readCount()];
+        for (int i = 0; i < read.length; i++) {
+            int id = reader.readInt();
+            if (id < 0 || id >= occupants.length) {
+                throw new IOException("Checkpoint is corrupt, unknown occupant " + id);
+            }
+            read[i] = occupants[id];
+        }
+        return read;
+    }
+
+    private static Floor readFloor(List<Floor> floors, CheckpointReader reader) throws IOException {
+        return floorAt(floors, reader.readInt());
+    }
+
+    private static Floor floorAt(List<Floor> floors, int floorNumber) throws IOException {
+        if (floorNumber < 0 || floorNumber >= floors.size()) {
+            throw new IOException("Checkpoint is corrupt, unknown floor " + floorNumber);
+        }
+        return floors.get(floorNumber);
+    }
+
+    private static <E extends Enum<E>> E readEnum(E[] values, CheckpointReader reader) throws IOException {
+        int ordinal = reader.readByte();
+        if (ordinal < 0 || ordinal >= values.length) {
+            throw new IOException("Checkpoint is corrupt, unknown " + values[0].getDeclaringClass().getSimpleName()
+                    + " " + ordinal);
+        }
+        return values[ordinal];
+    }
+
+}
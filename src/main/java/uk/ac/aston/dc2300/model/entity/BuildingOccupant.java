@@ -2,9 +2,9 @@ package uk.ac.aston.dc2300.model.entity;
 
 import uk.ac.aston.dc2300.model.status.ElevatorDirection;
 import uk.ac.aston.dc2300.utility.RandomUtils;
+import uk.ac.aston.dc2300.utility.logging.SimulationLog;
 
-import java.math.BigDecimal;
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -23,9 +23,25 @@ public abstract class BuildingOccupant {
 
     protected Floor destination;
 
+    private Floor currentFloor;
+
+    private Elevator elevator;
+
+    private Building building;
+
+    // The entry this occupant has in an elevator queue, only held while they are queuing once
+    private ElevatorQueue.Node queueNode;
+    private int queueEntries;
+
     protected int destinationArrivalTime;
 
-    private List<Integer> waitTimes;
+    private int numberOfWaits;
+
+    private long totalWaitTime;
+
+    // Every wait in the order they happened, only kept when the building asks for it
+    private boolean keepingWaitHistory;
+    private int[] waitHistory;
 
     private int queueEntryTime;
 
@@ -36,7 +52,7 @@ public abstract class BuildingOccupant {
     public BuildingOccupant(int occupantSize, int timeEntered) {
         this.occupantSize = occupantSize;
         this.timeEntered = timeEntered;
-        this.waitTimes = new ArrayList<>();
+        this.keepingWaitHistory = true;
         this.queueEntryTime = -1;
     }
 
@@ -57,7 +73,32 @@ public abstract class BuildingOccupant {
      * @param probability The probability that the occupant will set the new destination
      * @param currentTime The current time in seconds
      */
-    public abstract void setNewDestination(Building building, RandomUtils randomUtils, BigDecimal probability, int currentTime);
+    public abstract void setNewDestination(Building building, RandomUtils randomUtils, double probability, int currentTime);
+
+    /**
+     * Chooses a new destination at random without changing anything, so many occupants can make their choice at the
+     * same time. Only occupants whose choice depends on nothing but chance choose this way, see choosesRandomDestination,
+     * everybody else makes their choice in setNewDestination.
+     *
+     * @param building The building that contains the occupant
+     * @param currentFloor The floor the occupant is on
+     * @param randomUtils Random utility class to generate numbers from
+     * @param probability The probability that the occupant will choose a new destination
+     * @return the new destination or null if the occupant stays where they are
+     */
+    public Floor chooseRandomDestination(Building building, Floor currentFloor, RandomUtils randomUtils, double probability) {
+        return null;
+    }
+
+    /**
+     * Checks whether the occupant chooses new destinations with chooseRandomDestination, in which case setNewDestination
+     * only sets the destination chosen and calls the elevator
+     *
+     * @return chooses at random or not
+     */
+    public boolean choosesRandomDestination() {
+        return false;
+    }
 
     /**
      * Moves the occupant from their current floor into the elevator
@@ -93,7 +134,7 @@ public abstract class BuildingOccupant {
         floor.addOccupant(this);
         // Update destination arrival time to now
         destinationArrivalTime = currentTime;
-        System.out.println(String.format("Passenger got out of elevator at floor %s", floor.getFloorNumber()));
+        SimulationLog.debug("Passenger got out of elevator at floor %s", floor.getFloorNumber());
     }
 
     /**
@@ -111,7 +152,7 @@ public abstract class BuildingOccupant {
                 return true;
             }
             // Or it's about to change direction
-            else if (!elevator.shouldElevatorTravelToFloors(elevator.getFloorsAbove(floors))) {
+            else if (!elevator.shouldElevatorTravelAbove(floors)) {
                 return true;
             }
         } else if (elevatorDirection == ElevatorDirection.DOWN) {
@@ -120,7 +161,7 @@ public abstract class BuildingOccupant {
                 return true;
             }
             // Or it's about to change direction
-            else if (!elevator.shouldElevatorTravelToFloors(elevator.getFloorsBelow(floors))) {
+            else if (!elevator.shouldElevatorTravelBelow(floors)) {
                 return true;
             }
         }
@@ -144,18 +185,35 @@ public abstract class BuildingOccupant {
      */
     protected void resetQueueTimer(int currentTime) {
         if (queueEntryTime >= 0) {
-            waitTimes.add(currentTime - queueEntryTime);
+            int waitTime = currentTime - queueEntryTime;
+            numberOfWaits++;
+            totalWaitTime += waitTime;
+            if (keepingWaitHistory) {
+                if (waitHistory == null) {
+                    waitHistory = new int[4];
+                } else if (numberOfWaits > waitHistory.length) {
+                    waitHistory = Arrays.copyOf(waitHistory, waitHistory.length * 2);
+                }
+                waitHistory[numberOfWaits - 1] = waitTime;
+            }
+            if (building != null) {
+                building.recordWaitTime(waitTime);
+            }
         }
         queueEntryTime = -1;
     }
 
     /**
-     * Removes the occupant from the building
+     * Removes the occupant from the building and signs them out
      *
      * @param currentFloor the current floor the occupant is on (should be ground)
+     * @param currentTime the current simulation time
      */
-    protected void leaveBuilding(Floor currentFloor) {
+    public void leaveBuilding(Floor currentFloor, int currentTime) {
         currentFloor.removeOccupant(this);
+        if (building != null) {
+            building.signOut(this, currentTime);
+        }
     }
 
     /**
@@ -163,27 +221,138 @@ public abstract class BuildingOccupant {
      * @param building the building to enter
      */
     public void enterBuilding(Building building) {
+        this.building = building;
+        keepingWaitHistory = building.isKeepingWaitHistory();
+        if (!keepingWaitHistory) {
+            waitHistory = null;
+        }
         building.signIn(this);
     }
 
+    /**
+     * Puts back the state of an occupant read from a checkpoint. The occupant must not yet be in an elevator.
+     *
+     * @param building the building the occupant entered or null if they never entered one
+     * @param destination the destination floor
+     * @param destinationArrivalTime the time the occupant last arrived at their destination
+     * @param queueEntryTime the time the occupant joined a queue or -1 if they aren't waiting
+     * @param numberOfWaits the number of waits the occupant has had
+     * @param totalWaitTime the total of those waits
+     * @param keepingWaitHistory whether every wait is being kept
+     * @param waitHistory every wait in the order they happened, only used if the history is being kept
+     */
+    void restoreState(Building building, Floor destination, int destinationArrivalTime, int queueEntryTime,
+                      int numberOfWaits, long totalWaitTime, boolean keepingWaitHistory, int[] waitHistory) {
+        this.building = building;
+        this.destination = destination;
+        this.destinationArrivalTime = destinationArrivalTime;
+        this.queueEntryTime = queueEntryTime;
+        this.numberOfWaits = numberOfWaits;
+        this.totalWaitTime = totalWaitTime;
+        this.keepingWaitHistory = keepingWaitHistory;
+        this.waitHistory = keepingWaitHistory && waitHistory.length > 0 ? waitHistory : null;
+    }
+
+    Building getBuilding() {
+        return building;
+    }
+
+    int getDestinationArrivalTime() {
+        return destinationArrivalTime;
+    }
+
+    boolean isKeepingWaitHistory() {
+        return keepingWaitHistory;
+    }
+
+    public int getTimeEntered() {
+        return timeEntered;
+    }
+
     public int getSize() {
         return occupantSize;
     }
 
+    /**
+     * Gets the floor the occupant is currently standing on, this is kept up to date by the floor itself as occupants
+     * are added and removed.
+     *
+     * @return the current floor or null if the occupant is not on a floor
+     */
+    public Floor getCurrentFloor() {
+        return currentFloor;
+    }
+
+    void setCurrentFloor(Floor currentFloor) {
+        this.currentFloor = currentFloor;
+    }
+
+    /**
+     * Gets the elevator the occupant is currently riding, this is kept up to date by the elevator itself as passengers
+     * get in and out.
+     *
+     * @return the elevator or null if the occupant is not in an elevator
+     */
+    public Elevator getElevator() {
+        return elevator;
+    }
+
+    void setElevator(Elevator elevator) {
+        this.elevator = elevator;
+    }
+
+    ElevatorQueue.Node getQueueNode() {
+        return queueNode;
+    }
+
+    void setQueueNode(ElevatorQueue.Node queueNode) {
+        this.queueNode = queueNode;
+    }
+
+    int getQueueEntries() {
+        return queueEntries;
+    }
+
+    void setQueueEntries(int queueEntries) {
+        this.queueEntries = queueEntries;
+    }
+
     public Floor getDestination() {
         return destination;
     }
 
     public void setDestination(Floor destination) {
+        Floor oldDestination = this.destination;
         this.destination = destination;
+        // The elevator counts its passengers by destination
+        if (elevator != null && oldDestination != destination) {
+            elevator.passengerDestinationChanged(oldDestination, destination);
+        }
     }
 
     public int getQueueEntryTime() {
         return queueEntryTime;
     }
 
-    public List<Integer> getWaitTimes() {
-        return waitTimes;
+    public int getNumberOfWaits() {
+        return numberOfWaits;
+    }
+
+    public long getTotalWaitTime() {
+        return totalWaitTime;
+    }
+
+    /**
+     * Gets every wait the occupant has had in the order they happened
+     *
+     * @return a copy of the wait times in seconds
+     * @throws IllegalStateException if the occupant is in a building that isn't keeping wait histories
+     */
+    public int[] getWaitTimes() {
+        if (!keepingWaitHistory) {
+            throw new IllegalStateException("Wait history is not being kept for this occupant");
+        }
+        return waitHistory == null ? new int[0] : Arrays.copyOf(waitHistory, numberOfWaits);
     }
 
 }
@@ -1,8 +1,8 @@
 package uk.ac.aston.dc2300.model.entity;
 
 import uk.ac.aston.dc2300.utility.RandomUtils;
+import uk.ac.aston.dc2300.utility.logging.SimulationLog;
 
-import java.math.BigDecimal;
 import java.util.List;
 
 /**
@@ -13,6 +13,18 @@ import java.util.List;
  */
 public class Client extends BuildingOccupant {
 
+    /**
+     * The time in seconds a client will queue for before complaining
+     */
+    public static final int COMPLAINT_WAIT_TIME = 600;
+
+    /**
+     * The shortest and longest time in minutes a client will stay at their destination floor, chosen at random when
+     * they arrive
+     */
+    public static final int MINIMUM_STAY_MINUTES = 10;
+    public static final int MAXIMUM_STAY_MINUTES = 30;
+
     private int leaveAfterArrivalTime;
     private boolean isLeaving;
 
@@ -33,7 +45,7 @@ public class Client extends BuildingOccupant {
     }
 
     @Override
-    public void setNewDestination(Building building, RandomUtils randomUtils, BigDecimal probability, int currentTime) {
+    public void setNewDestination(Building building, RandomUtils randomUtils, double probability, int currentTime) {
         Floor currentFloor = building.getFloorContainingOccupant(this);
         Floor groundFloor = building.getFloors().get(0);
         // If the client has just arrived in the building
@@ -43,24 +55,24 @@ public class Client extends BuildingOccupant {
             int randomFloorIndex = randomUtils.getIntInRange(0, bottomHalfFloors.size() - 1);
             Floor destination = bottomHalfFloors.get(randomFloorIndex);
             setDestination(destination);
-            System.out.println(String.format("Client arrived on floor %s set destination floor %s", currentFloor.getFloorNumber(), destination.getFloorNumber()));
+            SimulationLog.info("Client arrived on floor %s set destination floor %s", currentFloor.getFloorNumber(), destination.getFloorNumber());
             // If we're already there - lets not join the queue!
             if (currentFloor != destination) {
                 callElevator(currentFloor, currentTime);
             }
         } else if (currentFloor.equals(groundFloor) && isLeaving) {
             // If they're on the ground floor and they have the intent to leave. Leave the building.
-            leaveBuilding(currentFloor);
-            System.out.println("Client has left the building");
+            leaveBuilding(currentFloor, currentTime);
+            SimulationLog.info("Client has left the building");
         } else if (destination.equals(currentFloor) && currentTime >= destinationArrivalTime + leaveAfterArrivalTime) { // If they're at their destination and they want to leave
             // Set destination to ground floor to leave
             setDestination(groundFloor);
-            System.out.println(String.format("Client on floor %s set destination floor %s", currentFloor.getFloorNumber(), destination.getFloorNumber()));
+            SimulationLog.info("Client on floor %s set destination floor %s", currentFloor.getFloorNumber(), destination.getFloorNumber());
             if (currentFloor != destination) {
                 callElevator(currentFloor, currentTime);
             } else {
-                leaveBuilding(currentFloor);
-                System.out.println("Client has left the building");
+                leaveBuilding(currentFloor, currentTime);
+                SimulationLog.info("Client has left the building");
             }
         }
     }
@@ -84,7 +96,7 @@ public class Client extends BuildingOccupant {
      * @return to complain or not to complain (that is the question)
      */
     public boolean wouldLikeToComplain(int currentTime) {
-        return getQueueEntryTime() > -1 && (currentTime - getQueueEntryTime()) >= 600;
+        return getQueueEntryTime() > -1 && (currentTime - getQueueEntryTime()) >= COMPLAINT_WAIT_TIME;
     }
 
     /**
@@ -99,4 +111,16 @@ public class Client extends BuildingOccupant {
         isLeaving = true;
     }
 
+    public int getLeaveAfterArrivalTime() {
+        return leaveAfterArrivalTime;
+    }
+
+    boolean isLeaving() {
+        return isLeaving;
+    }
+
+    void setLeaving(boolean isLeaving) {
+        this.isLeaving = isLeaving;
+    }
+
 }
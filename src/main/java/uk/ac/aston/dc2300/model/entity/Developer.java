@@ -2,8 +2,8 @@ package uk.ac.aston.dc2300.model.entity;
 
 import uk.ac.aston.dc2300.model.status.DeveloperCompany;
 import uk.ac.aston.dc2300.utility.RandomUtils;
+import uk.ac.aston.dc2300.utility.logging.SimulationLog;
 
-import java.math.BigDecimal;
 import java.util.List;
 
 /**
@@ -32,9 +32,19 @@ public class Developer extends BuildingOccupant {
     }
 
     @Override
-    public void setNewDestination(Building building, RandomUtils randomUtils, BigDecimal probability, int currentTime) {
-        if (randomUtils.getBigDecimal().compareTo(probability) <= 0) {
-            Floor currentFloor = building.getFloorContainingOccupant(this);
+    public void setNewDestination(Building building, RandomUtils randomUtils, double probability, int currentTime) {
+        Floor currentFloor = building.getFloorContainingOccupant(this);
+        Floor destination = chooseRandomDestination(building, currentFloor, randomUtils, probability);
+        if (destination != null) {
+            setDestination(destination);
+            SimulationLog.debug("Developer on floor %s set destination floor %s", currentFloor.getFloorNumber(), destination.getFloorNumber());
+            callElevator(currentFloor, currentTime);
+        }
+    }
+
+    @Override
+    public Floor chooseRandomDestination(Building building, Floor currentFloor, RandomUtils randomUtils, double probability) {
+        if (randomUtils.getDouble() <= probability) {
             // Assign developers a floor in the top half
             List<Floor> topHalfFloors = building.getTopHalfFloors();
             int randomFloorIndex = randomUtils.getIntInRange(0, topHalfFloors.size() - 1);
@@ -42,11 +52,14 @@ public class Developer extends BuildingOccupant {
                 // If random floor is current floor try again
                 randomFloorIndex = randomUtils.getIntInRange(0, topHalfFloors.size() - 1);
             }
-            Floor destination = topHalfFloors.get(randomFloorIndex);
-            setDestination(destination);
-            System.out.println(String.format("Developer on floor %s set destination floor %s", currentFloor.getFloorNumber(), destination.getFloorNumber()));
-            callElevator(currentFloor, currentTime);
+            return topHalfFloors.get(randomFloorIndex);
         }
+        return null;
+    }
+
+    @Override
+    public boolean choosesRandomDestination() {
+        return true;
     }
 
     @Override
@@ -55,11 +68,11 @@ public class Developer extends BuildingOccupant {
         floor.removeFromQueue(this);
         // If we have rivals in the elevator.
         if (elevatorContainsRival(elevator)) {
-            System.out.println("Developer rejecting elevator due to rival.");
+            SimulationLog.debug("Developer rejecting elevator due to rival.");
             // Enter the back of the queue
             floor.addToBackOfQueue(this);
         } else {
-            System.out.println("Developer accepting elevator due to no rivals.");
+            SimulationLog.debug("Developer accepting elevator due to no rivals.");
             // Leave the floor
             floor.removeOccupant(this);
             // Get in the elevator
@@ -75,12 +88,7 @@ public class Developer extends BuildingOccupant {
      * @return whether or not the elevator contains a rival
      */
     private boolean elevatorContainsRival(Elevator elevator) {
-        for (BuildingOccupant passenger : elevator.getOccupants()) {
-            if (passenger instanceof Developer && ((Developer) passenger).getCompany() != this.company) {
-                return true;
-            }
-        }
-        return false;
+        return elevator.containsRivalOf(company);
     }
 
     public DeveloperCompany getCompany() {
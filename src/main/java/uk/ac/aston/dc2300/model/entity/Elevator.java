@@ -1,8 +1,10 @@
 package uk.ac.aston.dc2300.model.entity;
 
+import uk.ac.aston.dc2300.model.status.DeveloperCompany;
 import uk.ac.aston.dc2300.model.status.ElevatorDirection;
 import uk.ac.aston.dc2300.model.status.ElevatorDoorStatus;
 import uk.ac.aston.dc2300.model.status.ElevatorMovementStatus;
+import uk.ac.aston.dc2300.utility.logging.SimulationLog;
 
 import java.util.*;
 
@@ -23,13 +25,42 @@ public class Elevator {
     private Floor currentFloor;
 
     private List<BuildingOccupant> currentOccupants;
-    private List<BuildingOccupant> occupantsLastTick;
+    private List<BuildingOccupant> occupantsView;
 
     private final int MAX_CAPACITY;
 
     private ElevatorDoorStatus doorStatus;
     private ElevatorMovementStatus movementStatus;
 
+    // Running totals kept up to date as passengers get in and out so nothing has to scan the passengers
+    private int usedCapacity;
+    private int[] passengersPerFloor;
+    private final BitSet passengerDestinations;
+    private final int[] developersPerCompany;
+    private int developerCount;
+
+    // Incremented whenever a passenger gets in or out
+    private int modCount;
+
+    // The passengers at the last door update, the doors stay open while passengers are getting in or out
+    private int modCountLastTick;
+    private int occupantCountLastTick;
+
+    // Answers to whether anybody needs the elevator above, at or below its current floor. These are only reused while
+    // the elevator is running one of its phases and are recomputed as soon as a passenger gets in or out or the
+    // current floor queue empties or fills, nothing else can change during a phase.
+    private static final byte UNKNOWN = 0;
+    private static final byte NOBODY_PENDING = 1;
+    private static final byte SOMEBODY_PENDING = 2;
+    private boolean pendingCacheActive;
+    private byte pendingAbove;
+    private byte pendingHere;
+    private byte pendingBelow;
+    private List<Floor> pendingCacheFloors;
+    private Floor pendingCacheFloor;
+    private int pendingCacheModCount;
+    private boolean pendingCacheFloorWaiting;
+
     /**
      * @param maxCapacity the maximum amount of spaces available inside the elevator
      * @param currentFloor the floor at which the elevator is to start
@@ -39,7 +70,10 @@ public class Elevator {
         this.currentFloor = currentFloor;
         previousFloor = currentFloor;
         currentOccupants = new ArrayList<>();
-        occupantsLastTick = new ArrayList<>();
+        occupantsView = Collections.unmodifiableList(currentOccupants);
+        passengersPerFloor = new int[currentFloor.getFloorNumber() + 1];
+        passengerDestinations = new BitSet();
+        developersPerCompany = new int[DeveloperCompany.values().length];
         doorStatus = CLOSED;
         movementStatus = STATIONARY;
     }
@@ -51,15 +85,20 @@ public class Elevator {
      * @param floors list of floors in the building
      */
     public void moveIfRequested(List<Floor> floors) {
-        if (movementStatus.equals(MOVING)) {
-            movementStatus = STATIONARY;
-        } else {
-            if (whichDirectionNext(floors) == ElevatorDirection.UP
-                    && shouldElevatorTravelToFloors(getFloorsAbove(floors))) { // Have to check in-case on ground floor
-                moveUp(floors);
-            } else if (whichDirectionNext(floors) == ElevatorDirection.DOWN) {
-                moveDown(floors);
+        beginPhase();
+        try {
+            if (movementStatus.equals(MOVING)) {
+                movementStatus = STATIONARY;
+            } else {
+                if (whichDirectionNext(floors) == ElevatorDirection.UP
+                        && shouldElevatorTravelAbove(floors)) { // Have to check in-case on ground floor
+                    moveUp(floors);
+                } else if (whichDirectionNext(floors) == ElevatorDirection.DOWN) {
+                    moveDown(floors);
+                }
             }
+        } finally {
+            endPhase();
         }
     }
 
@@ -70,27 +109,27 @@ public class Elevator {
      * @return ElevatorDirection UP or DOWN
      */
     public ElevatorDirection whichDirectionNext(List<Floor> floors) {
-        if (currentFloor.getFloorNumber() != 0 && !shouldElevatorTravelToFloors(floors)) { // There's nobody waiting return to ground floor
+        if (currentFloor.getFloorNumber() != 0 && !shouldElevatorTravelAnywhere(floors)) { // There's nobody waiting return to ground floor
             return ElevatorDirection.DOWN;
         } else if (currentFloor.getFloorNumber() == 0) { // The elevator is currently on the ground floor
             return ElevatorDirection.UP;
         } else if(currentFloor.getFloorNumber() > previousFloor.getFloorNumber()){ // If the elevator last moved up
             // If there's anyone waiting above then continue moving up
-            if (shouldElevatorTravelToFloors(getFloorsAbove(floors))) {
+            if (shouldElevatorTravelAbove(floors)) {
                 return ElevatorDirection.UP;
             } else {
                 // Otherwise move down if there's people below
-                if (shouldElevatorTravelToFloors(getFloorsBelow(floors))) {
+                if (shouldElevatorTravelBelow(floors)) {
                     return ElevatorDirection.DOWN;
                 }
             }
         } else if (currentFloor.getFloorNumber() < previousFloor.getFloorNumber()) { // If the elevator last moved down
             // If there's anyone waiting below then continue moving down
-            if (shouldElevatorTravelToFloors(getFloorsBelow(floors))) {
+            if (shouldElevatorTravelBelow(floors)) {
                 return ElevatorDirection.DOWN;
             } else {
                 // Otherwise move up if there's people above
-                if (shouldElevatorTravelToFloors(getFloorsAbove(floors))) {
+                if (shouldElevatorTravelAbove(floors)) {
                     return ElevatorDirection.UP;
                 }
             }
@@ -105,26 +144,41 @@ public class Elevator {
      * @param floors list of floors in the building
      */
     public void updateDoorStatus(List<Floor> floors) {
+        beginPhase();
+        try {
+            updateDoorStatusForPhase(floors);
+        } finally {
+            endPhase();
+        }
+    }
+
+    /**
+     * Carries out updateDoorStatus once the direction answers can be reused
+     *
+     * @param floors list of floors in the building
+     */
+    private void updateDoorStatusForPhase(List<Floor> floors) {
         switch (doorStatus) {
             case OPENING:
                 // If the doors are opening, finish opening them
                 doorStatus = OPEN;
-                System.out.println("Elevator doors are now open");
+                SimulationLog.debug("Elevator doors are now open");
                 break;
             case CLOSING:
                 // If the doors are closing, finish closing them
                 doorStatus = CLOSED;
-                System.out.println("Elevator doors are now closed");
+                SimulationLog.debug("Elevator doors are now closed");
                 break;
             case OPEN:
                 // If the doors are open and nobody entered last tick then begin closing doors
-                if (currentOccupants.equals(occupantsLastTick)) closeDoors();
+                if (modCount == modCountLastTick) closeDoors();
                 break;
             case CLOSED:
                 // Check if anyone is waiting outside elevator
                 boolean occupantsWaitingToEnter = false;
-                for (BuildingOccupant buildingOccupant : currentFloor.getElevatorQueue()) {
-                    if (buildingOccupant.travellingInSameDirection(this, floors)) {
+                List<BuildingOccupant> elevatorQueue = currentFloor.getElevatorQueue();
+                for (int i = 0; i < elevatorQueue.size(); i++) {
+                    if (elevatorQueue.get(i).travellingInSameDirection(this, floors)) {
                         occupantsWaitingToEnter = true;
                         break;
                     }
@@ -135,8 +189,8 @@ public class Elevator {
 
         }
         // Make the previous stored tick become this one
-        occupantsLastTick.clear();
-        occupantsLastTick.addAll(currentOccupants);
+        modCountLastTick = modCount;
+        occupantCountLastTick = currentOccupants.size();
     }
 
     /**
@@ -147,13 +201,35 @@ public class Elevator {
      * @param currentTime the current simulation time
      */
     public void loadPassengers(List<Floor> floors, int currentTime) {
+        beginPhase();
+        try {
+            loadPassengersForPhase(floors, currentTime);
+        } finally {
+            endPhase();
+        }
+    }
+
+    /**
+     * Carries out loadPassengers once the direction answers can be reused
+     *
+     * @param floors list of floors in the building
+     * @param currentTime the current simulation time
+     */
+    private void loadPassengersForPhase(List<Floor> floors, int currentTime) {
         if (doorStatus.equals(OPEN)) { // Only load if the doors are open
-            // Create a copy of the occupants to allow for concurrent modification
-            List<BuildingOccupant> elevatorQueue = new ArrayList<>(currentFloor.getElevatorQueue());
-            for (BuildingOccupant buildingOccupant : elevatorQueue) {
-                int usedCapacity = getUsedCapacity();
+            // Visit each occupant once in the order they were queuing when loading began. Developers with a rival in
+            // the elevator would only rejoin the back of the queue so the queue skips them and moves them all at the end.
+            ElevatorQueue elevatorQueue = currentFloor.getElevatorQueue();
+            elevatorQueue.startBoarding();
+            boolean full = false;
+            while (true) {
                 // If the elevator is full then stop loading
                 if (MAX_CAPACITY == usedCapacity) {
+                    full = true;
+                    break;
+                }
+                BuildingOccupant buildingOccupant = elevatorQueue.nextBoarding(this);
+                if (buildingOccupant == null) {
                     break;
                 }
                 if (usedCapacity + buildingOccupant.getSize() <= MAX_CAPACITY &&
@@ -161,6 +237,10 @@ public class Elevator {
                     loadPassenger(buildingOccupant, currentTime);
                 }
             }
+            int rejected = elevatorQueue.finishBoarding(this, full);
+            if (rejected > 0) {
+                SimulationLog.debug("%s developers rejecting elevator due to rival.", rejected);
+            }
         }
     }
 
@@ -172,7 +252,7 @@ public class Elevator {
      */
     private void loadPassenger(BuildingOccupant buildingOccupant, int currentTime) {
         buildingOccupant.getInElevator(this, currentFloor, currentTime);
-        System.out.println(String.format("Picked up new passenger going to floor %s", buildingOccupant.getDestination().getFloorNumber()));
+        SimulationLog.debug("Picked up new passenger going to floor %s", buildingOccupant.getDestination().getFloorNumber());
     }
 
     /**
@@ -183,10 +263,15 @@ public class Elevator {
      */
     public void unloadPassengers(int currentTime) {
         if (doorStatus.equals(OPEN)) { // Only unload if doors are open
-            // Create a copy of the occupants to allow for concurrent modification
-            List<BuildingOccupant> elevatorOccupants = new ArrayList<>(currentOccupants);
-            for (BuildingOccupant buildingOccupant : elevatorOccupants) {
+            // Walk the occupants in place, only moving on when the current occupant stayed in the elevator, and stop
+            // as soon as everybody getting off here has got off
+            int index = 0;
+            while (index < currentOccupants.size() && anyPassengerDestinationCurrentFloor()) {
+                BuildingOccupant buildingOccupant = currentOccupants.get(index);
                 buildingOccupant.getOutElevatorIfAtDestination(this, currentFloor, currentTime);
+                if (index < currentOccupants.size() && currentOccupants.get(index) == buildingOccupant) {
+                    index++;
+                }
             }
         }
     }
@@ -218,39 +303,143 @@ public class Elevator {
      * @return boolean status true=passengersWaiting, false=noneWaiting
      */
     public boolean shouldElevatorTravelToFloors(List<Floor> floors) {
-        return occupantsWaitingOnFloors(floors) || occupantsWaitingForFloors(floors);
+        return shouldElevatorTravelToFloors(floors, 0, floors.size());
     }
 
     /**
-     * Checks if there are any occupants waiting to get in from the given floors
+     * Checks if anyone is waiting to be collected from or travel to any floor above the current elevator location
      *
-     * @param floors the floors to check
+     * @param floors list of all the floors in the building
+     * @return boolean status true=passengersWaiting, false=noneWaiting
+     */
+    public boolean shouldElevatorTravelAbove(List<Floor> floors) {
+        validatePendingCache(floors);
+        if (pendingAbove == UNKNOWN) {
+            pendingAbove = toPending(shouldElevatorTravelToFloors(floors, currentFloor.getFloorNumber() + 1, floors.size()));
+        }
+        return pendingAbove == SOMEBODY_PENDING;
+    }
+
+    /**
+     * Checks if anyone is waiting to be collected from or travel to any floor below the current elevator location
+     *
+     * @param floors list of all the floors in the building
+     * @return boolean status true=passengersWaiting, false=noneWaiting
+     */
+    public boolean shouldElevatorTravelBelow(List<Floor> floors) {
+        validatePendingCache(floors);
+        if (pendingBelow == UNKNOWN) {
+            pendingBelow = toPending(shouldElevatorTravelToFloors(floors, 0, currentFloor.getFloorNumber()));
+        }
+        return pendingBelow == SOMEBODY_PENDING;
+    }
+
+    /**
+     * Checks if anyone is waiting to be collected from or travel to any floor in the building, including the current one
+     *
+     * @param floors list of all the floors in the building
+     * @return boolean status true=passengersWaiting, false=noneWaiting
+     */
+    private boolean shouldElevatorTravelAnywhere(List<Floor> floors) {
+        validatePendingCache(floors);
+        if (pendingHere == UNKNOWN) {
+            int floorNumber = currentFloor.getFloorNumber();
+            pendingHere = toPending(shouldElevatorTravelToFloors(floors, floorNumber, floorNumber + 1));
+        }
+        return pendingHere == SOMEBODY_PENDING || shouldElevatorTravelBelow(floors) || shouldElevatorTravelAbove(floors);
+    }
+
+    /**
+     * Starts one of the elevator phases, the answers to whether anybody needs the elevator can be reused until the
+     * phase ends
+     */
+    private void beginPhase() {
+        pendingCacheActive = true;
+        clearPendingCache();
+    }
+
+    /**
+     * Ends the current phase, outside of a phase everything else in the building may change so answers are never reused
+     */
+    private void endPhase() {
+        pendingCacheActive = false;
+        clearPendingCache();
+    }
+
+    /**
+     * Forgets the cached answers if they can't be reused, either because no phase is running or because something they
+     * depend on has changed since they were worked out
+     *
+     * @param floors list of all the floors in the building
+     */
+    private void validatePendingCache(List<Floor> floors) {
+        boolean currentFloorWaiting = currentFloor.isAnyoneWaiting();
+        if (!pendingCacheActive || pendingCacheFloors != floors || pendingCacheFloor != currentFloor
+                || pendingCacheModCount != modCount || pendingCacheFloorWaiting != currentFloorWaiting) {
+            clearPendingCache();
+            pendingCacheFloors = floors;
+            pendingCacheFloor = currentFloor;
+            pendingCacheModCount = modCount;
+            pendingCacheFloorWaiting = currentFloorWaiting;
+        }
+    }
+
+    private void clearPendingCache() {
+        pendingAbove = UNKNOWN;
+        pendingHere = UNKNOWN;
+        pendingBelow = UNKNOWN;
+    }
+
+    private static byte toPending(boolean somebodyPending) {
+        return somebodyPending ? SOMEBODY_PENDING : NOBODY_PENDING;
+    }
+
+    /**
+     * Checks if anyone is waiting to be collected or travel to the floors in the given range, this avoids creating a
+     * sublist of the floors on every check
+     *
+     * @param floors list of all the floors in the building
+     * @param fromIndex index of the first floor to check (inclusive)
+     * @param toIndex index of the last floor to check (exclusive)
+     * @return boolean status true=passengersWaiting, false=noneWaiting
+     */
+    private boolean shouldElevatorTravelToFloors(List<Floor> floors, int fromIndex, int toIndex) {
+        return occupantsWaitingOnFloors(floors, fromIndex, toIndex)
+                || occupantsWaitingForFloors(floors, fromIndex, toIndex);
+    }
+
+    /**
+     * Checks if there are any occupants waiting to get in from the floors in the given range
+     *
+     * @param floors list of all the floors in the building
+     * @param fromIndex index of the first floor to check (inclusive)
+     * @param toIndex index of the last floor to check (exclusive)
      * @return waiting or not
      */
-    private boolean occupantsWaitingOnFloors(List<Floor> floors) {
-        for (Floor floor : floors) {
+    private boolean occupantsWaitingOnFloors(List<Floor> floors, int fromIndex, int toIndex) {
+        // When the floors are those of a building, ask the building which keeps track of the floors with a queue
+        Building building = currentFloor.getBuilding();
+        if (building != null && building.getFloors() == floors) {
+            return building.isAnyoneWaitingBetween(fromIndex, toIndex);
+        }
+        for (int i = fromIndex; i < toIndex; i++) {
             // If there's someone queuing on that floor
-            if (floor.isAnyoneWaiting()) return true;
+            if (floors.get(i).isAnyoneWaiting()) return true;
         }
         return false;
     }
 
     /**
-     * Checks if there are any occupants waiting to go to the given floors
+     * Checks if there are any occupants waiting to go to the floors in the given range
      *
-     * @param floors the floors to check
+     * @param floors list of all the floors in the building
+     * @param fromIndex index of the first floor to check (inclusive)
+     * @param toIndex index of the last floor to check (exclusive)
      * @return waiting or not
      */
-    private boolean occupantsWaitingForFloors(List<Floor> floors) {
-        for (Floor floor : floors) {
-            for (BuildingOccupant buildingOccupant : currentOccupants) {
-                // If someone currently in the elevator wants to go to that floor
-                if (buildingOccupant.getDestination().equals(floor)) {
-                    return true;
-                }
-            }
-        }
-        return false;
+    private boolean occupantsWaitingForFloors(List<Floor> floors, int fromIndex, int toIndex) {
+        int destination = passengerDestinations.nextSetBit(fromIndex);
+        return destination >= 0 && destination < toIndex;
     }
 
     /**
@@ -259,12 +448,49 @@ public class Elevator {
      * @return passengers waiting or not
      */
     private boolean anyPassengerDestinationCurrentFloor() {
-        for (BuildingOccupant buildingOccupant : currentOccupants) {
-            if (buildingOccupant.getDestination().equals(currentFloor)) {
-                return true;
-            }
+        return passengerDestinations.get(currentFloor.getFloorNumber());
+    }
+
+    /**
+     * Checks whether the elevator is carrying a developer from a company other than the one given
+     *
+     * @param company the company of the developer wanting to get in
+     * @return whether or not a rival is in the elevator
+     */
+    public boolean containsRivalOf(DeveloperCompany company) {
+        return developerCount > developersPerCompany[company.ordinal()];
+    }
+
+    /**
+     * Moves a passenger from one destination total to another when they change their mind while in the elevator
+     *
+     * @param oldDestination the floor the passenger was going to
+     * @param newDestination the floor the passenger is now going to
+     */
+    void passengerDestinationChanged(Floor oldDestination, Floor newDestination) {
+        removeDestination(oldDestination);
+        addDestination(newDestination);
+        // Nobody got in or out so the doors don't care, but where the elevator needs to go may have changed
+        clearPendingCache();
+    }
+
+    private void addDestination(Floor destination) {
+        if (destination == null) return;
+        int floorNumber = destination.getFloorNumber();
+        if (floorNumber >= passengersPerFloor.length) {
+            passengersPerFloor = Arrays.copyOf(passengersPerFloor, Math.max(floorNumber + 1, passengersPerFloor.length * 2));
+        }
+        if (passengersPerFloor[floorNumber]++ == 0) {
+            passengerDestinations.set(floorNumber);
+        }
+    }
+
+    private void removeDestination(Floor destination) {
+        if (destination == null) return;
+        int floorNumber = destination.getFloorNumber();
+        if (--passengersPerFloor[floorNumber] == 0) {
+            passengerDestinations.clear(floorNumber);
         }
-        return false;
     }
 
     /**
@@ -274,6 +500,14 @@ public class Elevator {
      */
     public void addOccupant(BuildingOccupant buildingOccupant) {
         currentOccupants.add(buildingOccupant);
+        buildingOccupant.setElevator(this);
+        usedCapacity += buildingOccupant.getSize();
+        addDestination(buildingOccupant.getDestination());
+        if (buildingOccupant instanceof Developer) {
+            developersPerCompany[((Developer) buildingOccupant).getCompany().ordinal()]++;
+            developerCount++;
+        }
+        modCount++;
     }
 
     /**
@@ -282,7 +516,16 @@ public class Elevator {
      * @param buildingOccupant the BuildingOccupant to be removed
      */
     public void removeOccupant(BuildingOccupant buildingOccupant) {
-        currentOccupants.remove(buildingOccupant);
+        if (currentOccupants.remove(buildingOccupant)) {
+            buildingOccupant.setElevator(null);
+            usedCapacity -= buildingOccupant.getSize();
+            removeDestination(buildingOccupant.getDestination());
+            if (buildingOccupant instanceof Developer) {
+                developersPerCompany[((Developer) buildingOccupant).getCompany().ordinal()]--;
+                developerCount--;
+            }
+            modCount++;
+        }
     }
 
     /**
@@ -296,7 +539,7 @@ public class Elevator {
             previousFloor = currentFloor;
             // Increment current floor
             currentFloor = floors.get(currentFloor.getFloorNumber() + 1);
-            System.out.println(String.format("Elevator moving up from floor %s to floor %s", previousFloor.getFloorNumber(), currentFloor.getFloorNumber()));
+            SimulationLog.debug("Elevator moving up from floor %s to floor %s", previousFloor.getFloorNumber(), currentFloor.getFloorNumber());
         }
     }
 
@@ -311,7 +554,7 @@ public class Elevator {
             previousFloor = currentFloor;
             // Decrement current floor
             currentFloor = floors.get(currentFloor.getFloorNumber() - 1);
-            System.out.println(String.format("Elevator moving down from floor %s to floor %s", previousFloor.getFloorNumber(), currentFloor.getFloorNumber()));
+            SimulationLog.debug("Elevator moving down from floor %s to floor %s", previousFloor.getFloorNumber(), currentFloor.getFloorNumber());
         }
     }
 
@@ -319,7 +562,7 @@ public class Elevator {
      * Sets the doorStatus to opening which takes one tick to complete
      */
     private void openDoors() {
-        System.out.println("Opening elevator doors");
+        SimulationLog.debug("Opening elevator doors");
         doorStatus = OPENING;
     }
 
@@ -327,33 +570,88 @@ public class Elevator {
      * Sets the doorStatus to closing which takes one tick to complete
      */
     private void closeDoors() {
-        System.out.println("Closing elevator doors");
+        SimulationLog.debug("Closing elevator doors");
         doorStatus = CLOSING;
     }
 
+    /**
+     * Checks whether the elevator is parked on the ground floor, empty, stationary and with its doors closed. A parked
+     * elevator does nothing on a tick unless somebody in the building is queuing for it.
+     *
+     * @return parked or not
+     */
+    public boolean isParked() {
+        return currentFloor.getFloorNumber() == 0 && doorStatus.equals(CLOSED) && movementStatus.equals(STATIONARY)
+                && currentOccupants.isEmpty() && occupantCountLastTick == 0;
+    }
+
     /**
      * Gets the current amount of space that is being used up in the elevator
      *
      * @return int of used capacity
      */
-    private int getUsedCapacity() {
-        int usedCapacity = 0;
-        for (BuildingOccupant buildingOccupant : currentOccupants) {
-            usedCapacity += buildingOccupant.getSize();
-        }
+    public int getUsedCapacity() {
         return usedCapacity;
     }
 
+    /**
+     * Puts back the state of an elevator read from a checkpoint, once its passengers have got back in
+     *
+     * @param previousFloor the floor the elevator was at before its current floor
+     * @param doorStatus the status of the doors
+     * @param movementStatus whether the elevator is moving
+     * @param changedSinceLastTick whether a passenger has got in or out since the last door update
+     * @param occupantCountLastTick the number of passengers at the last door update
+     */
+    void restoreState(Floor previousFloor, ElevatorDoorStatus doorStatus, ElevatorMovementStatus movementStatus,
+                      boolean changedSinceLastTick, int occupantCountLastTick) {
+        this.previousFloor = previousFloor;
+        this.doorStatus = doorStatus;
+        this.movementStatus = movementStatus;
+        this.modCountLastTick = changedSinceLastTick ? modCount - 1 : modCount;
+        this.occupantCountLastTick = occupantCountLastTick;
+    }
+
+    /**
+     * Checks whether a passenger has got in or out since the last door update
+     *
+     * @return changed or not
+     */
+    boolean isChangedSinceLastTick() {
+        return modCount != modCountLastTick;
+    }
+
+    int getOccupantCountLastTick() {
+        return occupantCountLastTick;
+    }
+
+    Floor getPreviousFloor() {
+        return previousFloor;
+    }
+
+    public int getMaxCapacity() {
+        return MAX_CAPACITY;
+    }
+
     public Floor getCurrentFloor() {
         return currentFloor;
     }
 
+    /**
+     * Gets the passengers in the elevator, this can't be changed directly as the elevator keeps totals of who is in it
+     *
+     * @return the passengers in the order they got in
+     */
     public List<BuildingOccupant> getOccupants() {
-        return currentOccupants;
+        return occupantsView;
     }
 
     public ElevatorDoorStatus getDoorStatus() {
         return doorStatus;
     }
 
+    public ElevatorMovementStatus getMovementStatus() {
+        return movementStatus;
+    }
+
 }
@@ -0,0 +1,491 @@
+package uk.ac.aston.dc2300.model.entity;
+
+import uk.ac.aston.dc2300.model.status.DeveloperCompany;
+
+import java.util.AbstractList;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * This class represents the queue of occupants waiting for an elevator on a floor. Occupants who are allowed to jump
+ * the queue join a priority lane at the front, most recent first, and everybody else joins a normal lane at the back,
+ * so the queue reads the priority lane followed by the normal lane exactly as if everyone had been put into one list.
+ *
+ * Each entry is a node linked into its lane which the queued occupant holds on to, so an occupant can be taken out of
+ * the queue without searching for them. Looking entries up by position starts from the last position looked up, so
+ * walking the queue in order with get is as cheap as using an iterator, even when the entry just looked at leaves the
+ * queue. Iterators carry on from where the current entry was if it leaves the queue rather than failing.
+ *
+ * Entries are also linked into a chain for their kind of occupant, one for everybody who isn't a developer and one for
+ * each developer company, and numbered in queue order. Boarding walks these chains so developers who would refuse the
+ * elevator because of a rival are never visited, and are moved to the back of the queue in one go afterwards.
+ *
+ * @since 18/10/26
+ */
+public class ElevatorQueue extends AbstractList<BuildingOccupant> {
+
+    /**
+     * An entry in one of the lanes of a queue
+     */
+    static final class Node {
+
+        private final BuildingOccupant occupant;
+        private final int category;
+        private boolean priority;
+        private long sequence;
+        private ElevatorQueue queue;
+        private Node previous;
+        private Node next;
+        private Node previousOfCategory;
+        private Node nextOfCategory;
+
+        private Node(BuildingOccupant occupant, ElevatorQueue queue) {
+            this.occupant = occupant;
+            this.category = categoryOf(occupant);
+            this.queue = queue;
+        }
+
+    }
+
+    // Everybody who isn't a developer shares a category, each developer company has its own after that
+    private static final int NOT_A_DEVELOPER = 0;
+    private static final DeveloperCompany[] COMPANIES = DeveloperCompany.values();
+    private static final int CATEGORIES = COMPANIES.length + 1;
+
+    private Node priorityHead;
+    private Node priorityTail;
+    private Node normalHead;
+    private Node normalTail;
+    private int size;
+    private int prioritySize;
+
+    // Entries joining the front are numbered down and entries joining the back are numbered up
+    private long frontSequence;
+    private long backSequence;
+    private final Node[] categoryHeads;
+    private final Node[] categoryTails;
+
+    // The last position looked up by get
+    private Node cursor;
+    private int cursorIndex;
+
+    // The next entry of each category still to be visited by the boarding walk
+    private final Node[] walkNext;
+    private long walkEnd;
+    private long walkPosition;
+
+    public ElevatorQueue() {
+        categoryHeads = new Node[CATEGORIES];
+        categoryTails = new Node[CATEGORIES];
+        walkNext = new Node[CATEGORIES];
+    }
+
+    /**
+     * Adds an occupant to the front of the queue, ahead of everybody already in the priority lane
+     *
+     * @param buildingOccupant the occupant to add
+     */
+    public void addFirst(BuildingOccupant buildingOccupant) {
+        Node node = new Node(buildingOccupant, this);
+        linkFirst(node);
+        added(node);
+        // Everything looked at before has moved back one place
+        if (cursor != null) {
+            cursorIndex++;
+        }
+    }
+
+    /**
+     * Adds an occupant to the back of the queue
+     *
+     * @param buildingOccupant the occupant to add
+     */
+    public void addLast(BuildingOccupant buildingOccupant) {
+        Node node = new Node(buildingOccupant, this);
+        linkLast(node);
+        added(node);
+    }
+
+    @Override
+    public boolean add(BuildingOccupant buildingOccupant) {
+        addLast(buildingOccupant);
+        return true;
+    }
+
+    /**
+     * Only adding to the front or the back of the queue is supported
+     *
+     * @param index 0 to add to the front or the size of the queue to add to the back
+     * @param buildingOccupant the occupant to add
+     */
+    @Override
+    public void add(int index, BuildingOccupant buildingOccupant) {
+        if (index == 0) {
+            addFirst(buildingOccupant);
+        } else if (index == size) {
+            addLast(buildingOccupant);
+        } else {
+            throw new UnsupportedOperationException("Occupants can only join the front or the back of the queue");
+        }
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        Node node = findNode(o);
+        if (node == null) {
+            return false;
+        }
+        remove(node);
+        return true;
+    }
+
+    @Override
+    public BuildingOccupant remove(int index) {
+        Node node = node(index);
+        remove(node);
+        return node.occupant;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return findNode(o) != null;
+    }
+
+    @Override
+    public BuildingOccupant get(int index) {
+        return node(index).occupant;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void clear() {
+        while (size > 0) {
+            remove(first());
+        }
+    }
+
+    @Override
+    public Iterator<BuildingOccupant> iterator() {
+        return new Iterator<BuildingOccupant>() {
+
+            private Node lastReturned;
+            private boolean started;
+
+            @Override
+            public boolean hasNext() {
+                return nextNode() != null;
+            }
+
+            @Override
+            public BuildingOccupant next() {
+                Node node = nextNode();
+                if (node == null) {
+                    throw new NoSuchElementException();
+                }
+                started = true;
+                lastReturned = node;
+                return node.occupant;
+            }
+
+            @Override
+            public void remove() {
+                if (lastReturned == null || lastReturned.queue != ElevatorQueue.this) {
+                    throw new IllegalStateException();
+                }
+                ElevatorQueue.this.remove(lastReturned);
+            }
+
+            private Node nextNode() {
+                if (!started) {
+                    return first();
+                }
+                // A node that has left the queue still points at what followed it when it left
+                Node node = lastReturned;
+                do {
+                    node = successor(node);
+                } while (node != null && node.queue != ElevatorQueue.this);
+                return node;
+            }
+
+        };
+    }
+
+    /**
+     * Gets the number of occupants in the priority lane at the front of the queue
+     *
+     * @return size of the priority lane
+     */
+    public int getPrioritySize() {
+        return prioritySize;
+    }
+
+    /**
+     * Starts walking the queue in order to board the given elevator. Only the occupants queuing now are visited,
+     * anybody joining the back of the queue during the walk is left for the next one.
+     */
+    void startBoarding() {
+        for (int i = 0; i < CATEGORIES; i++) {
+            walkNext[i] = categoryHeads[i];
+        }
+        Node last = normalTail != null ? normalTail : priorityTail;
+        walkEnd = last != null ? last.sequence : Long.MIN_VALUE;
+        walkPosition = Long.MIN_VALUE;
+    }
+
+    /**
+     * Gets the next occupant in the queue who would be willing to ride in the elevator with its current passengers,
+     * skipping over developers with a rival in the elevator
+     *
+     * @param elevator the elevator being boarded
+     * @return the next occupant or null if everybody has been visited
+     */
+    BuildingOccupant nextBoarding(Elevator elevator) {
+        Node next = null;
+        for (int i = 0; i < CATEGORIES; i++) {
+            Node candidate = walkNext[i];
+            if (candidate != null && candidate.sequence <= walkEnd && (next == null || candidate.sequence < next.sequence)
+                    && (i == NOT_A_DEVELOPER || !elevator.containsRivalOf(COMPANIES[i - 1]))) {
+                next = candidate;
+            }
+        }
+        if (next == null) {
+            return null;
+        }
+        // Move on before the occupant gets the chance to leave the queue
+        walkNext[next.category] = next.nextOfCategory;
+        walkPosition = next.sequence;
+        return next.occupant;
+    }
+
+    /**
+     * Finishes the boarding walk. Every developer that was skipped because of a rival is moved to the back of the
+     * queue in the order they were queuing, exactly as they would have been had they refused the elevator themselves.
+     *
+     * @param elevator the elevator being boarded
+     * @param stoppedEarly whether the walk stopped before visiting everybody, only the developers before the last
+     *                     occupant visited are moved if it did
+     * @return the number of developers moved to the back
+     */
+    int finishBoarding(Elevator elevator, boolean stoppedEarly) {
+        long limit = stoppedEarly ? walkPosition : walkEnd;
+        int moved = 0;
+        while (true) {
+            // Merge the skipped developers of the rival companies back into queue order
+            Node next = null;
+            for (int i = 1; i < CATEGORIES; i++) {
+                Node candidate = walkNext[i];
+                if (candidate != null && candidate.sequence <= limit && (!stoppedEarly || candidate.sequence < limit)
+                        && (next == null || candidate.sequence < next.sequence)
+                        && elevator.containsRivalOf(COMPANIES[i - 1])) {
+                    next = candidate;
+                }
+            }
+            if (next == null) {
+                break;
+            }
+            walkNext[next.category] = next.nextOfCategory;
+            unlinkFromLanes(next);
+            linkLast(next);
+            moved++;
+        }
+        for (int i = 0; i < CATEGORIES; i++) {
+            walkNext[i] = null;
+        }
+        if (moved > 0) {
+            cursor = null;
+        }
+        return moved;
+    }
+
+    private static int categoryOf(BuildingOccupant buildingOccupant) {
+        if (buildingOccupant instanceof Developer) {
+            return ((Developer) buildingOccupant).getCompany().ordinal() + 1;
+        }
+        return NOT_A_DEVELOPER;
+    }
+
+    private Node first() {
+        return priorityHead != null ? priorityHead : normalHead;
+    }
+
+    /**
+     * Gets the node after the given one, moving from the end of the priority lane onto the normal lane
+     *
+     * @param node the node to follow on from
+     * @return the next node or null if there are none left
+     */
+    private Node successor(Node node) {
+        if (node.next != null || !node.priority) {
+            return node.next;
+        }
+        return normalHead;
+    }
+
+    /**
+     * Gets the node at the given position, walking from whichever of the front, the back or the last position looked
+     * up is closest
+     *
+     * @param index the position in the queue
+     * @return the node at that position
+     */
+    private Node node(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        Node node;
+        int nodeIndex;
+        if (cursor != null && Math.abs(index - cursorIndex) < Math.min(index, size - 1 - index)) {
+            node = cursor;
+            nodeIndex = cursorIndex;
+        } else if (index < size - 1 - index) {
+            node = first();
+            nodeIndex = 0;
+        } else {
+            node = normalTail != null ? normalTail : priorityTail;
+            nodeIndex = size - 1;
+        }
+        while (nodeIndex < index) {
+            node = successor(node);
+            nodeIndex++;
+        }
+        while (nodeIndex > index) {
+            node = node.previous != null || node.priority ? node.previous : priorityTail;
+            nodeIndex--;
+        }
+        cursor = node;
+        cursorIndex = index;
+        return node;
+    }
+
+    /**
+     * Finds the first entry for an occupant, using the entry the occupant holds when they are only queuing once
+     *
+     * @param o the occupant to look for
+     * @return the node or null if they aren't in this queue
+     */
+    private Node findNode(Object o) {
+        if (!(o instanceof BuildingOccupant)) {
+            return null;
+        }
+        BuildingOccupant buildingOccupant = (BuildingOccupant) o;
+        Node held = buildingOccupant.getQueueNode();
+        if (held != null && buildingOccupant.getQueueEntries() == 1) {
+            return held.queue == this ? held : null;
+        }
+        if (buildingOccupant.getQueueEntries() == 0) {
+            return null;
+        }
+        // Somebody queuing more than once has to be looked for
+        for (Node node = first(); node != null; node = successor(node)) {
+            if (node.occupant == buildingOccupant) {
+                return node;
+            }
+        }
+        return null;
+    }
+
+    private void linkFirst(Node node) {
+        node.priority = true;
+        node.sequence = --frontSequence;
+        node.previous = null;
+        node.next = priorityHead;
+        if (priorityHead == null) {
+            priorityTail = node;
+        } else {
+            priorityHead.previous = node;
+        }
+        priorityHead = node;
+        prioritySize++;
+
+        Node head = categoryHeads[node.category];
+        node.previousOfCategory = null;
+        node.nextOfCategory = head;
+        if (head == null) {
+            categoryTails[node.category] = node;
+        } else {
+            head.previousOfCategory = node;
+        }
+        categoryHeads[node.category] = node;
+    }
+
+    private void linkLast(Node node) {
+        node.priority = false;
+        node.sequence = ++backSequence;
+        node.next = null;
+        node.previous = normalTail;
+        if (normalTail == null) {
+            normalHead = node;
+        } else {
+            normalTail.next = node;
+        }
+        normalTail = node;
+
+        Node tail = categoryTails[node.category];
+        node.nextOfCategory = null;
+        node.previousOfCategory = tail;
+        if (tail == null) {
+            categoryHeads[node.category] = node;
+        } else {
+            tail.nextOfCategory = node;
+        }
+        categoryTails[node.category] = node;
+    }
+
+    private void unlinkFromLanes(Node node) {
+        Node previous = node.previous;
+        Node next = node.next;
+        if (node.priority) {
+            if (previous == null) priorityHead = next; else previous.next = next;
+            if (next == null) priorityTail = previous; else next.previous = previous;
+            prioritySize--;
+        } else {
+            if (previous == null) normalHead = next; else previous.next = next;
+            if (next == null) normalTail = previous; else next.previous = previous;
+        }
+
+        Node previousOfCategory = node.previousOfCategory;
+        Node nextOfCategory = node.nextOfCategory;
+        if (previousOfCategory == null) categoryHeads[node.category] = nextOfCategory; else previousOfCategory.nextOfCategory = nextOfCategory;
+        if (nextOfCategory == null) categoryTails[node.category] = previousOfCategory; else nextOfCategory.previousOfCategory = previousOfCategory;
+    }
+
+    private void added(Node node) {
+        size++;
+        BuildingOccupant buildingOccupant = node.occupant;
+        // The occupant can only hold on to their entry while it is their only one
+        buildingOccupant.setQueueNode(buildingOccupant.getQueueEntries() == 0 ? node : null);
+        buildingOccupant.setQueueEntries(buildingOccupant.getQueueEntries() + 1);
+    }
+
+    private void remove(Node node) {
+        if (cursor == node) {
+            // Whatever followed the node takes its position
+            cursor = successor(node);
+        } else {
+            // The position of the node isn't known, so forget the last position looked up
+            cursor = null;
+        }
+        // A boarding walk standing on this node moves on to the next one of its kind
+        if (walkNext[node.category] == node) {
+            walkNext[node.category] = node.nextOfCategory;
+        }
+        unlinkFromLanes(node);
+        // Leave next in place so iterators standing on this node can carry on
+        node.previous = null;
+        node.previousOfCategory = null;
+        node.nextOfCategory = null;
+        node.queue = null;
+        size--;
+
+        BuildingOccupant buildingOccupant = node.occupant;
+        if (buildingOccupant.getQueueNode() == node) {
+            buildingOccupant.setQueueNode(null);
+        }
+        buildingOccupant.setQueueEntries(buildingOccupant.getQueueEntries() - 1);
+    }
+
+}
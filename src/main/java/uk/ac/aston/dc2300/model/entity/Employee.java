@@ -1,8 +1,8 @@
 package uk.ac.aston.dc2300.model.entity;
 
 import uk.ac.aston.dc2300.utility.RandomUtils;
+import uk.ac.aston.dc2300.utility.logging.SimulationLog;
 
-import java.math.BigDecimal;
 
 /**
  * This class represents an employee that works at the building
@@ -26,9 +26,19 @@ public class Employee extends BuildingOccupant {
     }
 
     @Override
-    public void setNewDestination(Building building, RandomUtils randomUtils, BigDecimal probability, int currentTime) {
-        if (randomUtils.getBigDecimal().compareTo(probability) <= 0) {
-            Floor currentFloor = building.getFloorContainingOccupant(this);
+    public void setNewDestination(Building building, RandomUtils randomUtils, double probability, int currentTime) {
+        Floor currentFloor = building.getFloorContainingOccupant(this);
+        Floor destination = chooseRandomDestination(building, currentFloor, randomUtils, probability);
+        if (destination != null) {
+            setDestination(destination);
+            SimulationLog.debug("Employee on floor %s set destination floor %s", currentFloor.getFloorNumber(), destination.getFloorNumber());
+            callElevator(currentFloor, currentTime);
+        }
+    }
+
+    @Override
+    public Floor chooseRandomDestination(Building building, Floor currentFloor, RandomUtils randomUtils, double probability) {
+        if (randomUtils.getDouble() <= probability) {
             // Assign employees any floor
             int numFloors = building.getFloors().size();
             int randomFloorIndex = randomUtils.getIntInRange(0, numFloors - 1);
@@ -36,11 +46,14 @@ public class Employee extends BuildingOccupant {
                 // If random floor is current floor try again
                 randomFloorIndex = randomUtils.getIntInRange(0, numFloors - 1);
             }
-            Floor destination = building.getFloors().get(randomFloorIndex);
-            setDestination(building.getFloors().get(randomFloorIndex));
-            System.out.println(String.format("Employee on floor %s set destination floor %s", currentFloor.getFloorNumber(), destination.getFloorNumber()));
-            callElevator(currentFloor, currentTime);
+            return building.getFloors().get(randomFloorIndex);
         }
+        return null;
+    }
+
+    @Override
+    public boolean choosesRandomDestination() {
+        return true;
     }
 
     @Override
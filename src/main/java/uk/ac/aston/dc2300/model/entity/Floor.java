@@ -15,14 +15,16 @@ public class Floor {
 
     private List<BuildingOccupant> occupants;
 
-    private LinkedList<BuildingOccupant> elevatorQueue;
+    private ElevatorQueue elevatorQueue;
+
+    private Building building;
 
     /**
      * @param floorNumber the number of the floor
      */
     public Floor(int floorNumber) {
         this.floorNumber = floorNumber;
-        elevatorQueue = new LinkedList<>();
+        elevatorQueue = new ElevatorQueue();
         occupants = new ArrayList<>();
     }
 
@@ -33,15 +35,22 @@ public class Floor {
      */
     public void addOccupant(BuildingOccupant buildingOccupant) {
         occupants.add(buildingOccupant);
+        buildingOccupant.setCurrentFloor(this);
     }
 
     /**
      * Removes a BuildingOccupant from the floor
      *
+     * This takes time linear in the number of occupants on the floor. The occupants are asked for new destinations in
+     * the order they arrived on the floor, and that order decides who draws which random number, so the last occupant
+     * can't simply be swapped into the gap.
+     *
      * @param buildingOccupant the BuildingOccupant to be removed
      */
     public void removeOccupant(BuildingOccupant buildingOccupant) {
-        occupants.remove(buildingOccupant);
+        if (occupants.remove(buildingOccupant) && buildingOccupant.getCurrentFloor() == this) {
+            buildingOccupant.setCurrentFloor(null);
+        }
     }
 
     /**
@@ -51,6 +60,7 @@ public class Floor {
      */
     public void addToFrontOfQueue(BuildingOccupant buildingOccupant) {
         elevatorQueue.addFirst(buildingOccupant);
+        queueChanged();
     }
 
     /**
@@ -60,6 +70,7 @@ public class Floor {
      */
     public void addToBackOfQueue(BuildingOccupant buildingOccupant) {
         elevatorQueue.addLast(buildingOccupant);
+        queueChanged();
     }
 
     /**
@@ -69,6 +80,16 @@ public class Floor {
      */
     public void removeFromQueue(BuildingOccupant buildingOccupant) {
         elevatorQueue.remove(buildingOccupant);
+        queueChanged();
+    }
+
+    /**
+     * Tells the building containing this floor whether anybody is now queuing here
+     */
+    private void queueChanged() {
+        if (building != null) {
+            building.updateWaitingFloor(this);
+        }
     }
 
     /**
@@ -80,6 +101,20 @@ public class Floor {
         return !elevatorQueue.isEmpty();
     }
 
+    /**
+     * Gets the building this floor is part of
+     *
+     * @return the building or null if the floor hasn't been put in a building
+     */
+    public Building getBuilding() {
+        return building;
+    }
+
+    void setBuilding(Building building) {
+        this.building = building;
+        queueChanged();
+    }
+
     public int getFloorNumber() {
         return floorNumber;
     }
@@ -88,7 +123,7 @@ public class Floor {
         return occupants;
     }
 
-    public List<BuildingOccupant> getElevatorQueue() {
+    public ElevatorQueue getElevatorQueue() {
         return elevatorQueue;
     }
 
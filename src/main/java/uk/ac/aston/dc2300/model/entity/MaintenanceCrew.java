@@ -1,8 +1,8 @@
 package uk.ac.aston.dc2300.model.entity;
 
 import uk.ac.aston.dc2300.utility.RandomUtils;
+import uk.ac.aston.dc2300.utility.logging.SimulationLog;
 
-import java.math.BigDecimal;
 import java.util.List;
 
 /**
@@ -14,6 +14,18 @@ import java.util.List;
  */
 public class MaintenanceCrew extends BuildingOccupant {
 
+    /**
+     * The number of spaces a maintenance crew takes up in the elevator
+     */
+    public static final int SIZE = 4;
+
+    /**
+     * The shortest and longest time in minutes a maintenance crew will stay at their destination floor, chosen at
+     * random when they arrive
+     */
+    public static final int MINIMUM_STAY_MINUTES = 20;
+    public static final int MAXIMUM_STAY_MINUTES = 40;
+
     private int leaveAfterArrivalTime;
 
     /**
@@ -21,7 +33,7 @@ public class MaintenanceCrew extends BuildingOccupant {
      * @param leaveAfterArrivalTime the time in seconds the MaintenanceCrew will stay at their destination floor before leaving
      */
     public MaintenanceCrew(int timeEntered, int leaveAfterArrivalTime) {
-        super(4, timeEntered);
+        super(SIZE, timeEntered);
         this.leaveAfterArrivalTime = leaveAfterArrivalTime;
     }
 
@@ -32,7 +44,7 @@ public class MaintenanceCrew extends BuildingOccupant {
     }
 
     @Override
-    public void setNewDestination(Building building, RandomUtils randomUtils, BigDecimal probability, int currentTime) {
+    public void setNewDestination(Building building, RandomUtils randomUtils, double probability, int currentTime) {
         Floor currentFloor = building.getFloorContainingOccupant(this);
         Floor groundFloor = building.getFloors().get(0);
         // If the client has just arrived in the building
@@ -40,15 +52,15 @@ public class MaintenanceCrew extends BuildingOccupant {
             // Assign maintenance workers to the top floor
             List<Floor> floors = building.getFloors();
             this.setDestination(floors.get(floors.size() - 1));
-            System.out.println(String.format("Maintenance Crew arrived on floor %s set destination floor %s", currentFloor.getFloorNumber(), floors.size() - 1));
+            SimulationLog.info("Maintenance Crew arrived on floor %s set destination floor %s", currentFloor.getFloorNumber(), floors.size() - 1);
             callElevator(currentFloor, currentTime);
         } else if (currentFloor.equals(groundFloor) && destination.equals(groundFloor)) {
-            leaveBuilding(currentFloor);
-            System.out.println("Maintenance Crew has left the building");
+            leaveBuilding(currentFloor, currentTime);
+            SimulationLog.info("Maintenance Crew has left the building");
         } else if (destination.equals(currentFloor) && currentTime >= destinationArrivalTime + leaveAfterArrivalTime) {
             // Set destination to ground floor to leave
             setDestination(groundFloor);
-            System.out.println(String.format("Maintenance Crew on floor %s set destination floor %s", currentFloor.getFloorNumber(), destination.getFloorNumber()));
+            SimulationLog.info("Maintenance Crew on floor %s set destination floor %s", currentFloor.getFloorNumber(), destination.getFloorNumber());
             callElevator(currentFloor, currentTime);
         }
     }
@@ -65,4 +77,8 @@ public class MaintenanceCrew extends BuildingOccupant {
         elevator.addOccupant(this);
     }
 
+    public int getLeaveAfterArrivalTime() {
+        return leaveAfterArrivalTime;
+    }
+
 }
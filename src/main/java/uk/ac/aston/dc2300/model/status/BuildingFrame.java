@@ -0,0 +1,177 @@
+package uk.ac.aston.dc2300.model.status;
+
+import uk.ac.aston.dc2300.model.entity.Building;
+import uk.ac.aston.dc2300.model.entity.BuildingOccupant;
+import uk.ac.aston.dc2300.model.entity.Client;
+import uk.ac.aston.dc2300.model.entity.Developer;
+import uk.ac.aston.dc2300.model.entity.Elevator;
+import uk.ac.aston.dc2300.model.entity.ElevatorQueue;
+import uk.ac.aston.dc2300.model.entity.Floor;
+import uk.ac.aston.dc2300.model.entity.MaintenanceCrew;
+
+import java.util.List;
+
+/**
+ * An immutable picture of a building at the end of a tick, holding only what is needed to draw it. Each occupant is
+ * kept as a single byte for their type rather than a reference to the occupant, so a frame can be captured by the
+ * thread running the simulation and read by another thread while the simulation carries on changing the building.
+ *
+ * @since 18/10/26
+ */
+public final class BuildingFrame {
+
+    /**
+     * The kinds of occupant a frame tells apart
+     */
+    public enum OccupantType {
+        EMPLOYEE, CLIENT, MAINTENANCE_CREW, GOGGLES_DEVELOPER, MUGTOME_DEVELOPER
+    }
+
+    private static final OccupantType[] OCCUPANT_TYPES = OccupantType.values();
+
+    private final int time;
+
+    // Occupants waiting for an elevator on each floor in queue order
+    private final byte[][] queues;
+
+    // Occupants on each floor who aren't waiting for an elevator
+    private final byte[][] onFloor;
+
+    private final int[] elevatorFloors;
+
+    private final byte[][] passengers;
+
+    private final int averageWaitTime;
+
+    private final int numberOfComplaints;
+
+    private BuildingFrame(int time, byte[][] queues, byte[][] onFloor, int[] elevatorFloors, byte[][] passengers,
+                          int averageWaitTime, int numberOfComplaints) {
+        this.time = time;
+        this.queues = queues;
+        this.onFloor = onFloor;
+        this.elevatorFloors = elevatorFloors;
+        this.passengers = passengers;
+        this.averageWaitTime = averageWaitTime;
+        this.numberOfComplaints = numberOfComplaints;
+    }
+
+    /**
+     * Captures the current state of a building, this must be called by the thread running the simulation
+     *
+     * @param building the building to capture
+     * @param time the current simulation time
+     * @return the frame
+     */
+    public static BuildingFrame capture(Building building, int time) {
+        List<Floor> floors = building.getFloors();
+        byte[][] queues = new byte[floors.size()][];
+        byte[][] onFloor = new byte[floors.size()][];
+        for (Floor floor : floors) {
+            ElevatorQueue elevatorQueue = floor.getElevatorQueue();
+            byte[] queue = new byte[elevatorQueue.size()];
+            int position = 0;
+            for (BuildingOccupant occupant : elevatorQueue) {
+                queue[position++] = typeOf(occupant);
+            }
+            // Complained clients can still be in the queue after leaving the floor, so count rather than subtract
+            List<BuildingOccupant> occupants = floor.getOccupants();
+            byte[] notQueuing = new byte[occupants.size()];
+            int count = 0;
+            for (BuildingOccupant occupant : occupants) {
+                if (!elevatorQueue.contains(occupant)) {
+                    notQueuing[count++] = typeOf(occupant);
+                }
+            }
+            queues[floor.getFloorNumber()] = queue;
+            onFloor[floor.getFloorNumber()] = count == notQueuing.length ? notQueuing : copyOf(notQueuing, count);
+        }
+
+        List<Elevator> elevators = building.getElevators();
+        int[] elevatorFloors = new int[elevators.size()];
+        byte[][] passengers = new byte[elevators.size()][];
+        for (int e = 0; e < elevators.size(); e++) {
+            Elevator elevator = elevators.get(e);
+            elevatorFloors[e] = elevator.getCurrentFloor().getFloorNumber();
+            List<BuildingOccupant> occupants = elevator.getOccupants();
+            byte[] elevatorPassengers = new byte[occupants.size()];
+            for (int p = 0; p < elevatorPassengers.length; p++) {
+                elevatorPassengers[p] = typeOf(occupants.get(p));
+            }
+            passengers[e] = elevatorPassengers;
+        }
+
+        SimulationStatistics statistics = building.getStatistics();
+        return new BuildingFrame(time, queues, onFloor, elevatorFloors, passengers, statistics.getAverageTime(),
+                statistics.getNumberOfComplaints());
+    }
+
+    private static byte typeOf(BuildingOccupant occupant) {
+        OccupantType type;
+        if (occupant instanceof Client) {
+            type = OccupantType.CLIENT;
+        } else if (occupant instanceof MaintenanceCrew) {
+            type = OccupantType.MAINTENANCE_CREW;
+        } else if (occupant instanceof Developer) {
+            type = ((Developer) occupant).getCompany() == DeveloperCompany.MUGTOME
+                    ? OccupantType.MUGTOME_DEVELOPER : OccupantType.GOGGLES_DEVELOPER;
+        } else {
+            type = OccupantType.EMPLOYEE;
+        }
+        return (byte) type.ordinal();
+    }
+
+    private static byte[] copyOf(byte[] types, int length) {
+        byte[] copy = new byte[length];
+        System.arraycopy(types, 0, copy, 0, length);
+        return copy;
+    }
+
+    public int getTime() {
+        return time;
+    }
+
+    public int getNumberOfFloors() {
+        return queues.length;
+    }
+
+    public int getQueueLength(int floorNumber) {
+        return queues[floorNumber].length;
+    }
+
+    public OccupantType getQueuedOccupant(int floorNumber, int position) {
+        return OCCUPANT_TYPES[queues[floorNumber][position]];
+    }
+
+    public int getOnFloorCount(int floorNumber) {
+        return onFloor[floorNumber].length;
+    }
+
+    public OccupantType getOnFloorOccupant(int floorNumber, int position) {
+        return OCCUPANT_TYPES[onFloor[floorNumber][position]];
+    }
+
+    public int getNumberOfElevators() {
+        return elevatorFloors.length;
+    }
+
+    public int getElevatorFloor(int elevator) {
+        return elevatorFloors[elevator];
+    }
+
+    public int getPassengerCount(int elevator) {
+        return passengers[elevator].length;
+    }
+
+    public OccupantType getPassenger(int elevator, int position) {
+        return OCCUPANT_TYPES[passengers[elevator][position]];
+    }
+
+    public int getAverageWaitTime() {
+        return averageWaitTime;
+    }
+
+    public int getNumberOfComplaints() {
+        return numberOfComplaints;
+    }
+}
@@ -1,32 +1,129 @@
 package uk.ac.aston.dc2300.model.status;
 
-import java.util.ArrayList;
-import java.util.List;
+import uk.ac.aston.dc2300.utility.checkpoint.CheckpointReader;
+import uk.ac.aston.dc2300.utility.checkpoint.CheckpointWriter;
+
+import java.io.IOException;
 
 /**
- * Holds and processes wait times and number of complaints
+ * Holds and processes wait times and number of complaints. Only the number of waits, their total, the shortest and
+ * longest wait and a histogram of the waits are kept, so recording a wait and reading the statistics take the same
+ * time however long the simulation has run for.
  *
  * @author Dan Cotton
  * @since 02/06/17
  */
 public class SimulationStatistics {
 
-    private List<Integer> waitTimes;
+    private long numberOfWaits;
+
+    private long totalWaitTime;
+
+    private int minimumWaitTime;
+
+    private int maximumWaitTime;
+
+    private final WaitTimeHistogram waitTimeHistogram;
 
     private int numberOfComplaints;
 
     public SimulationStatistics(int numberOfComplaints) {
         this.numberOfComplaints = numberOfComplaints;
-        waitTimes = new ArrayList<>();
+        this.waitTimeHistogram = new WaitTimeHistogram();
+    }
+
+    /**
+     * Adds a single wait time to this
+     *
+     * @param waitTime the wait time in seconds
+     */
+    public void addWaitTime(int waitTime) {
+        if (numberOfWaits == 0 || waitTime < minimumWaitTime) {
+            minimumWaitTime = waitTime;
+        }
+        if (numberOfWaits == 0 || waitTime > maximumWaitTime) {
+            maximumWaitTime = waitTime;
+        }
+        numberOfWaits++;
+        totalWaitTime += waitTime;
+        waitTimeHistogram.record(waitTime);
     }
 
     /**
-     * Adds the given list of wait times to this
+     * Adds the given wait times to this
      *
      * @param waitTimes the wait times to add
      */
-    public void addWaitTimes(List<Integer> waitTimes) {
-        this.waitTimes.addAll(waitTimes);
+    public void addWaitTimes(int[] waitTimes) {
+        for (int waitTime : waitTimes) {
+            addWaitTime(waitTime);
+        }
+    }
+
+    /**
+     * Combines these statistics with another set, the wait times are joined together and the complaints are summed.
+     * Neither set of statistics is changed.
+     *
+     * @param other the statistics to combine with
+     * @return the combined statistics
+     */
+    public SimulationStatistics merge(SimulationStatistics other) {
+        SimulationStatistics merged = new SimulationStatistics(numberOfComplaints + other.numberOfComplaints);
+        merged.addWaitTimes(this);
+        merged.addWaitTimes(other);
+        return merged;
+    }
+
+    /**
+     * Adds all of the wait times held by another set of statistics to this
+     *
+     * @param other the statistics to take the wait times from
+     */
+    private void addWaitTimes(SimulationStatistics other) {
+        if (other.numberOfWaits == 0) {
+            return;
+        }
+        if (numberOfWaits == 0 || other.minimumWaitTime < minimumWaitTime) {
+            minimumWaitTime = other.minimumWaitTime;
+        }
+        if (numberOfWaits == 0 || other.maximumWaitTime > maximumWaitTime) {
+            maximumWaitTime = other.maximumWaitTime;
+        }
+        numberOfWaits += other.numberOfWaits;
+        totalWaitTime += other.totalWaitTime;
+        waitTimeHistogram.add(other.waitTimeHistogram);
+    }
+
+    /**
+     * Writes these statistics to a checkpoint
+     *
+     * @param writer the checkpoint to write to
+     * @throws IOException encountered error
+     */
+    public void writeTo(CheckpointWriter writer) throws IOException {
+        writer.writeInt(numberOfComplaints);
+        writer.writeLong(numberOfWaits);
+        writer.writeLong(totalWaitTime);
+        writer.writeInt(minimumWaitTime);
+        writer.writeInt(maximumWaitTime);
+        waitTimeHistogram.writeTo(writer);
+    }
+
+    /**
+     * Reads statistics back from a checkpoint
+     *
+     * @param reader the checkpoint to read from
+     * @return the statistics as they were written
+     * @throws IOException encountered error
+     */
+    public static SimulationStatistics readFrom(CheckpointReader reader) throws IOException {
+        SimulationStatistics statistics = new SimulationStatistics(reader.readInt());
+        statistics.numberOfWaits = reader.readLong();
+        statistics.totalWaitTime = reader.readLong();
+        statistics.minimumWaitTime = reader.readInt();
+        statistics.maximumWaitTime = reader.readInt();
+        statistics.waitTimeHistogram.readFrom(reader);
+        return statistics;
     }
 
     /**
@@ -35,24 +132,35 @@ public class SimulationStatistics {
      * @return average time as an integer
      */
     public int getAverageTime() {
-        if (waitTimes.size() > 0) {
-            // Stream the collection containing the wait times through a reduce in order to reduce to a sum
-            // Once we've got the sum, divide it by the number of entries to return the mean
-            return (this.waitTimes
-                    .stream()
-                    .reduce(0, (sum, time) -> sum + time)) / this.waitTimes.size();
+        if (numberOfWaits > 0) {
+            return (int) (totalWaitTime / numberOfWaits);
         } else {
             return 0;
         }
     }
 
+    /**
+     * Gets the wait time that the given percentage of waits were no longer than, this is never more than 1.6% above
+     * the true value
+     *
+     * @param percentile the percentage of waits, between 0 and 100
+     * @return the wait time in seconds or 0 if nobody has waited
+     */
+    public int getWaitTimePercentile(double percentile) {
+        if (numberOfWaits == 0) {
+            return 0;
+        }
+        // The histogram bucket may go past the longest wait
+        return Math.min(waitTimeHistogram.getValueAtPercentile(percentile), maximumWaitTime);
+    }
+
     /**
      * Gets the field titles as a comma separated String
      *
      * @return the field titles
      */
     public String getCSVHeaders() {
-        return "Average Time (s),Number of complaints";
+        return "Average Time (s),Number of complaints,P50 Wait (s),P90 Wait (s),P99 Wait (s),Max Wait (s)";
     }
 
     /**
@@ -61,11 +169,34 @@ public class SimulationStatistics {
      * @return the field values
      */
     public String toCSV() {
-        return getAverageTime() + "," + getNumberOfComplaints();
+        return getAverageTime() + "," + getNumberOfComplaints() + "," + getWaitTimePercentile(50) + ","
+                + getWaitTimePercentile(90) + "," + getWaitTimePercentile(99) + "," + getMaximumWaitTime();
+    }
+
+    public long getNumberOfWaits() {
+        return numberOfWaits;
     }
 
-    public List<Integer> getWaitTimes() {
-        return waitTimes;
+    public long getTotalWaitTime() {
+        return totalWaitTime;
+    }
+
+    /**
+     * Gets the shortest wait time
+     *
+     * @return the shortest wait or 0 if nobody has waited
+     */
+    public int getMinimumWaitTime() {
+        return minimumWaitTime;
+    }
+
+    /**
+     * Gets the longest wait time
+     *
+     * @return the longest wait or 0 if nobody has waited
+     */
+    public int getMaximumWaitTime() {
+        return maximumWaitTime;
     }
 
     public int getNumberOfComplaints() {
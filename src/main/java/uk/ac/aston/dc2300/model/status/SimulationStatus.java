@@ -22,6 +22,18 @@ public class SimulationStatus {
         this.simulationRunning = simulationRunning;
     }
 
+    /**
+     * Moves the status on to a new tick. The simulation keeps a single status and updates it on every tick rather than
+     * creating a new one, so a status should be read before the simulation is ticked again.
+     *
+     * @param time the time of the new tick
+     * @param simulationRunning whether the simulation is still running
+     */
+    public void update(int time, boolean simulationRunning) {
+        this.time = time;
+        this.simulationRunning = simulationRunning;
+    }
+
     public Building getBuilding() {
         return building;
     }
@@ -0,0 +1,149 @@
+package uk.ac.aston.dc2300.model.status;
+
+import uk.ac.aston.dc2300.utility.checkpoint.CheckpointReader;
+import uk.ac.aston.dc2300.utility.checkpoint.CheckpointWriter;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Counts wait times in buckets that get wider as the waits get longer, so a fixed amount of memory can describe any
+ * number of waits. Waits below 128 seconds each have their own bucket, above that every doubling of the wait is split
+ * into 64 buckets, so a wait read back from the histogram is never more than 1/64th (about 1.6%) longer than the wait
+ * that was recorded. Histograms can be added together without losing any accuracy as they all share the same buckets.
+ *
+ * @since 18/10/26
+ */
+public class WaitTimeHistogram {
+
+    // Each doubling of the wait time is split into 2^SUB_BUCKET_BITS buckets
+    private static final int SUB_BUCKET_BITS = 6;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+
+    private long[] counts;
+
+    private long totalCount;
+
+    public WaitTimeHistogram() {
+        counts = new long[2 * SUB_BUCKET_COUNT];
+    }
+
+    /**
+     * Records a single wait time
+     *
+     * @param waitTime the wait time in seconds
+     * @throws IllegalArgumentException if the wait time is negative
+     */
+    public void record(int waitTime) {
+        if (waitTime < 0) {
+            throw new IllegalArgumentException("Wait time can't be negative: " + waitTime);
+        }
+        int index = bucketIndex(waitTime);
+        if (index >= counts.length) {
+            counts = Arrays.copyOf(counts, index + 1);
+        }
+        counts[index]++;
+        totalCount++;
+    }
+
+    /**
+     * Adds every wait time counted by another histogram to this one
+     *
+     * @param other the histogram to add
+     */
+    public void add(WaitTimeHistogram other) {
+        if (other.counts.length > counts.length) {
+            counts = Arrays.copyOf(counts, other.counts.length);
+        }
+        for (int i = 0; i < other.counts.length; i++) {
+            counts[i] += other.counts[i];
+        }
+        totalCount += other.totalCount;
+    }
+
+    /**
+     * Gets the wait time that the given percentage of waits were no longer than. The value returned is the longest
+     * wait that falls in the same bucket as the true answer.
+     *
+     * @param percentile the percentage of waits, between 0 and 100
+     * @return the wait time in seconds or 0 if nothing has been recorded
+     */
+    public int getValueAtPercentile(double percentile) {
+        if (totalCount == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * totalCount));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return highestValueInBucket(i);
+            }
+        }
+        return highestValueInBucket(counts.length - 1);
+    }
+
+    /**
+     * Writes the bucket counts to a checkpoint
+     *
+     * @param writer the checkpoint to write to
+     * @throws IOException encountered error
+     */
+    void writeTo(CheckpointWriter writer) throws IOException {
+        writer.writeInt(counts.length);
+        for (long count : counts) {
+            writer.writeLong(count);
+        }
+    }
+
+    /**
+     * Replaces the bucket counts with those read from a checkpoint
+     *
+     * @param reader the checkpoint to read from
+     * @throws IOException encountered error
+     */
+    void readFrom(CheckpointReader reader) throws IOException {
+        int length = reader.readCount();
+        counts = new long[Math.max(length, 2 * SUB_BUCKET_COUNT)];
+        totalCount = 0;
+        for (int i = 0; i < length; i++) {
+            counts[i] = reader.readLong();
+            totalCount += counts[i];
+        }
+    }
+
+    public long getTotalCount() {
+        return totalCount;
+    }
+
+    /**
+     * Works out which bucket a wait time is counted in
+     *
+     * @param waitTime the wait time in seconds
+     * @return the index of the bucket
+     */
+    private static int bucketIndex(int waitTime) {
+        if (waitTime < 2 * SUB_BUCKET_COUNT) {
+            return waitTime;
+        }
+        int shift = (31 - Integer.numberOfLeadingZeros(waitTime)) - SUB_BUCKET_BITS;
+        return shift * SUB_BUCKET_COUNT + (waitTime >>> shift);
+    }
+
+    /**
+     * Gets the longest wait time that would be counted in a bucket
+     *
+     * @param index the index of the bucket
+     * @return the wait time in seconds
+     */
+    private static int highestValueInBucket(int index) {
+        if (index < 2 * SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = index / SUB_BUCKET_COUNT - 1;
+        int subBucket = index - shift * SUB_BUCKET_COUNT;
+        long highest = ((long) (subBucket + 1) << shift) - 1;
+        return (int) Math.min(highest, Integer.MAX_VALUE);
+    }
+
+}
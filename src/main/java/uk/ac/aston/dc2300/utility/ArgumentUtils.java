@@ -0,0 +1,351 @@
+package uk.ac.aston.dc2300.utility;
+
+import uk.ac.aston.dc2300.model.configuration.ParameterSweep;
+import uk.ac.aston.dc2300.model.configuration.SimulationConfiguration;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A utility class to read options passed on the command line in the form '--name=value'. Arguments which don't start
+ * with '--' (such as the running mode) are ignored.
+ *
+ * Options can also be read from a file given with '--config=[file]', see OptionsFile for the format. Options passed on
+ * the command line take precedence over the same options in the file.
+ *
+ * Each interface names the options it understands, any other option on the command line or in the file is refused so
+ * a misspelt option isn't silently replaced by its default.
+ *
+ * @since 18/10/26
+ */
+public class ArgumentUtils {
+
+    /**
+     * The options read by getConfiguration and getSweep
+     */
+    public static final List<String> CONFIGURATION_OPTIONS = Collections.unmodifiableList(Arrays.asList(
+            "p", "q", "seed", "employees", "developers", "floors", "capacity", "time"));
+
+    private static final String CONFIG_OPTION = "config";
+
+    private final Map<String, String> options;
+
+    /**
+     * @param args the application arguments
+     * @param knownOptions the names of the options the interface understands, '--config' is always understood
+     * @throws IllegalArgumentException if an option isn't known or a config file is given which can't be read
+     */
+    public ArgumentUtils(String[] args, Collection<String> knownOptions) {
+        options = new HashMap<>();
+        for (String arg : args) {
+            if (arg.startsWith("--")) {
+                int separatorIndex = arg.indexOf('=');
+                String name = separatorIndex < 0 ? arg.substring(2) : arg.substring(2, separatorIndex);
+                if (!name.equals(CONFIG_OPTION) && !knownOptions.contains(name)) {
+                    throw new IllegalArgumentException("Unknown option --" + name);
+                }
+                // A flag without a value is given an empty value
+                options.put(name, separatorIndex < 0 ? "" : arg.substring(separatorIndex + 1));
+            }
+        }
+        String configFile = options.get(CONFIG_OPTION);
+        if (configFile != null) {
+            Map<String, String> fileOptions;
+            try {
+                fileOptions = OptionsFile.read(Paths.get(configFile));
+            } catch (IOException e) {
+                throw new IllegalArgumentException("Unable to read --config file " + configFile + ": " + e.getMessage());
+            }
+            for (Map.Entry<String, String> option : fileOptions.entrySet()) {
+                if (!knownOptions.contains(option.getKey())) {
+                    throw new IllegalArgumentException("Unknown option " + option.getKey() + " in --config file "
+                            + configFile);
+                }
+                options.putIfAbsent(option.getKey(), option.getValue());
+            }
+        }
+    }
+
+    /**
+     * Lists the configuration options along with the given options, for interfaces which run a configuration
+     *
+     * @param otherOptions the names of the other options the interface understands
+     * @return the names of every option the interface understands
+     */
+    public static List<String> withConfigurationOptions(String... otherOptions) {
+        List<String> knownOptions = new ArrayList<>(CONFIGURATION_OPTIONS);
+        knownOptions.addAll(Arrays.asList(otherOptions));
+        return knownOptions;
+    }
+
+    /**
+     * Checks whether the option was passed
+     *
+     * @param name the name of the option
+     * @return passed or not
+     */
+    public boolean hasOption(String name) {
+        return options.containsKey(name);
+    }
+
+    /**
+     * Gets the value of an option as a String
+     *
+     * @param name the name of the option
+     * @param defaultValue the value to use if the option wasn't passed
+     * @return the value of the option
+     */
+    public String getString(String name, String defaultValue) {
+        String value = options.get(name);
+        return value != null ? value : defaultValue;
+    }
+
+    /**
+     * Gets the value of an option as a whole number greater than or equal to 0
+     *
+     * @param name the name of the option
+     * @param defaultValue the value to use if the option wasn't passed
+     * @return the value of the option
+     * @throws IllegalArgumentException if the value isn't a valid whole number
+     */
+    public int getInteger(String name, int defaultValue) {
+        String value = options.get(name);
+        return value == null ? defaultValue : parseInteger(name, value);
+    }
+
+    /**
+     * Gets the value of an option as a long
+     *
+     * @param name the name of the option
+     * @param defaultValue the value to use if the option wasn't passed
+     * @return the value of the option
+     * @throws IllegalArgumentException if the value isn't a valid whole number
+     */
+    public long getLong(String name, long defaultValue) {
+        String value = options.get(name);
+        return value == null ? defaultValue : parseLong(name, value);
+    }
+
+    /**
+     * Gets the value of an option as a probability between 0 and 1
+     *
+     * @param name the name of the option
+     * @param defaultValue the value to use if the option wasn't passed
+     * @return the value of the option
+     * @throws IllegalArgumentException if the value isn't a decimal between 0 and 1
+     */
+    public BigDecimal getProbability(String name, BigDecimal defaultValue) {
+        String value = options.get(name);
+        return value == null ? defaultValue : parseProbability(name, value);
+    }
+
+    /**
+     * Gets the values of an option which holds a list of whole numbers. The list is comma separated and each item is
+     * either a single value or an inclusive range in the form 'start:end:step', eg. '1,5:20:5' is 1, 5, 10, 15, 20.
+     *
+     * @param name the name of the option
+     * @param defaultValue the single value to use if the option wasn't passed
+     * @return the values of the option
+     * @throws IllegalArgumentException if any value isn't a valid whole number or a range is invalid
+     */
+    public List<Integer> getIntegerValues(String name, int defaultValue) {
+        List<Integer> values = new ArrayList<>();
+        for (BigDecimal value : getValues(name, BigDecimal.valueOf(defaultValue))) {
+            values.add(parseInteger(name, value.toPlainString()));
+        }
+        return values;
+    }
+
+    /**
+     * Gets the values of an option which holds a list of longs, see getIntegerValues for the format
+     *
+     * @param name the name of the option
+     * @param defaultValue the single value to use if the option wasn't passed
+     * @return the values of the option
+     * @throws IllegalArgumentException if any value isn't a valid whole number or a range is invalid
+     */
+    public List<Long> getLongValues(String name, long defaultValue) {
+        List<Long> values = new ArrayList<>();
+        for (BigDecimal value : getValues(name, BigDecimal.valueOf(defaultValue))) {
+            values.add(parseLong(name, value.toPlainString()));
+        }
+        return values;
+    }
+
+    /**
+     * Gets the values of an option which holds a list of probabilities, see getIntegerValues for the format. Ranges
+     * are stepped exactly so '0:0.1:0.05' is 0, 0.05, 0.10.
+     *
+     * @param name the name of the option
+     * @param defaultValue the single value to use if the option wasn't passed
+     * @return the values of the option
+     * @throws IllegalArgumentException if any value isn't a decimal between 0 and 1 or a range is invalid
+     */
+    public List<BigDecimal> getProbabilityValues(String name, BigDecimal defaultValue) {
+        List<BigDecimal> values = new ArrayList<>();
+        for (BigDecimal value : getValues(name, defaultValue)) {
+            values.add(parseProbability(name, value.toPlainString()));
+        }
+        return values;
+    }
+
+    /**
+     * Reads the list of values of an option, expanding any ranges
+     *
+     * @param name the name of the option
+     * @param defaultValue the single value to use if the option wasn't passed
+     * @return the values of the option
+     * @throws IllegalArgumentException if any value isn't a number or a range is invalid
+     */
+    private List<BigDecimal> getValues(String name, BigDecimal defaultValue) {
+        List<BigDecimal> values = new ArrayList<>();
+        String option = options.get(name);
+        if (option == null) {
+            values.add(defaultValue);
+            return values;
+        }
+        try {
+            for (String item : option.split(",")) {
+                String[] range = item.trim().split(":");
+                if (range.length == 1) {
+                    values.add(new BigDecimal(range[0]));
+                } else if (range.length == 3) {
+                    BigDecimal start = new BigDecimal(range[0]);
+                    BigDecimal end = new BigDecimal(range[1]);
+                    BigDecimal step = new BigDecimal(range[2]);
+                    if (step.signum() <= 0) {
+                        throw new IllegalArgumentException("--" + name + " range step must be greater than 0");
+                    }
+                    for (BigDecimal value = start; value.compareTo(end) <= 0; value = value.add(step)) {
+                        values.add(value);
+                    }
+                } else {
+                    throw new IllegalArgumentException("--" + name + " ranges must be in the form start:end:step");
+                }
+            }
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("--" + name + " must be a list of numbers");
+        }
+        if (values.isEmpty()) {
+            throw new IllegalArgumentException("--" + name + " must contain at least one value");
+        }
+        return values;
+    }
+
+    private static int parseInteger(String name, String value) {
+        try {
+            int result = Integer.parseInt(value);
+            if (result < 0) {
+                throw new IllegalArgumentException("--" + name + " must be greater than or equal to 0");
+            }
+            return result;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("--" + name + " must be a valid whole number");
+        }
+    }
+
+    private static long parseLong(String name, String value) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("--" + name + " must be a valid whole number");
+        }
+    }
+
+    private static BigDecimal parseProbability(String name, String value) {
+        try {
+            BigDecimal result = new BigDecimal(value);
+            if (result.compareTo(BigDecimal.ZERO) < 0 || result.compareTo(BigDecimal.ONE) > 0) {
+                throw new IllegalArgumentException("--" + name + " must be a decimal between 0 and 1");
+            }
+            return result;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("--" + name + " must be a decimal between 0 and 1");
+        }
+    }
+
+    /**
+     * Assembles a SimulationConfiguration from the options, any setting not passed uses the same default as the
+     * interactive command line interface.
+     *
+     * @return the configuration described by the options
+     * @throws IllegalArgumentException if any of the settings are invalid or the building can't be simulated
+     */
+    public SimulationConfiguration getConfiguration() {
+        int employees = getInteger("employees", 10);
+        int developers = getInteger("developers", 10);
+        int floors = getInteger("floors", 6);
+        int capacity = getInteger("capacity", 4);
+        checkBuilding(employees, developers, floors, capacity);
+        return new SimulationConfiguration(
+                getProbability("p", new BigDecimal("0.01")),
+                getProbability("q", new BigDecimal("0.005")),
+                getLong("seed", 420),
+                employees,
+                developers,
+                floors,
+                capacity,
+                getInteger("time", 28800));
+    }
+
+    /**
+     * Assembles a ParameterSweep from the options, each setting may be given as a list of values and ranges (see
+     * getIntegerValues) and any setting not passed uses the same default as getConfiguration.
+     *
+     * @return the sweep described by the options
+     * @throws IllegalArgumentException if any of the settings are invalid or any building in the sweep can't be
+     * simulated
+     */
+    public ParameterSweep getSweep() {
+        List<Integer> employees = getIntegerValues("employees", 10);
+        List<Integer> developers = getIntegerValues("developers", 10);
+        List<Integer> floors = getIntegerValues("floors", 6);
+        List<Integer> capacities = getIntegerValues("capacity", 4);
+        // Every combination is swept so the building is only as runnable as its worst combination
+        checkBuilding(Collections.max(employees), Collections.max(developers), Collections.min(floors),
+                Collections.min(capacities));
+        return new ParameterSweep(
+                getProbabilityValues("p", new BigDecimal("0.01")),
+                getProbabilityValues("q", new BigDecimal("0.005")),
+                getLongValues("seed", 420),
+                employees,
+                developers,
+                floors,
+                capacities,
+                getIntegerValues("time", 28800));
+    }
+
+    /**
+     * Checks the simulation can run in the building. Employees need another floor to move to and developers another
+     * floor in the top half of the building, otherwise they would choose a new floor forever.
+     *
+     * @param employees the number of employees
+     * @param developers the number of developers
+     * @param floors the number of floors
+     * @param capacity the capacity of the elevator
+     * @throws IllegalArgumentException if the building can't be simulated
+     */
+    private static void checkBuilding(int employees, int developers, int floors, int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("--capacity must be greater than or equal to 1");
+        }
+        if (floors < 1) {
+            throw new IllegalArgumentException("--floors must be greater than or equal to 1");
+        }
+        if (employees > 0 && floors < 2) {
+            throw new IllegalArgumentException("--floors must be greater than or equal to 2 when there are employees");
+        }
+        if (developers > 0 && floors < 4) {
+            throw new IllegalArgumentException("--floors must be greater than or equal to 4 when there are developers");
+        }
+    }
+
+}
@@ -4,6 +4,8 @@ import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 
 /**
  * Set of utilities to interact with the filesystem
@@ -48,4 +50,24 @@ public class FileUtils {
         fileWriter.close();
 
     }
+
+    /**
+     * Opens a writer for results which replaces the given file, or writes to STDOUT if no file is given. Closing the
+     * STDOUT writer only flushes it.
+     *
+     * @param filename the file to write to or null for STDOUT
+     * @return the writer
+     * @throws IOException encountered error
+     */
+    public static Writer openResultsWriter(String filename) throws IOException {
+        if (filename == null) {
+            return new BufferedWriter(new OutputStreamWriter(System.out)) {
+                @Override
+                public void close() throws IOException {
+                    flush();
+                }
+            };
+        }
+        return new BufferedWriter(new FileWriter(filename, false));
+    }
 }
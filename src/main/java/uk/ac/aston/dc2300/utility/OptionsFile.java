@@ -0,0 +1,165 @@
+package uk.ac.aston.dc2300.utility;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.regex.Pattern;
+
+/**
+ * Reads options from a file so they don't all have to be passed on the command line. The options have the same names
+ * as the command line options without the '--'. A file ending in '.json' holds a single JSON object of names to values,
+ * eg. {"floors": 10, "p": "0.02"}, any other file is read as Java properties, eg. 'floors=10'.
+ *
+ * Values are kept as the text they were written as and checked when they are read, the same as command line options.
+ * Only a strictly flat JSON object is understood: each value is a number, string or boolean, an option may only be
+ * given once and strings can only escape quotes and backslashes. Lists of values are written as a string in the
+ * command line format.
+ *
+ * @since 18/10/26
+ */
+public final class OptionsFile {
+
+    // A number or boolean written without quotes
+    private static final Pattern BARE_VALUE = Pattern.compile("-?[0-9]+(\\.[0-9]+)?([eE][+-]?[0-9]+)?|true|false");
+
+    private final String text;
+    private int position;
+
+    private OptionsFile(String text) {
+        this.text = text;
+    }
+
+    /**
+     * Reads the options in a file
+     *
+     * @param file the file to read
+     * @return the value of each option in the order they are written
+     * @throws IOException encountered error
+     * @throws IllegalArgumentException if the file isn't a valid options file
+     */
+    public static Map<String, String> read(Path file) throws IOException {
+        if (file.getFileName().toString().toLowerCase().endsWith(".json")) {
+            String text = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+            return new OptionsFile(text).readObject(file);
+        }
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+        Map<String, String> options = new LinkedHashMap<>();
+        for (String name : properties.stringPropertyNames()) {
+            options.put(name, properties.getProperty(name).trim());
+        }
+        return options;
+    }
+
+    private Map<String, String> readObject(Path file) {
+        Map<String, String> options = new LinkedHashMap<>();
+        expect('{', file);
+        if (peek() == '}') {
+            position++;
+        } else {
+            while (true) {
+                String name = readString(file);
+                expect(':', file);
+                if (options.put(name, readValue(file)) != null) {
+                    throw invalid(file, "duplicate option " + name);
+                }
+                char next = next(file);
+                if (next == '}') {
+                    break;
+                } else if (next != ',') {
+                    throw invalid(file, "expected ',' or '}'");
+                }
+            }
+        }
+        if (peek() != 0) {
+            throw invalid(file, "unexpected content after the object");
+        }
+        return options;
+    }
+
+    /**
+     * Reads a string, or a number or boolean which is kept as it was written
+     */
+    private String readValue(Path file) {
+        if (peek() == '"') {
+            return readString(file);
+        }
+        int start = position;
+        while (position < text.length() && ",}".indexOf(text.charAt(position)) < 0
+                && !Character.isWhitespace(text.charAt(position))) {
+            position++;
+        }
+        String value = text.substring(start, position);
+        if (!BARE_VALUE.matcher(value).matches()) {
+            throw invalid(file, "values must be a number, string or boolean");
+        }
+        return value;
+    }
+
+    /**
+     * Reads a string, the only escapes understood are \" and \\ as option values have no need for any others
+     */
+    private String readString(Path file) {
+        expect('"', file);
+        StringBuilder value = new StringBuilder();
+        while (position < text.length()) {
+            char c = text.charAt(position++);
+            if (c == '"') {
+                return value.toString();
+            } else if (c == '\\') {
+                if (position >= text.length()) {
+                    break;
+                }
+                char escaped = text.charAt(position++);
+                if (escaped != '"' && escaped != '\\') {
+                    throw invalid(file, "unsupported escape in string");
+                }
+                value.append(escaped);
+            } else {
+                value.append(c);
+            }
+        }
+        throw invalid(file, "unterminated string");
+    }
+
+    private void expect(char expected, Path file) {
+        if (next(file) != expected) {
+            throw invalid(file, "expected '" + expected + "'");
+        }
+    }
+
+    /**
+     * Takes the next character which isn't whitespace
+     */
+    private char next(Path file) {
+        char c = peek();
+        if (c == 0) {
+            throw invalid(file, "unexpected end of file");
+        }
+        position++;
+        return c;
+    }
+
+    /**
+     * Skips whitespace and returns the next character without taking it, or 0 at the end of the text
+     */
+    private char peek() {
+        while (position < text.length() && Character.isWhitespace(text.charAt(position))) {
+            position++;
+        }
+        return position < text.length() ? text.charAt(position) : 0;
+    }
+
+    private IllegalArgumentException invalid(Path file, String reason) {
+        return new IllegalArgumentException(file + " is not a valid JSON options file, " + reason + " at character "
+                + position);
+    }
+
+}
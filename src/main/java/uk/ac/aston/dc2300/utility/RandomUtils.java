@@ -1,23 +1,79 @@
 package uk.ac.aston.dc2300.utility;
 
 import java.math.BigDecimal;
-import java.util.Random;
 
 /**
  * This is a utility class to avoid random number generation code duplication
  *
+ * The numbers are generated with the same linear congruential generator as java.util.Random so every seed gives the
+ * same numbers it always has, but the generator state is held here as a single long which can be read and restored to
+ * carry on the exact same sequence of numbers later on.
+ *
  * @author George Davies
  * @since 06/04/17.
  */
 public class RandomUtils {
 
-    private final Random RANDOM;
+    private static final long MULTIPLIER = 0x5DEECE66DL;
+    private static final long ADDEND = 0xBL;
+    private static final long MASK = (1L << 48) - 1;
+    private static final double DOUBLE_UNIT = 0x1.0p-53;
+    private static final long STREAM_GAMMA = 0x9E3779B97F4A7C15L;
+    private static final long FIRST_KEY_GAMMA = 0xD1B54A32D192ED03L;
+    private static final long SECOND_KEY_GAMMA = 0xABC98388FB8FAC03L;
+
+    private long state;
 
     /**
      * @param seed the seed to initialize the random with
      */
     public RandomUtils(long seed) {
-        RANDOM = new Random(seed);
+        state = (seed ^ MULTIPLIER) & MASK;
+    }
+
+    /**
+     * Creates a RandomUtils which carries on from the given generator state
+     *
+     * @param state a generator state previously taken from getState
+     * @return the random utils
+     */
+    public static RandomUtils fromState(long state) {
+        RandomUtils randomUtils = new RandomUtils(0);
+        randomUtils.state = state & MASK;
+        return randomUtils;
+    }
+
+    /**
+     * Creates a RandomUtils for one of many independent streams of numbers under a seed. The stream only depends on the
+     * seed and the two keys, such as a time and a position, so the same stream is given back whatever order or thread
+     * the streams are created in.
+     *
+     * @param seed the seed shared by all of the streams
+     * @param firstKey the first part of the key of the stream
+     * @param secondKey the second part of the key of the stream
+     * @return the random utils
+     */
+    public static RandomUtils forKey(long seed, long firstKey, long secondKey) {
+        // Each part is spread by a different odd constant before the bits are scrambled together once
+        return new RandomUtils(mix(seed * STREAM_GAMMA + firstKey * FIRST_KEY_GAMMA + secondKey * SECOND_KEY_GAMMA));
+    }
+
+    /**
+     * Scrambles the bits of a value, the finaliser of the SplitMix64 generator
+     */
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+        return value ^ (value >>> 31);
+    }
+
+    /**
+     * Gets the current generator state, restoring this state with fromState gives the same numbers from then on
+     *
+     * @return the generator state
+     */
+    public long getState() {
+        return state;
     }
 
     /**
@@ -28,7 +84,7 @@ public class RandomUtils {
      * @return the random int
      */
     public int getIntInRange(int min, int max) {
-        return RANDOM.nextInt((max - min) + 1) + min;
+        return nextInt((max - min) + 1) + min;
     }
 
     /**
@@ -37,7 +93,7 @@ public class RandomUtils {
      * @return the random double
      */
     public double getDouble() {
-        return RANDOM.nextDouble();
+        return (((long) next(26) << 27) + next(27)) * DOUBLE_UNIT;
     }
 
     /**
@@ -49,4 +105,55 @@ public class RandomUtils {
         return BigDecimal.valueOf(getDouble());
     }
 
+    /**
+     * Gets a random int between 0 (inclusive) and the bound (exclusive), as java.util.Random does
+     *
+     * @param bound the upper bound
+     * @return the random int
+     */
+    private int nextInt(int bound) {
+        if (bound <= 0) {
+            throw new IllegalArgumentException("Bound must be positive: " + bound);
+        }
+        int random = next(31);
+        int mask = bound - 1;
+        if ((bound & mask) == 0) {
+            // Powers of two take the high bits
+            return (int) ((bound * (long) random) >> 31);
+        }
+        // Draw again whenever the value falls in the uneven part at the top of the range
+        for (int draw = random; draw - (random = draw % bound) + mask < 0; draw = next(31)) {
+            // Keep drawing
+        }
+        return random;
+    }
+
+    /**
+     * Advances the generator and takes the given number of its high bits
+     *
+     * @param bits the number of bits to take
+     * @return the random bits
+     */
+    private int next(int bits) {
+        state = (state * MULTIPLIER + ADDEND) & MASK;
+        return (int) (state >>> (48 - bits));
+    }
+
+    /**
+     * Converts a probability into the largest double which a draw from getDouble can be compared against with '<='
+     * to give exactly the same outcome as comparing getBigDecimal against the probability. This lets the simulation
+     * compare primitive doubles on every draw without changing the result for any seed.
+     *
+     * @param probability the probability to convert
+     * @return the probability as a double threshold
+     */
+    public static double toProbabilityThreshold(BigDecimal probability) {
+        double threshold = probability.doubleValue();
+        // The nearest double may sit just above the probability, if so step down to the double below it
+        if (BigDecimal.valueOf(threshold).compareTo(probability) > 0) {
+            threshold = Math.nextDown(threshold);
+        }
+        return threshold;
+    }
+
 }
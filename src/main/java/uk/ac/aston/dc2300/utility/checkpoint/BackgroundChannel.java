@@ -0,0 +1,148 @@
+package uk.ac.aston.dc2300.utility.checkpoint;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.WritableByteChannel;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * A channel which hands everything written to it to a background thread to write to another channel, so the thread
+ * writing only pays for copying the bytes. Writes are best made in large blocks, such as the buffer of a
+ * CheckpointWriter. If the background thread gets too far behind, writing waits for it to catch up.
+ *
+ * An error writing in the background is thrown by the next write or by close.
+ *
+ * @since 18/10/26
+ */
+public class BackgroundChannel implements WritableByteChannel {
+
+    // Tells the background thread there is nothing more to write
+    private static final ByteBuffer END = ByteBuffer.allocate(0);
+
+    private final WritableByteChannel channel;
+
+    private final BlockingQueue<ByteBuffer> pending;
+
+    // Blocks the background thread has finished with, reused rather than allocating a new one for every write
+    private final BlockingQueue<ByteBuffer> spare;
+
+    private final Thread writerThread;
+
+    private volatile IOException failure;
+
+    private boolean open = true;
+
+    /**
+     * @param channel the channel to write to in the background, it is closed when this channel is closed
+     * @param maximumPending the number of writes which can be waiting for the background thread
+     */
+    public BackgroundChannel(WritableByteChannel channel, int maximumPending) {
+        this.channel = channel;
+        this.pending = new ArrayBlockingQueue<>(maximumPending + 1);
+        this.spare = new ArrayBlockingQueue<>(maximumPending + 1);
+        this.writerThread = new Thread(this::writeInBackground, "background-channel-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    /**
+     * Copies the bytes and queues them to be written in the background
+     *
+     * @param source the bytes to write
+     * @return the number of bytes written, always all of them
+     * @throws IOException if the channel is closed, a previous write failed or interrupted while waiting
+     */
+    @Override
+    public int write(ByteBuffer source) throws IOException {
+        if (!open) {
+            throw new ClosedChannelException();
+        }
+        throwIfFailed();
+        int length = source.remaining();
+        ByteBuffer block = spare.poll();
+        if (block == null || block.capacity() < length) {
+            block = ByteBuffer.allocate(length);
+        }
+        block.clear();
+        block.put(source);
+        block.flip();
+        enqueue(block);
+        return length;
+    }
+
+    @Override
+    public boolean isOpen() {
+        return open;
+    }
+
+    /**
+     * Waits for everything to be written then closes the channel
+     *
+     * @throws IOException if writing in the background failed or interrupted while waiting
+     */
+    @Override
+    public void close() throws IOException {
+        if (!open) {
+            return;
+        }
+        open = false;
+        try {
+            enqueue(END);
+            writerThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while finishing writing");
+        } finally {
+            channel.close();
+        }
+        throwIfFailed();
+    }
+
+    private void enqueue(ByteBuffer block) throws InterruptedIOException {
+        try {
+            pending.put(block);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting to write");
+        }
+    }
+
+    private void throwIfFailed() throws IOException {
+        if (failure != null) {
+            throw new IOException("Writing in the background failed", failure);
+        }
+    }
+
+    /**
+     * Writes blocks until told to stop. After a failure, including being interrupted, the blocks are still taken, so
+     * nothing waiting to write is left stuck, but are thrown away.
+     */
+    private void writeInBackground() {
+        while (true) {
+            ByteBuffer block;
+            try {
+                block = pending.take();
+            } catch (InterruptedException e) {
+                failure = new InterruptedIOException("Background writer interrupted");
+                continue;
+            }
+            if (block == END) {
+                return;
+            }
+            if (failure == null) {
+                try {
+                    while (block.hasRemaining()) {
+                        channel.write(block);
+                    }
+                } catch (IOException e) {
+                    failure = e;
+                }
+            }
+            spare.offer(block);
+        }
+    }
+
+}
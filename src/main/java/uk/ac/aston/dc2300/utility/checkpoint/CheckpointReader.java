@@ -0,0 +1,122 @@
+package uk.ac.aston.dc2300.utility.checkpoint;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Reads back the primitive values written by a CheckpointWriter from a channel. The channel is read a buffer at a time
+ * so reading a value is usually just a get from the buffer.
+ *
+ * @since 18/10/26
+ */
+public class CheckpointReader implements Closeable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final ReadableByteChannel channel;
+
+    private final ByteBuffer buffer;
+
+    /**
+     * @param channel the channel to read from, it is closed when the reader is closed
+     */
+    public CheckpointReader(ReadableByteChannel channel) {
+        this.channel = channel;
+        this.buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        // Start with nothing to read
+        buffer.flip();
+    }
+
+    public int readByte() throws IOException {
+        ensureAvailable(1);
+        return buffer.get();
+    }
+
+    /**
+     * Reads a boolean
+     *
+     * @return the boolean
+     * @throws IOException if the byte read isn't a boolean or there is an error reading
+     */
+    public boolean readBoolean() throws IOException {
+        int value = readByte();
+        if (value != 0 && value != 1) {
+            throw new IOException("Checkpoint is corrupt, expected a boolean but found " + value);
+        }
+        return value == 1;
+    }
+
+    public int readInt() throws IOException {
+        ensureAvailable(4);
+        return buffer.getInt();
+    }
+
+    public long readLong() throws IOException {
+        ensureAvailable(8);
+        return buffer.getLong();
+    }
+
+    /**
+     * Reads a string written as its length followed by its UTF-8 bytes
+     *
+     * @return the string
+     * @throws IOException encountered error
+     */
+    public String readString() throws IOException {
+        byte[] bytes = new byte[readCount()];
+        int read = 0;
+        while (read < bytes.length) {
+            ensureAvailable(1);
+            int length = Math.min(buffer.remaining(), bytes.length - read);
+            buffer.get(bytes, read, length);
+            read += length;
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads the number of items that follow, such as the length of a list
+     *
+     * @return the number of items
+     * @throws IOException if the number is negative or there is an error reading
+     */
+    public int readCount() throws IOException {
+        int count = readInt();
+        if (count < 0) {
+            throw new IOException("Checkpoint is corrupt, found a count of " + count);
+        }
+        return count;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Reads from the channel until the buffer holds at least the given number of bytes
+     *
+     * @param bytes the number of bytes about to be read
+     * @throws IOException if the channel ends first or there is an error reading
+     */
+    private void ensureAvailable(int bytes) throws IOException {
+        if (buffer.remaining() >= bytes) {
+            return;
+        }
+        buffer.compact();
+        try {
+            while (buffer.position() < bytes) {
+                if (channel.read(buffer) < 0) {
+                    throw new EOFException("Checkpoint ended unexpectedly");
+                }
+            }
+        } finally {
+            buffer.flip();
+        }
+    }
+
+}
@@ -0,0 +1,107 @@
+package uk.ac.aston.dc2300.utility.checkpoint;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes the primitive values making up a checkpoint to a channel. Values are gathered in a direct buffer and only
+ * written to the channel once the buffer is full, so writing a value is usually just a put into the buffer.
+ *
+ * @since 18/10/26
+ */
+public class CheckpointWriter implements Closeable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final WritableByteChannel channel;
+
+    private final ByteBuffer buffer;
+
+    /**
+     * @param channel the channel to write to, it is closed when the writer is closed
+     */
+    public CheckpointWriter(WritableByteChannel channel) {
+        this.channel = channel;
+        this.buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    }
+
+    public void writeByte(int value) throws IOException {
+        ensureSpace(1);
+        buffer.put((byte) value);
+    }
+
+    public void writeBoolean(boolean value) throws IOException {
+        writeByte(value ? 1 : 0);
+    }
+
+    public void writeInt(int value) throws IOException {
+        ensureSpace(4);
+        buffer.putInt(value);
+    }
+
+    public void writeLong(long value) throws IOException {
+        ensureSpace(8);
+        buffer.putLong(value);
+    }
+
+    /**
+     * Writes a string as its length followed by its UTF-8 bytes
+     *
+     * @param value the string to write
+     * @throws IOException encountered error
+     */
+    public void writeString(String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeInt(bytes.length);
+        int written = 0;
+        while (written < bytes.length) {
+            ensureSpace(1);
+            int length = Math.min(buffer.remaining(), bytes.length - written);
+            buffer.put(bytes, written, length);
+            written += length;
+        }
+    }
+
+    /**
+     * Writes everything gathered so far to the channel
+     *
+     * @throws IOException encountered error
+     */
+    public void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Flushes the writer and closes the channel
+     *
+     * @throws IOException encountered error
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            channel.close();
+        }
+    }
+
+    /**
+     * Flushes the buffer if there isn't room for the given number of bytes
+     *
+     * @param bytes the number of bytes about to be written
+     * @throws IOException encountered error
+     */
+    private void ensureSpace(int bytes) throws IOException {
+        if (buffer.remaining() < bytes) {
+            flush();
+        }
+    }
+
+}
@@ -0,0 +1,20 @@
+package uk.ac.aston.dc2300.utility.logging;
+
+/**
+ * An implementation of EventSink which writes events to STDOUT
+ *
+ * @since 18/10/26
+ */
+public class ConsoleEventSink implements EventSink {
+
+    @Override
+    public void write(LogLevel level, String message) {
+        System.out.println(message);
+    }
+
+    @Override
+    public void close() {
+        System.out.flush();
+    }
+
+}
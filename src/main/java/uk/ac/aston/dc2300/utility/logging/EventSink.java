@@ -0,0 +1,24 @@
+package uk.ac.aston.dc2300.utility.logging;
+
+/**
+ * EventSink is an interface to guide how simulation events are written out once they have passed the level check in
+ * SimulationLog.
+ *
+ * @since 18/10/26
+ */
+public interface EventSink {
+
+    /**
+     * Writes a single formatted event
+     *
+     * @param level the level of the event
+     * @param message the formatted event message
+     */
+    void write(LogLevel level, String message);
+
+    /**
+     * Flushes and releases anything held by the sink
+     */
+    void close();
+
+}
@@ -0,0 +1,46 @@
+package uk.ac.aston.dc2300.utility.logging;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+
+/**
+ * An implementation of EventSink which writes events to a file, each line is prefixed with the level of the event
+ *
+ * @since 18/10/26
+ */
+public class FileEventSink implements EventSink {
+
+    private final BufferedWriter writer;
+
+    /**
+     * @param file the file to write events to, any existing content is replaced
+     * @throws IOException if the file can't be opened for writing
+     */
+    public FileEventSink(File file) throws IOException {
+        writer = new BufferedWriter(new FileWriter(file.getAbsoluteFile(), false));
+    }
+
+    @Override
+    public synchronized void write(LogLevel level, String message) {
+        try {
+            writer.write(level.name());
+            writer.write(' ');
+            writer.write(message);
+            writer.newLine();
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to write to event log", e);
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        try {
+            writer.close();
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to close event log", e);
+        }
+    }
+
+}
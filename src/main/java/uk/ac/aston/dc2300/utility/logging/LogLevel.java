@@ -0,0 +1,10 @@
+package uk.ac.aston.dc2300.utility.logging;
+
+/**
+ * An enum to describe how important a simulation event is, in ascending order of importance
+ *
+ * @since 18/10/26
+ */
+public enum LogLevel {
+    DEBUG, INFO, OFF
+}
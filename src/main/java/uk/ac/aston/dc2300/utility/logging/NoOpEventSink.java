@@ -0,0 +1,20 @@
+package uk.ac.aston.dc2300.utility.logging;
+
+/**
+ * An implementation of EventSink which discards every event, used for headless runs where only the statistics matter
+ *
+ * @since 18/10/26
+ */
+public class NoOpEventSink implements EventSink {
+
+    @Override
+    public void write(LogLevel level, String message) {
+        // Discard
+    }
+
+    @Override
+    public void close() {
+        // Nothing to release
+    }
+
+}
@@ -0,0 +1,78 @@
+package uk.ac.aston.dc2300.utility.logging;
+
+/**
+ * The log that every simulation event is written through. Events are only formatted and passed to the configured
+ * EventSink when their level is enabled, a disabled level costs a single comparison.
+ *
+ * The format arguments are taken as primitive ints rather than varargs so that calls on disabled levels don't box or
+ * allocate an array. The sink and level should be chosen before a simulation is started. They are read by every thread
+ * running a simulation, such as the batch and sweep workers, so are kept in volatile fields.
+ *
+ * @since 18/10/26
+ */
+public final class SimulationLog {
+
+    private static volatile EventSink sink = new ConsoleEventSink();
+
+    private static volatile int minimumLevel = LogLevel.INFO.ordinal();
+
+    private SimulationLog() {
+    }
+
+    /**
+     * Sets where events are written and the lowest level that is written
+     *
+     * @param eventSink the sink to write events to
+     * @param level the lowest level of event to write
+     */
+    public static synchronized void configure(EventSink eventSink, LogLevel level) {
+        EventSink previousSink = sink;
+        sink = eventSink;
+        minimumLevel = level.ordinal();
+        if (previousSink != eventSink) {
+            previousSink.close();
+        }
+    }
+
+    /**
+     * Closes the configured sink and stops writing any further events
+     */
+    public static void close() {
+        configure(new NoOpEventSink(), LogLevel.OFF);
+    }
+
+    /**
+     * Checks whether events of the given level will be written
+     *
+     * @param level the level to check
+     * @return enabled or not
+     */
+    public static boolean isEnabled(LogLevel level) {
+        return level.ordinal() >= minimumLevel;
+    }
+
+    public static void debug(String message) {
+        if (isEnabled(LogLevel.DEBUG)) sink.write(LogLevel.DEBUG, message);
+    }
+
+    public static void debug(String format, int argument) {
+        if (isEnabled(LogLevel.DEBUG)) sink.write(LogLevel.DEBUG, String.format(format, argument));
+    }
+
+    public static void debug(String format, int firstArgument, int secondArgument) {
+        if (isEnabled(LogLevel.DEBUG)) sink.write(LogLevel.DEBUG, String.format(format, firstArgument, secondArgument));
+    }
+
+    public static void info(String message) {
+        if (isEnabled(LogLevel.INFO)) sink.write(LogLevel.INFO, message);
+    }
+
+    public static void info(String format, int argument) {
+        if (isEnabled(LogLevel.INFO)) sink.write(LogLevel.INFO, String.format(format, argument));
+    }
+
+    public static void info(String format, int firstArgument, int secondArgument) {
+        if (isEnabled(LogLevel.INFO)) sink.write(LogLevel.INFO, String.format(format, firstArgument, secondArgument));
+    }
+
+}
@@ -0,0 +1,56 @@
+package uk.ac.aston.dc2300.component;
+
+import org.junit.Test;
+import uk.ac.aston.dc2300.model.configuration.SimulationConfiguration;
+import uk.ac.aston.dc2300.model.status.SimulationStatistics;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Test class for the BatchRunner
+ *
+ * @since 18/10/26
+ */
+public class BatchRunnerTest {
+
+    private final SimulationConfiguration configuration = TestConfigurations.DEFAULT;
+
+    /**
+     * Test to ensure each seed in a parallel batch gives the same results as running it on its own
+     */
+    @Test
+    public void batchMatchesIndividualRuns() throws InterruptedException {
+        List<SimulationStatistics> results = new BatchRunner(configuration, 4).run(420, 6);
+
+        assertEquals(6, results.size());
+        for (int i = 0; i < results.size(); i++) {
+            SimulationStatistics expected = new Simulation(configuration.withSeed(420 + i)).runToEnd();
+            assertEquals(expected.getNumberOfComplaints(), results.get(i).getNumberOfComplaints());
+            assertEquals(expected.getNumberOfWaits(), results.get(i).getNumberOfWaits());
+            assertEquals(expected.getTotalWaitTime(), results.get(i).getTotalWaitTime());
+            assertEquals(expected.getMinimumWaitTime(), results.get(i).getMinimumWaitTime());
+            assertEquals(expected.getMaximumWaitTime(), results.get(i).getMaximumWaitTime());
+        }
+    }
+
+    /**
+     * Test to ensure the aggregate combines the wait times and complaints of every seed
+     */
+    @Test
+    public void aggregateCombinesEverySeed() throws InterruptedException {
+        List<SimulationStatistics> results = new BatchRunner(configuration, 2).run(1, 3);
+        SimulationStatistics aggregate = BatchRunner.aggregate(results);
+
+        int complaints = 0;
+        long waits = 0;
+        for (SimulationStatistics result : results) {
+            complaints += result.getNumberOfComplaints();
+            waits += result.getNumberOfWaits();
+        }
+        assertEquals(complaints, aggregate.getNumberOfComplaints());
+        assertEquals(waits, aggregate.getNumberOfWaits());
+    }
+
+}
@@ -0,0 +1,104 @@
+package uk.ac.aston.dc2300.component;
+
+import org.junit.Test;
+import uk.ac.aston.dc2300.model.configuration.SimulationConfiguration;
+import uk.ac.aston.dc2300.model.status.SimulationStatistics;
+
+import java.math.BigDecimal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test class for the CompactSimulation engine
+ *
+ * @since 18/10/26
+ */
+public class CompactSimulationTest {
+
+    /**
+     * Ticks both engines with the same configuration, checking the complaints and visitors after every tick and the
+     * statistics at the end match exactly
+     *
+     * @param configuration the configuration to run
+     */
+    private void assertSameSimulation(SimulationConfiguration configuration) {
+        Simulation simulation = new Simulation(configuration);
+        CompactSimulation compactSimulation = new CompactSimulation(configuration);
+
+        boolean running = true;
+        while (running) {
+            running = simulation.tick().isSimulationRunning();
+            assertEquals(running, compactSimulation.tick().isSimulationRunning());
+            assertEquals(simulation.getCurrentTime(), compactSimulation.getCurrentTime());
+            assertEquals(simulation.getBuilding().getNumberComplaints(), compactSimulation.getNumberComplaints());
+            assertEquals(simulation.getBuilding().getAllVisitors().size(), compactSimulation.getNumberOfVisitors());
+        }
+
+        SimulationStatistics tickStatistics = simulation.getStatistics();
+        SimulationStatistics compactStatistics = compactSimulation.getStatistics();
+        assertEquals(tickStatistics.toCSV(), compactStatistics.toCSV());
+        assertEquals(tickStatistics.getTotalWaitTime(), compactStatistics.getTotalWaitTime());
+        assertEquals(tickStatistics.getMinimumWaitTime(), compactStatistics.getMinimumWaitTime());
+        assertEquals(tickStatistics.getMaximumWaitTime(), compactStatistics.getMaximumWaitTime());
+    }
+
+    /**
+     * Test to ensure the compact engine matches the tick engine with the default settings
+     */
+    @Test
+    public void matchesTickEngineWithDefaultConfiguration() {
+        assertSameSimulation(TestConfigurations.DEFAULT);
+    }
+
+    /**
+     * Test to ensure the compact engine matches the tick engine when lots of clients arrive and complain
+     */
+    @Test
+    public void matchesTickEngineWithBusyBuilding() {
+        assertSameSimulation(TestConfigurations.BUSY);
+    }
+
+    /**
+     * Test to ensure the compact engine matches the tick engine when maintenance crews can't fit in the elevator
+     */
+    @Test
+    public void matchesTickEngineWithSmallElevator() {
+        assertSameSimulation(new SimulationConfiguration(new BigDecimal("0.05"), new BigDecimal("0.1"), 99,
+                20, 20, 5, 3, 28800));
+    }
+
+    /**
+     * Test to ensure the compact engine matches the tick engine when the building is only visited by clients
+     */
+    @Test
+    public void matchesTickEngineWithOnlyVisitors() {
+        assertSameSimulation(TestConfigurations.ONLY_VISITORS);
+    }
+
+    /**
+     * Test to ensure the compact engine matches the tick engine in a building with only a ground floor
+     */
+    @Test
+    public void matchesTickEngineWithSingleFloor() {
+        assertSameSimulation(new SimulationConfiguration(BigDecimal.ZERO, new BigDecimal("0.5"), 3,
+                0, 0, 1, 4, 10000));
+    }
+
+    /**
+     * Test to ensure the compact engine runs to the end with many occupants and reports no building
+     */
+    @Test
+    public void runsLargeBuildingToEnd() {
+        CompactSimulation compactSimulation = new CompactSimulation(new SimulationConfiguration(
+                new BigDecimal("0.01"), new BigDecimal("0.1"), 1, 50000, 50000, 100, 8, 600));
+
+        assertNull(compactSimulation.tick().getBuilding());
+        compactSimulation.runToEnd();
+
+        assertEquals(610, compactSimulation.getCurrentTime());
+        assertTrue(compactSimulation.getNumberOfVisitors() >= 100000);
+    }
+
+}
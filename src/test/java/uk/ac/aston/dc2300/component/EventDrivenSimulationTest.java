@@ -0,0 +1,102 @@
+package uk.ac.aston.dc2300.component;
+
+import org.junit.Test;
+import uk.ac.aston.dc2300.model.configuration.SimulationConfiguration;
+import uk.ac.aston.dc2300.model.status.SimulationStatistics;
+
+import java.math.BigDecimal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test class for the EventDrivenSimulation engine
+ *
+ * @since 18/10/26
+ */
+public class EventDrivenSimulationTest {
+
+    /**
+     * Runs the given simulation until it reports it has finished
+     *
+     * @param simulation the simulation to run
+     * @return the statistics at the end of the run
+     */
+    private SimulationStatistics runToEnd(Simulation simulation) {
+        while (simulation.tick().isSimulationRunning()) {
+            // Keep ticking
+        }
+        return simulation.getStatistics();
+    }
+
+    /**
+     * Runs both engines with the same configuration and checks the statistics match exactly
+     *
+     * @param configuration the configuration to run
+     */
+    private void assertSameStatistics(SimulationConfiguration configuration) {
+        SimulationStatistics tickStatistics = runToEnd(new Simulation(configuration));
+        SimulationStatistics eventStatistics = runToEnd(new EventDrivenSimulation(configuration));
+
+        assertEquals(tickStatistics.getNumberOfComplaints(), eventStatistics.getNumberOfComplaints());
+        assertEquals(tickStatistics.getAverageTime(), eventStatistics.getAverageTime());
+        assertEquals(tickStatistics.getNumberOfWaits(), eventStatistics.getNumberOfWaits());
+        assertEquals(tickStatistics.getTotalWaitTime(), eventStatistics.getTotalWaitTime());
+        assertEquals(tickStatistics.getMinimumWaitTime(), eventStatistics.getMinimumWaitTime());
+        assertEquals(tickStatistics.getMaximumWaitTime(), eventStatistics.getMaximumWaitTime());
+    }
+
+    /**
+     * Test to ensure the event engine matches the tick engine with the default settings
+     */
+    @Test
+    public void matchesTickEngineWithDefaultConfiguration() {
+        assertSameStatistics(TestConfigurations.DEFAULT);
+    }
+
+    /**
+     * Test to ensure the event engine matches the tick engine when lots of clients arrive and complain
+     */
+    @Test
+    public void matchesTickEngineWithBusyBuilding() {
+        assertSameStatistics(TestConfigurations.BUSY);
+    }
+
+    /**
+     * Test to ensure the event engine matches the tick engine when the elevator spends most of its time parked
+     */
+    @Test
+    public void matchesTickEngineWithQuietBuilding() {
+        assertSameStatistics(new SimulationConfiguration(new BigDecimal("0.001"), new BigDecimal("0.01"), 5,
+                5, 0, 10, 4, 28800));
+    }
+
+    /**
+     * Test to ensure the event engine matches the tick engine when the building is only visited by clients
+     */
+    @Test
+    public void matchesTickEngineWithOnlyVisitors() {
+        assertSameStatistics(TestConfigurations.ONLY_VISITORS);
+    }
+
+    /**
+     * Test to ensure a fork stays event driven and carries on exactly as the original would, forking at several points
+     * while clients are queuing and complaining
+     */
+    @Test
+    public void forkCarriesOnTheSame() {
+        SimulationConfiguration configuration = TestConfigurations.BUSY;
+        for (int ticks : new int[]{0, 1, 37, 500, 1000}) {
+            EventDrivenSimulation simulation = new EventDrivenSimulation(configuration);
+            for (int i = 0; i < ticks; i++) {
+                simulation.tick();
+            }
+
+            Simulation fork = simulation.fork();
+
+            assertTrue(fork instanceof EventDrivenSimulation);
+            assertEquals(runToEnd(simulation).toCSV(), runToEnd(fork).toCSV());
+        }
+    }
+
+}
@@ -0,0 +1,108 @@
+package uk.ac.aston.dc2300.component;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import uk.ac.aston.dc2300.model.configuration.SimulationConfiguration;
+import uk.ac.aston.dc2300.model.entity.Building;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Test class for the ParallelSimulation engine
+ *
+ * @since 18/10/26
+ */
+public class ParallelSimulationTest {
+
+    // Enough occupants for the choices to be split between several tasks
+    private static final SimulationConfiguration CONFIGURATION = new SimulationConfiguration(new BigDecimal("0.05"),
+            new BigDecimal("0.2"), 420, 6000, 6000, 10, 8, 3000);
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private final ForkJoinPool singleThread = new ForkJoinPool(1);
+    private final ForkJoinPool fourThreads = new ForkJoinPool(4);
+
+    /**
+     * Stops the pools after each test
+     */
+    @After
+    public void teardown() {
+        singleThread.shutdown();
+        fourThreads.shutdown();
+    }
+
+    /**
+     * Test to ensure the simulation gives the same results however many threads make the choices
+     */
+    @Test
+    public void sameResultsForAnyNumberOfThreads() {
+        ParallelSimulation serial = new ParallelSimulation(CONFIGURATION, singleThread);
+        ParallelSimulation parallel = new ParallelSimulation(CONFIGURATION, fourThreads);
+
+        boolean running = true;
+        while (running) {
+            running = serial.tick().isSimulationRunning();
+            assertEquals(running, parallel.tick().isSimulationRunning());
+            assertSameBuilding(serial.getBuilding(), parallel.getBuilding());
+        }
+        assertEquals(serial.getStatistics().toCSV(), parallel.getStatistics().toCSV());
+    }
+
+    /**
+     * Test to ensure a fork carries on making its choices in parallel exactly as the original would
+     */
+    @Test
+    public void forkCarriesOnTheSame() {
+        ParallelSimulation simulation = new ParallelSimulation(CONFIGURATION, fourThreads);
+        for (int i = 0; i < 100; i++) {
+            simulation.tick();
+        }
+
+        ParallelSimulation fork = simulation.fork();
+
+        assertEquals(simulation.runToEnd().toCSV(), fork.runToEnd().toCSV());
+    }
+
+    /**
+     * Test to ensure recording a journal, which visits everybody on every tick, doesn't change the results
+     */
+    @Test
+    public void sameResultsWhileRecording() throws IOException {
+        ParallelSimulation simulation = new ParallelSimulation(CONFIGURATION, fourThreads);
+        ParallelSimulation recorded = new ParallelSimulation(CONFIGURATION, fourThreads);
+
+        SimulationJournal journal = SimulationJournal.record(recorded, folder.newFile().toPath());
+        try {
+            assertEquals(simulation.runToEnd().toCSV(), recorded.runToEnd().toCSV());
+        } finally {
+            journal.close();
+        }
+        assertSameBuilding(simulation.getBuilding(), recorded.getBuilding());
+    }
+
+    /**
+     * Checks everybody is on the same floors and queuing in the same numbers in both buildings
+     *
+     * @param expected the building of the first simulation
+     * @param actual the building of the second simulation
+     */
+    private void assertSameBuilding(Building expected, Building actual) {
+        assertEquals(expected.getNumberComplaints(), actual.getNumberComplaints());
+        assertEquals(expected.getAllVisitors().size(), actual.getAllVisitors().size());
+        for (int i = 0; i < expected.getFloors().size(); i++) {
+            assertEquals(expected.getFloors().get(i).getOccupants().size(),
+                    actual.getFloors().get(i).getOccupants().size());
+            assertEquals(expected.getFloors().get(i).getElevatorQueue().size(),
+                    actual.getFloors().get(i).getElevatorQueue().size());
+        }
+    }
+
+}
@@ -0,0 +1,49 @@
+package uk.ac.aston.dc2300.component;
+
+import org.junit.Test;
+import uk.ac.aston.dc2300.model.configuration.SimulationConfiguration;
+import uk.ac.aston.dc2300.model.status.SimulationStatistics;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Test class for the ScenarioRunner
+ *
+ * @since 18/10/26
+ */
+public class ScenarioRunnerTest {
+
+    private final SimulationConfiguration configuration = new SimulationConfiguration(new BigDecimal("0.05"),
+            new BigDecimal("0.05"), 42, 20, 20, 8, 6, 28800);
+
+    /**
+     * Test to ensure each scenario run in parallel gives the same results as running its fork on its own
+     */
+    @Test
+    public void scenariosMatchIndividualForks() throws InterruptedException {
+        Simulation warmedUp = new Simulation(configuration);
+        for (int i = 0; i < 900; i++) {
+            warmedUp.tick();
+        }
+        List<SimulationConfiguration> scenarios = Arrays.asList(
+                configuration,
+                configuration.withClientArrivalProbability(new BigDecimal("0.1")),
+                configuration.withEmpFloorChangeProbability(new BigDecimal("0.2")),
+                configuration.withSeed(7),
+                configuration.withSimulationTime(36000));
+
+        List<SimulationStatistics> results = new ScenarioRunner(warmedUp, 3).run(scenarios);
+
+        assertEquals(scenarios.size(), results.size());
+        for (int i = 0; i < scenarios.size(); i++) {
+            assertEquals(warmedUp.fork(scenarios.get(i)).runToEnd().toCSV(), results.get(i).toCSV());
+        }
+        // The scenario with no changes carries on as the warmed up simulation would
+        assertEquals(new Simulation(configuration).runToEnd().toCSV(), results.get(0).toCSV());
+    }
+
+}
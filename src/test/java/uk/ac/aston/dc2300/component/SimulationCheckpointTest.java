@@ -0,0 +1,198 @@
+package uk.ac.aston.dc2300.component;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import uk.ac.aston.dc2300.model.configuration.SimulationConfiguration;
+import uk.ac.aston.dc2300.model.entity.Building;
+import uk.ac.aston.dc2300.model.entity.BuildingOccupant;
+import uk.ac.aston.dc2300.model.entity.Elevator;
+import uk.ac.aston.dc2300.model.entity.Floor;
+import uk.ac.aston.dc2300.model.status.SimulationStatistics;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+/**
+ * Test class for saving and restoring simulations with SimulationCheckpoint
+ *
+ * @since 18/10/26
+ */
+public class SimulationCheckpointTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    /**
+     * Saves a simulation part way through, restores it and checks both carry on to give exactly the same results
+     *
+     * @param configuration the configuration to run
+     * @param ticksBeforeSaving the number of ticks to run before saving
+     */
+    private void assertRestoredRunMatches(SimulationConfiguration configuration, int ticksBeforeSaving)
+            throws IOException {
+        Simulation original = new Simulation(configuration, true);
+        for (int i = 0; i < ticksBeforeSaving; i++) {
+            original.tick();
+        }
+        Path file = folder.newFile().toPath();
+        SimulationCheckpoint.save(original, file);
+        Simulation restored = SimulationCheckpoint.restore(file);
+
+        assertEquals(original.getCurrentTime(), restored.getCurrentTime());
+        assertEquals(describe(original), describe(restored));
+
+        while (original.tick().isSimulationRunning()) {
+            assertEquals(true, restored.tick().isSimulationRunning());
+        }
+        assertEquals(false, restored.tick().isSimulationRunning());
+        assertEquals(describe(original), describe(restored));
+
+        SimulationStatistics originalStatistics = original.getStatistics();
+        SimulationStatistics restoredStatistics = restored.getStatistics();
+        assertEquals(originalStatistics.getNumberOfWaits(), restoredStatistics.getNumberOfWaits());
+        assertEquals(originalStatistics.getTotalWaitTime(), restoredStatistics.getTotalWaitTime());
+        assertEquals(originalStatistics.getNumberOfComplaints(), restoredStatistics.getNumberOfComplaints());
+        assertEquals(originalStatistics.toCSV(), restoredStatistics.toCSV());
+        assertEquals(original.getBuilding().getNumberDepartedVisitors(),
+                restored.getBuilding().getNumberDepartedVisitors());
+        assertEquals(original.getBuilding().getAverageDepartedVisitTime(),
+                restored.getBuilding().getAverageDepartedVisitTime());
+    }
+
+    /**
+     * Describes where everybody in the simulation is and what they are doing
+     *
+     * @param simulation the simulation to describe
+     * @return the description
+     */
+    private String describe(Simulation simulation) {
+        StringBuilder description = new StringBuilder();
+        for (BuildingOccupant visitor : simulation.getBuilding().getAllVisitors()) {
+            describe(visitor, description);
+        }
+        for (Floor floor : simulation.getBuilding().getFloors()) {
+            description.append("\nFloor ").append(floor.getFloorNumber()).append(':');
+            for (BuildingOccupant occupant : floor.getOccupants()) {
+                describe(occupant, description);
+            }
+            description.append(" queue:");
+            for (BuildingOccupant occupant : floor.getElevatorQueue()) {
+                describe(occupant, description);
+            }
+        }
+        for (Elevator elevator : simulation.getBuilding().getElevators()) {
+            description.append("\nElevator ").append(elevator.getCurrentFloor().getFloorNumber())
+                    .append(' ').append(elevator.getDoorStatus()).append(' ').append(elevator.getMovementStatus())
+                    .append(' ').append(elevator.isParked()).append(':');
+            for (BuildingOccupant occupant : elevator.getOccupants()) {
+                describe(occupant, description);
+            }
+        }
+        return description.toString();
+    }
+
+    private void describe(BuildingOccupant occupant, StringBuilder description) {
+        description.append(' ').append(occupant.getClass().getSimpleName())
+                .append('(').append(occupant.getTimeEntered())
+                .append(',').append(occupant.getDestination() == null ? -1 : occupant.getDestination().getFloorNumber())
+                .append(',').append(occupant.getQueueEntryTime())
+                .append(',').append(occupant.getTotalWaitTime())
+                .append(',').append(occupant.getWaitTimes().length).append(')');
+    }
+
+    /**
+     * Test to ensure the default settings carry on exactly after being restored
+     */
+    @Test
+    public void defaultConfigurationRestores() throws IOException {
+        assertRestoredRunMatches(TestConfigurations.DEFAULT, 1000);
+    }
+
+    /**
+     * Test to ensure a busy building with clients queuing, complaining and leaving carries on exactly after being
+     * restored, saving at several points through the simulation
+     */
+    @Test
+    public void busyConfigurationRestores() throws IOException {
+        SimulationConfiguration configuration = TestConfigurations.BUSY;
+        for (int ticks : new int[]{0, 1, 2, 37, 500, 1440}) {
+            assertRestoredRunMatches(configuration, ticks);
+        }
+    }
+
+    /**
+     * Test to ensure a simulation saved by the event driven engine carries on as a tick engine with the same results
+     */
+    @Test
+    public void eventDrivenSimulationRestores() throws IOException {
+        SimulationConfiguration configuration = new SimulationConfiguration(new BigDecimal("0.05"),
+                new BigDecimal("0.1"), 99, 20, 20, 10, 8, 14400);
+        Simulation eventDriven = new EventDrivenSimulation(configuration);
+        for (int i = 0; i < 700; i++) {
+            eventDriven.tick();
+        }
+        Path file = folder.newFile().toPath();
+        SimulationCheckpoint.save(eventDriven, file);
+
+        assertEquals(new Simulation(configuration).runToEnd().toCSV(),
+                SimulationCheckpoint.restore(file).runToEnd().toCSV());
+    }
+
+    /**
+     * Test to ensure files which aren't checkpoints are refused
+     */
+    @Test(expected = IOException.class)
+    public void notACheckpoint() throws IOException {
+        Path file = folder.newFile().toPath();
+        Files.write(file, "Average Time (s),Number of complaints".getBytes("UTF-8"));
+        SimulationCheckpoint.restore(file);
+    }
+
+    /**
+     * Test to ensure a checkpoint cut short is refused
+     */
+    @Test(expected = IOException.class)
+    public void truncatedCheckpoint() throws IOException {
+        Path file = folder.newFile().toPath();
+        SimulationCheckpoint.save(new Simulation(TestConfigurations.DEFAULT), file);
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length / 2));
+        SimulationCheckpoint.restore(file);
+    }
+
+    /**
+     * Test to ensure a save which fails part way through leaves the earlier checkpoint as it was and no temporary files
+     */
+    @Test
+    public void failedSaveKeepsEarlierCheckpoint() throws IOException {
+        SimulationConfiguration configuration = TestConfigurations.DEFAULT;
+        Path file = folder.getRoot().toPath().resolve("simulation.checkpoint");
+        SimulationCheckpoint.save(new Simulation(configuration), file);
+        byte[] earlierCheckpoint = Files.readAllBytes(file);
+
+        Simulation failing = new Simulation(configuration) {
+            @Override
+            public Building getBuilding() {
+                throw new IllegalStateException("Building unavailable");
+            }
+        };
+        try {
+            SimulationCheckpoint.save(failing, file);
+            fail("Save should have failed");
+        } catch (IllegalStateException e) {
+            // Expected
+        }
+
+        assertArrayEquals(earlierCheckpoint, Files.readAllBytes(file));
+        assertEquals(1, folder.getRoot().list().length);
+    }
+
+}
@@ -0,0 +1,164 @@
+package uk.ac.aston.dc2300.component;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import uk.ac.aston.dc2300.model.entity.Floor;
+import uk.ac.aston.dc2300.model.status.SimulationStatistics;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Test class for recording simulations with SimulationJournal and replaying them with ReplaySimulation
+ *
+ * @since 18/10/26
+ */
+public class SimulationJournalTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    /**
+     * Records the given simulation to the end and checks replaying the journal gives exactly the same run
+     *
+     * @param simulation the simulation to record
+     */
+    private void assertReplayMatches(Simulation simulation) throws IOException {
+        Path file = folder.newFile().toPath();
+        SimulationJournal journal = SimulationJournal.record(simulation, file);
+        try {
+            simulation.runToEnd();
+        } finally {
+            journal.close();
+        }
+
+        SimulationStatistics replayStatistics;
+        try (ReplaySimulation replay = ReplaySimulation.open(file)) {
+            replayStatistics = replay.runToEnd();
+            assertEquals(simulation.getCurrentTime(), replay.getCurrentTime());
+            assertEquals(simulation.getBuilding().getNumberDepartedVisitors(),
+                    replay.getBuilding().getNumberDepartedVisitors());
+            assertEquals(simulation.getBuilding().getAllVisitors().size(), replay.getBuilding().getAllVisitors().size());
+            for (Floor floor : simulation.getBuilding().getFloors()) {
+                Floor replayFloor = replay.getBuilding().getFloors().get(floor.getFloorNumber());
+                assertEquals(floor.getOccupants().size(), replayFloor.getOccupants().size());
+                assertEquals(floor.getElevatorQueue().size(), replayFloor.getElevatorQueue().size());
+            }
+        }
+        SimulationStatistics statistics = simulation.getStatistics();
+        assertEquals(statistics.getNumberOfWaits(), replayStatistics.getNumberOfWaits());
+        assertEquals(statistics.getTotalWaitTime(), replayStatistics.getTotalWaitTime());
+        assertEquals(statistics.toCSV(), replayStatistics.toCSV());
+    }
+
+    /**
+     * Test to ensure the default settings replay exactly
+     */
+    @Test
+    public void defaultConfigurationReplays() throws IOException {
+        assertReplayMatches(new Simulation(TestConfigurations.DEFAULT));
+    }
+
+    /**
+     * Test to ensure a busy building with clients complaining and leaving replays exactly
+     */
+    @Test
+    public void busyConfigurationReplays() throws IOException {
+        assertReplayMatches(new Simulation(TestConfigurations.BUSY));
+    }
+
+    /**
+     * Test to ensure a run recorded by the event driven engine replays exactly
+     */
+    @Test
+    public void eventDrivenSimulationReplays() throws IOException {
+        assertReplayMatches(new EventDrivenSimulation(TestConfigurations.BUSY));
+    }
+
+    /**
+     * Test to ensure a run recorded by the parallel engine replays exactly
+     */
+    @Test
+    public void parallelSimulationReplays() throws IOException {
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            assertReplayMatches(new ParallelSimulation(TestConfigurations.BUSY, pool));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Test to ensure a journal can't be started part way through a simulation
+     */
+    @Test(expected = IllegalStateException.class)
+    public void startedSimulationRefused() throws IOException {
+        Simulation simulation = new Simulation(TestConfigurations.BUSY);
+        simulation.tick();
+        SimulationJournal.record(simulation, folder.newFile().toPath());
+    }
+
+    /**
+     * Test to ensure files which aren't journals are refused
+     */
+    @Test(expected = IOException.class)
+    public void notAJournal() throws IOException {
+        Path file = folder.newFile().toPath();
+        SimulationCheckpoint.save(new Simulation(TestConfigurations.BUSY), file);
+        ReplaySimulation.open(file);
+    }
+
+    /**
+     * Test to ensure replaying a journal cut short fails rather than carrying on without it
+     */
+    @Test(expected = UncheckedIOException.class)
+    public void truncatedJournal() throws IOException {
+        Path file = folder.newFile().toPath();
+        Simulation simulation = new Simulation(TestConfigurations.BUSY);
+        SimulationJournal journal = SimulationJournal.record(simulation, file);
+        try {
+            simulation.runToEnd();
+        } finally {
+            journal.close();
+        }
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length / 2));
+        try (ReplaySimulation replay = ReplaySimulation.open(file)) {
+            replay.runToEnd();
+        }
+    }
+
+    /**
+     * Test to ensure a replay can't be forked
+     */
+    @Test(expected = IllegalStateException.class)
+    public void replayForkRefused() throws IOException {
+        Path file = folder.newFile().toPath();
+        // Only the configuration is needed, so the journal is closed straight away
+        SimulationJournal.record(new Simulation(TestConfigurations.BUSY), file).close();
+        try (ReplaySimulation replay = ReplaySimulation.open(file)) {
+            replay.fork();
+        }
+    }
+
+    /**
+     * Test to ensure a replay can't be saved to a checkpoint
+     */
+    @Test(expected = IllegalStateException.class)
+    public void replayCheckpointRefused() throws IOException {
+        Path file = folder.newFile().toPath();
+        // Only the configuration is needed, so the journal is closed straight away
+        SimulationJournal.record(new Simulation(TestConfigurations.BUSY), file).close();
+        try (ReplaySimulation replay = ReplaySimulation.open(file)) {
+            SimulationCheckpoint.save(replay, folder.newFile().toPath());
+        }
+    }
+
+}
@@ -0,0 +1,132 @@
+package uk.ac.aston.dc2300.component;
+
+import org.junit.Test;
+import uk.ac.aston.dc2300.model.configuration.SimulationConfiguration;
+import uk.ac.aston.dc2300.model.status.SimulationStatistics;
+
+import java.math.BigDecimal;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Test class for the Simulation, checks that known seeds still produce the statistics they always have
+ *
+ * @since 18/10/26
+ */
+public class SimulationTest {
+
+    /**
+     * Runs a simulation with the given configuration until it finishes and checks the statistics
+     *
+     * @param configuration the configuration to run
+     * @param averageTime the expected average wait time
+     * @param numberOfComplaints the expected number of complaints
+     * @param numberOfWaits the expected number of recorded wait times
+     */
+    private void assertStatistics(SimulationConfiguration configuration, int averageTime, int numberOfComplaints,
+                                  int numberOfWaits) {
+        Simulation simulation = new Simulation(configuration);
+        while (simulation.tick().isSimulationRunning()) {
+            // Keep ticking
+        }
+        SimulationStatistics statistics = simulation.getStatistics();
+
+        assertEquals(averageTime, statistics.getAverageTime());
+        assertEquals(numberOfComplaints, statistics.getNumberOfComplaints());
+        assertEquals(numberOfWaits, statistics.getNumberOfWaits());
+    }
+
+    /**
+     * Test to ensure the default settings give the same results
+     */
+    @Test
+    public void defaultConfigurationUnchanged() {
+        assertStatistics(TestConfigurations.DEFAULT, 577, 2, 396);
+    }
+
+    /**
+     * Test to ensure a busy building with lots of clients gives the same results
+     */
+    @Test
+    public void busyConfigurationUnchanged() {
+        assertStatistics(TestConfigurations.BUSY, 370, 184, 481);
+    }
+
+    /**
+     * Test to ensure a tall building with lots of occupants gives the same results
+     */
+    @Test
+    public void largeConfigurationUnchanged() {
+        assertStatistics(new SimulationConfiguration(new BigDecimal("0.03"), new BigDecimal("0.2"), 12345,
+                200, 150, 12, 10, 28800), 564, 256, 859);
+    }
+
+    /**
+     * Test to ensure probabilities of one half give the same results
+     */
+    @Test
+    public void evenProbabilitiesUnchanged() {
+        assertStatistics(new SimulationConfiguration(new BigDecimal("0.5"), new BigDecimal("0.5"), 3,
+                5, 5, 3, 2, 7200), 197, 65, 265);
+    }
+
+    /**
+     * Test to ensure a building only visited by clients and developers gives the same results
+     */
+    @Test
+    public void zeroFloorChangeProbabilityUnchanged() {
+        assertStatistics(new SimulationConfiguration(new BigDecimal("0.0"), new BigDecimal("0.9"), 8,
+                0, 20, 7, 3, 20000), 489, 1200, 1535);
+    }
+
+    /**
+     * Test to ensure a fork carries on exactly as the simulation it was forked from and doesn't change it
+     */
+    @Test
+    public void forkCarriesOnTheSame() {
+        SimulationConfiguration configuration = TestConfigurations.BUSY;
+        Simulation simulation = new Simulation(configuration);
+        for (int i = 0; i < 500; i++) {
+            simulation.tick();
+        }
+        Simulation fork = simulation.fork();
+        assertEquals(simulation.getCurrentTime(), fork.getCurrentTime());
+
+        // Run the fork first, the original should still give the results of an uninterrupted run
+        String forkResult = fork.runToEnd().toCSV();
+        assertEquals(new Simulation(configuration).runToEnd().toCSV(), simulation.runToEnd().toCSV());
+        assertEquals(forkResult, simulation.getStatistics().toCSV());
+    }
+
+    /**
+     * Test to ensure a fork with a different client arrival probability only differs from the point it was forked
+     */
+    @Test
+    public void forkWithNewProbability() {
+        SimulationConfiguration configuration = TestConfigurations.DEFAULT;
+        Simulation simulation = new Simulation(configuration);
+        for (int i = 0; i < 1000; i++) {
+            simulation.tick();
+        }
+        int complaintsBeforeFork = simulation.getBuilding().getNumberComplaints();
+        long waitsBeforeFork = simulation.getStatistics().getNumberOfWaits();
+
+        Simulation busier = simulation.fork(configuration.withClientArrivalProbability(new BigDecimal("0.5")));
+        assertEquals(waitsBeforeFork, busier.getStatistics().getNumberOfWaits());
+        SimulationStatistics busierStatistics = busier.runToEnd();
+
+        assertEquals(true, busierStatistics.getNumberOfComplaints() > complaintsBeforeFork);
+        assertEquals(true, busierStatistics.getNumberOfWaits() > simulation.runToEnd().getNumberOfWaits());
+    }
+
+    /**
+     * Test to ensure a fork can't change the building
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void forkCantChangeBuilding() {
+        SimulationConfiguration configuration = TestConfigurations.DEFAULT;
+        new Simulation(configuration).fork(new SimulationConfiguration(new BigDecimal("0.01"),
+                new BigDecimal("0.005"), 420, 10, 10, 7, 4, 28800));
+    }
+
+}
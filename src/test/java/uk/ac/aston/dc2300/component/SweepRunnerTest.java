@@ -0,0 +1,52 @@
+package uk.ac.aston.dc2300.component;
+
+import org.junit.Test;
+import uk.ac.aston.dc2300.model.configuration.ParameterSweep;
+import uk.ac.aston.dc2300.model.status.SimulationStatistics;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Test class for the SweepRunner
+ *
+ * @since 18/10/26
+ */
+public class SweepRunnerTest {
+
+    /**
+     * Test to ensure every point of a sweep is run once and gives the same results as running it on its own
+     */
+    @Test
+    public void everyPointRunOnce() throws InterruptedException {
+        ParameterSweep sweep = new ParameterSweep(
+                Arrays.asList(new BigDecimal("0.01"), new BigDecimal("0.1")),
+                Collections.singletonList(new BigDecimal("0.05")),
+                Arrays.asList(1L, 2L),
+                Collections.singletonList(10),
+                Collections.singletonList(10),
+                Arrays.asList(4, 8),
+                Collections.singletonList(4),
+                Collections.singletonList(3600));
+
+        Map<String, SimulationStatistics> results = new HashMap<>();
+        new SweepRunner(sweep, 3).run((configuration, statistics) -> results.put(configuration.toCSV(), statistics));
+
+        assertEquals(8, results.size());
+        for (long i = 0; i < sweep.size(); i++) {
+            SimulationStatistics expected = new Simulation(sweep.get(i)).runToEnd();
+            SimulationStatistics actual = results.get(sweep.get(i).toCSV());
+            assertEquals(expected.getNumberOfComplaints(), actual.getNumberOfComplaints());
+            assertEquals(expected.getNumberOfWaits(), actual.getNumberOfWaits());
+            assertEquals(expected.getTotalWaitTime(), actual.getTotalWaitTime());
+            assertEquals(expected.getMinimumWaitTime(), actual.getMinimumWaitTime());
+            assertEquals(expected.getMaximumWaitTime(), actual.getMaximumWaitTime());
+        }
+    }
+
+}
@@ -0,0 +1,35 @@
+package uk.ac.aston.dc2300.component;
+
+import uk.ac.aston.dc2300.model.configuration.SimulationConfiguration;
+
+import java.math.BigDecimal;
+
+/**
+ * The configurations shared by the tests of the simulation engines
+ *
+ * @since 18/10/26
+ */
+final class TestConfigurations {
+
+    /**
+     * The default settings of the command line interface
+     */
+    static final SimulationConfiguration DEFAULT = new SimulationConfiguration(new BigDecimal("0.01"),
+            new BigDecimal("0.005"), 420, 10, 10, 6, 4, 28800);
+
+    /**
+     * A busy building where lots of clients arrive, queue, complain and leave
+     */
+    static final SimulationConfiguration BUSY = new SimulationConfiguration(new BigDecimal("0.2"),
+            new BigDecimal("0.3"), 7, 50, 40, 8, 6, 14400);
+
+    /**
+     * A building which is only visited by clients
+     */
+    static final SimulationConfiguration ONLY_VISITORS = new SimulationConfiguration(BigDecimal.ZERO,
+            new BigDecimal("0.9"), 8, 0, 0, 7, 3, 20000);
+
+    private TestConfigurations() {
+    }
+
+}
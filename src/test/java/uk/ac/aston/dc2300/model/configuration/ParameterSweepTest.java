@@ -0,0 +1,71 @@
+package uk.ac.aston.dc2300.model.configuration;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Test class for the ParameterSweep
+ *
+ * @since 18/10/26
+ */
+public class ParameterSweepTest {
+
+    private final ParameterSweep sweep = new ParameterSweep(
+            Arrays.asList(new BigDecimal("0.01"), new BigDecimal("0.05")),
+            Collections.singletonList(new BigDecimal("0.005")),
+            Arrays.asList(1L, 2L, 3L),
+            Collections.singletonList(10),
+            Collections.singletonList(10),
+            Arrays.asList(5, 10),
+            Collections.singletonList(4),
+            Collections.singletonList(28800));
+
+    /**
+     * Test to ensure the size of the sweep is the number of combinations of its values
+     */
+    @Test
+    public void sizeIsNumberOfCombinations() {
+        assertEquals(12, sweep.size());
+    }
+
+    /**
+     * Test to ensure every point of the sweep is a different combination
+     */
+    @Test
+    public void everyPointIsDifferent() {
+        Set<String> points = new HashSet<>();
+        for (long i = 0; i < sweep.size(); i++) {
+            points.add(sweep.get(i).toCSV());
+        }
+        assertEquals(12, points.size());
+    }
+
+    /**
+     * Test to ensure seeds change fastest so replications of a configuration are next to each other
+     */
+    @Test
+    public void seedsChangeFastest() {
+        assertEquals("0.01,0.005,1,10,10,5,4,28800", sweep.get(0).toCSV());
+        assertEquals("0.01,0.005,2,10,10,5,4,28800", sweep.get(1).toCSV());
+        assertEquals("0.01,0.005,1,10,10,10,4,28800", sweep.get(3).toCSV());
+        assertEquals("0.05,0.005,3,10,10,10,4,28800", sweep.get(11).toCSV());
+    }
+
+    /**
+     * Test to ensure a sweep can't be created with a field that has no values
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void emptyFieldRejected() {
+        new ParameterSweep(Collections.<BigDecimal>emptyList(), Collections.singletonList(BigDecimal.ZERO),
+                Collections.singletonList(1L), Collections.singletonList(1), Collections.singletonList(1),
+                Collections.singletonList(1), Collections.singletonList(1), Collections.singletonList(1));
+    }
+
+}
@@ -5,11 +5,12 @@ import org.junit.Test;
 import uk.ac.aston.dc2300.model.status.DeveloperCompany;
 import uk.ac.aston.dc2300.utility.RandomUtils;
 
-import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -86,6 +87,23 @@ public class BuildingTest {
         assertEquals(empFloor.getElevatorQueue().size(), 0);
     }
 
+    /**
+     * Test to ensure the building tracks the floor of an occupant as they ride the elevator
+     */
+    @Test
+    public void getFloorContainingOccupantAfterElevatorRide() {
+        Elevator elevator = elevators.get(0);
+        employee.setDestination(floors.get(3));
+
+        // Employee gets into the elevator and is no longer on a floor
+        employee.getInElevator(elevator, floors.get(0), 10);
+        assertEquals(null, building.getFloorContainingOccupant(employee));
+
+        // Employee gets out on their destination floor
+        employee.getOutElevatorIfAtDestination(elevator, floors.get(3), 40);
+        assertEquals(floors.get(3), building.getFloorContainingOccupant(employee));
+    }
+
     /**
      * Test to ensure the building gets all the current building occupants
      */
@@ -122,8 +140,8 @@ public class BuildingTest {
         Client client2 = new Client(0, 1200);
         floors.get(0).addOccupant(client1);
         floors.get(0).addOccupant(client2);
-        client1.setNewDestination(building, new RandomUtils(421), BigDecimal.ONE,0);
-        client2.setNewDestination(building, new RandomUtils(421), BigDecimal.ONE,0);
+        client1.setNewDestination(building, new RandomUtils(421), 1, 0);
+        client2.setNewDestination(building, new RandomUtils(421), 1, 0);
 
         assertEquals(building.getClientComplaints(620), 2);
         // Check for complaints again to ensure clients can't complain twice
@@ -143,4 +161,49 @@ public class BuildingTest {
 
     }
 
+    /**
+     * Test to ensure the building keeps track of which floors have somebody queuing
+     */
+    @Test
+    public void waitingFloors() {
+        // Nobody is queuing yet
+        assertFalse(building.isAnyoneWaiting());
+        assertNull(building.getNearestWaitingFloor(2));
+
+        floors.get(TOP_FLOOR).addToBackOfQueue(developer);
+        assertTrue(building.isAnyoneWaiting());
+        assertTrue(building.isAnyoneWaitingBetween(3, TOP_FLOOR + 1));
+        assertFalse(building.isAnyoneWaitingBetween(0, TOP_FLOOR));
+        assertEquals(building.getNearestWaitingFloor(2), floors.get(TOP_FLOOR));
+
+        // The floor below is closer
+        floors.get(0).addToFrontOfQueue(employee);
+        assertEquals(building.getNearestWaitingFloor(2), floors.get(0));
+        assertTrue(building.isAnyoneWaitingBetween(0, 1));
+
+        floors.get(0).removeFromQueue(employee);
+        floors.get(TOP_FLOOR).removeFromQueue(developer);
+        assertFalse(building.isAnyoneWaiting());
+        assertFalse(building.isAnyoneWaitingBetween(0, TOP_FLOOR + 1));
+    }
+
+    /**
+     * Test to ensure visitors who leave are signed out of the building once
+     */
+    @Test
+    public void visitorsSignOut() {
+        Client client = new Client(10, 600);
+        client.enterBuilding(building);
+        employee.enterBuilding(building);
+        assertEquals(building.getAllVisitors().size(), 2);
+
+        building.signOut(client, 1210);
+        // Signing out again changes nothing
+        building.signOut(client, 2000);
+        assertEquals(building.getAllVisitors().size(), 1);
+        assertTrue(building.getAllVisitors().contains(employee));
+        assertEquals(building.getNumberDepartedVisitors(), 1);
+        assertEquals(building.getAverageDepartedVisitTime(), 1200);
+    }
+
 }
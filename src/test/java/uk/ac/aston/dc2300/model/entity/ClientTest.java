@@ -4,7 +4,6 @@ import org.junit.Before;
 import org.junit.Test;
 import uk.ac.aston.dc2300.utility.RandomUtils;
 
-import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -63,7 +62,7 @@ public class ClientTest {
         // Setup for test
         groundFloor.addOccupant(client);
         // Client entered queue at 10 seconds
-        client.setNewDestination(building, randomUtils, BigDecimal.ONE,0);
+        client.setNewDestination(building, randomUtils, 1, 0);
         // Client complains at 599 (9 minutes 59 seconds after entering queue)
         assertFalse(client.wouldLikeToComplain(599));
     }
@@ -76,9 +75,9 @@ public class ClientTest {
         // Setup for test
         groundFloor.addOccupant(client);
         // Client entered queue at 10 seconds
-        client.setNewDestination(building, randomUtils, BigDecimal.ONE,0);
+        client.setNewDestination(building, randomUtils, 1, 0);
         while (client.getDestination().getFloorNumber() == 0) {
-            client.setNewDestination(building, randomUtils, BigDecimal.ONE,0);
+            client.setNewDestination(building, randomUtils, 1, 0);
         }
         // Client complains at 600 (10 minutes after entering queue)
         assertTrue(client.wouldLikeToComplain(610));
@@ -131,7 +130,7 @@ public class ClientTest {
         groundFloor.addOccupant(client);
 
         // Client sets a destination
-        client.setNewDestination(building, randomUtils, BigDecimal.ONE, 0);
+        client.setNewDestination(building, randomUtils, 1, 0);
 
         // Client stays on ground floor
         assertEquals(0, client.getDestination().getFloorNumber());
@@ -147,7 +146,7 @@ public class ClientTest {
         groundFloor.addOccupant(client);
 
         // Client sets a destination
-        client.setNewDestination(building, new RandomUtils(421), BigDecimal.ONE, 0);
+        client.setNewDestination(building, new RandomUtils(421), 1, 0);
 
         // Client's new destination is floor 2
         assertEquals(client.getDestination().getFloorNumber(), 1);
@@ -166,7 +165,7 @@ public class ClientTest {
         client.setDestination(groundFloor);
 
         // Client leaves building due to time expired
-        client.setNewDestination(building, randomUtils, BigDecimal.ONE, 1201);
+        client.setNewDestination(building, randomUtils, 1, 1201);
 
         // Client is no longer in the building
         assertEquals(groundFloor.getOccupants().size(), 0);
@@ -182,7 +181,7 @@ public class ClientTest {
         floors.get(1).addOccupant(client);
 
         // Client leaves building due to time expiring
-        client.setNewDestination(building, randomUtils, BigDecimal.ONE, 1201);
+        client.setNewDestination(building, randomUtils, 1, 1201);
 
         // Client sets destination to ground floor and enters elevator queue on floor 1
         assertEquals(client.getDestination(), groundFloor);
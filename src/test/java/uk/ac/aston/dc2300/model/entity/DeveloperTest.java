@@ -5,7 +5,6 @@ import org.junit.Test;
 import uk.ac.aston.dc2300.model.status.DeveloperCompany;
 import uk.ac.aston.dc2300.utility.RandomUtils;
 
-import java.math.BigDecimal;
 import java.util.*;
 
 import static org.junit.Assert.*;
@@ -119,7 +118,7 @@ public class DeveloperTest {
         groundFloor.addOccupant(developer);
 
         // Developer sets a destination
-        developer.setNewDestination(building, randomUtils, BigDecimal.ONE, 0);
+        developer.setNewDestination(building, randomUtils, 1, 0);
 
         // Developer's new destination is floor 4
         assertEquals(developer.getDestination().getFloorNumber(), 4);
@@ -135,7 +134,7 @@ public class DeveloperTest {
         floors.get(4).addOccupant(developer);
 
         // Developer sets a destination
-        developer.setNewDestination(building, randomUtils, BigDecimal.ONE, 0);
+        developer.setNewDestination(building, randomUtils, 1, 0);
 
         // Developer's new destination is floor 3
         assertEquals(developer.getDestination().getFloorNumber(), 3);
@@ -152,7 +151,7 @@ public class DeveloperTest {
         developer.setDestination(floors.get(1));
 
         // Developer sets a destination
-        developer.setNewDestination(building, new RandomUtils(1), BigDecimal.ZERO, 0);
+        developer.setNewDestination(building, new RandomUtils(1), 0, 0);
 
         // Developer's destination stays the same
         assertEquals(developer.getDestination().getFloorNumber(), 1);
@@ -0,0 +1,251 @@
+package uk.ac.aston.dc2300.model.entity;
+
+import org.junit.Before;
+import org.junit.Test;
+import uk.ac.aston.dc2300.model.status.DeveloperCompany;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test class for the ElevatorQueue functions
+ *
+ * @since 18/10/26
+ */
+public class ElevatorQueueTest {
+
+    private ElevatorQueue queue;
+    private Employee employee1;
+    private Employee employee2;
+    private Client client1;
+    private Client client2;
+
+    /**
+     * Setup before each test run for an empty queue
+     */
+    @Before
+    public void setup() {
+        queue = new ElevatorQueue();
+        employee1 = new Employee(0);
+        employee2 = new Employee(0);
+        client1 = new Client(0, 600);
+        client2 = new Client(0, 600);
+    }
+
+    /**
+     * Test to ensure the priority lane comes before the normal lane with the latest priority entry first
+     */
+    @Test
+    public void queueOrder() {
+        queue.addLast(employee1);
+        queue.addFirst(client1);
+        queue.addLast(employee2);
+        queue.addFirst(client2);
+
+        assertEquals(Arrays.asList(client2, client1, employee1, employee2), queue);
+        assertEquals(2, queue.getPrioritySize());
+        assertEquals(employee1, queue.get(2));
+        assertEquals(client2, queue.get(0));
+    }
+
+    /**
+     * Test to ensure occupants can be removed from either lane
+     */
+    @Test
+    public void removeOccupants() {
+        queue.addLast(employee1);
+        queue.addFirst(client1);
+        queue.addLast(employee2);
+
+        assertTrue(queue.remove(client1));
+        assertTrue(queue.remove(employee1));
+        // Can't be removed twice
+        assertFalse(queue.remove(employee1));
+        assertFalse(queue.contains(employee1));
+        assertTrue(queue.contains(employee2));
+        assertEquals(Arrays.asList(employee2), queue);
+        assertEquals(0, queue.getPrioritySize());
+    }
+
+    /**
+     * Test to ensure an occupant only leaves the queue they are in
+     */
+    @Test
+    public void removeFromOtherQueue() {
+        ElevatorQueue otherQueue = new ElevatorQueue();
+        otherQueue.addLast(employee1);
+
+        assertFalse(queue.contains(employee1));
+        assertFalse(queue.remove(employee1));
+        assertEquals(1, otherQueue.size());
+    }
+
+    /**
+     * Test to ensure an occupant queuing twice is removed from their first place in the queue
+     */
+    @Test
+    public void queuingTwice() {
+        queue.addLast(employee1);
+        queue.addLast(employee2);
+        queue.addLast(employee1);
+
+        assertTrue(queue.remove(employee1));
+        assertEquals(Arrays.asList(employee2, employee1), queue);
+        assertTrue(queue.remove(employee1));
+        assertEquals(Arrays.asList(employee2), queue);
+    }
+
+    /**
+     * Test to ensure looking up by position keeps working while occupants leave and rejoin the queue
+     */
+    @Test
+    public void walkWhileRemoving() {
+        queue.addLast(employee1);
+        queue.addFirst(client1);
+        queue.addLast(employee2);
+
+        // The first two leave, the second rejoins at the back
+        assertEquals(client1, queue.get(0));
+        queue.remove(client1);
+        assertEquals(employee1, queue.get(0));
+        queue.remove(employee1);
+        queue.addLast(employee1);
+        assertEquals(employee2, queue.get(0));
+        assertEquals(employee1, queue.get(1));
+    }
+
+    /**
+     * Test to ensure iterating carries on when the current occupant leaves the queue
+     */
+    @Test
+    public void iterateWhileRemoving() {
+        queue.addLast(employee1);
+        queue.addLast(employee2);
+        queue.addFirst(client1);
+
+        Iterator<BuildingOccupant> iterator = queue.iterator();
+        assertEquals(client1, iterator.next());
+        queue.remove(client1);
+        assertEquals(employee1, iterator.next());
+        iterator.remove();
+        assertEquals(employee2, iterator.next());
+        assertFalse(iterator.hasNext());
+        assertEquals(Arrays.asList(employee2), queue);
+    }
+
+    /**
+     * Test to ensure boarding leaves the queue and the elevator exactly as visiting every occupant in a plain list
+     * would, with developers refusing the elevator because of a rival rejoining the back of the queue
+     */
+    @Test
+    public void boardingMatchesReference() {
+        for (long seed = 0; seed < 20; seed++) {
+            Random random = new Random(seed);
+            List<Floor> floors = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                floors.add(new Floor(i));
+            }
+            Floor groundFloor = floors.get(0);
+            Elevator elevator = new Elevator(8, groundFloor);
+            LinkedList<BuildingOccupant> referenceQueue = new LinkedList<>();
+            List<BuildingOccupant> referencePassengers = new ArrayList<>();
+
+            // Open the doors
+            Employee first = new Employee(0);
+            first.setDestination(floors.get(1));
+            groundFloor.addToBackOfQueue(first);
+            referenceQueue.addLast(first);
+            elevator.updateDoorStatus(floors);
+            elevator.updateDoorStatus(floors);
+
+            for (int step = 0; step < 500; step++) {
+                int action = random.nextInt(10);
+                if (action < 5) {
+                    BuildingOccupant occupant = randomOccupant(random);
+                    occupant.setDestination(floors.get(1 + random.nextInt(3)));
+                    // Clients and the odd developer join the front
+                    if (occupant instanceof Client || random.nextInt(20) == 0) {
+                        groundFloor.addToFrontOfQueue(occupant);
+                        referenceQueue.addFirst(occupant);
+                    } else {
+                        groundFloor.addToBackOfQueue(occupant);
+                        referenceQueue.addLast(occupant);
+                    }
+                } else if (action == 5 && !referenceQueue.isEmpty()) {
+                    BuildingOccupant occupant = referenceQueue.get(random.nextInt(referenceQueue.size()));
+                    groundFloor.removeFromQueue(occupant);
+                    referenceQueue.remove(occupant);
+                } else if (action == 6 && !referencePassengers.isEmpty()) {
+                    BuildingOccupant passenger = referencePassengers.get(random.nextInt(referencePassengers.size()));
+                    elevator.removeOccupant(passenger);
+                    referencePassengers.remove(passenger);
+                } else {
+                    elevator.loadPassengers(floors, step * 10);
+                    referenceLoad(referenceQueue, referencePassengers, 8);
+                }
+                assertEquals(referenceQueue, groundFloor.getElevatorQueue());
+                assertEquals(referencePassengers, elevator.getOccupants());
+            }
+        }
+    }
+
+    private static BuildingOccupant randomOccupant(Random random) {
+        switch (random.nextInt(5)) {
+            case 0:
+                return new Employee(0);
+            case 1:
+                return new MaintenanceCrew(0, 600);
+            case 2:
+                return new Client(0, 600);
+            case 3:
+                return new Developer(0, DeveloperCompany.GOGGLES);
+            default:
+                return new Developer(0, DeveloperCompany.MUGTOME);
+        }
+    }
+
+    /**
+     * Boards passengers by visiting every occupant queuing in turn
+     */
+    private static void referenceLoad(LinkedList<BuildingOccupant> queue, List<BuildingOccupant> passengers,
+                                      int capacity) {
+        int index = 0;
+        for (int remaining = queue.size(); remaining > 0; remaining--) {
+            BuildingOccupant occupant = queue.get(index);
+            int usedCapacity = 0;
+            for (BuildingOccupant passenger : passengers) {
+                usedCapacity += passenger.getSize();
+            }
+            if (usedCapacity == capacity) {
+                break;
+            }
+            if (usedCapacity + occupant.getSize() > capacity) {
+                index++;
+            } else if (occupant instanceof Developer && hasRival(passengers, ((Developer) occupant).getCompany())) {
+                queue.remove(index);
+                queue.addLast(occupant);
+            } else {
+                queue.remove(index);
+                passengers.add(occupant);
+            }
+        }
+    }
+
+    private static boolean hasRival(List<BuildingOccupant> passengers, DeveloperCompany company) {
+        for (BuildingOccupant passenger : passengers) {
+            if (passenger instanceof Developer && ((Developer) passenger).getCompany() != company) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+}
@@ -10,6 +10,7 @@ import java.util.List;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -430,4 +431,39 @@ public class ElevatorTest {
         assertFalse(smallElevator.getOccupants().contains(maintenanceCrew));
     }
 
+    /**
+     * Test to ensure the elevator keeps track of its passengers as they get in, change destination and get out
+     */
+    @Test
+    public void passengerTotals() {
+        MaintenanceCrew maintenanceCrew = new MaintenanceCrew(0, 1200);
+        maintenanceCrew.setDestination(floors.get(0));
+        Developer developer = new Developer(0, DeveloperCompany.GOGGLES);
+        developer.setDestination(floors.get(3));
+        Floor groundFloor = floors.get(0);
+        groundFloor.addOccupant(maintenanceCrew);
+        groundFloor.addOccupant(developer);
+        elevator = new Elevator(8, groundFloor);
+
+        elevator.addOccupant(maintenanceCrew);
+        elevator.addOccupant(developer);
+        assertEquals(5, elevator.getUsedCapacity());
+        assertTrue(elevator.containsRivalOf(DeveloperCompany.MUGTOME));
+        assertFalse(elevator.containsRivalOf(DeveloperCompany.GOGGLES));
+        assertTrue(elevator.shouldElevatorTravelAbove(floors));
+
+        // The developer changes their mind while riding so nobody needs to go up any more
+        developer.setDestination(groundFloor);
+        assertFalse(elevator.shouldElevatorTravelAbove(floors));
+
+        // Both get off at the ground floor
+        elevator.updateDoorStatus(floors);
+        elevator.updateDoorStatus(floors);
+        elevator.unloadPassengers(10);
+        assertEquals(0, elevator.getOccupants().size());
+        assertEquals(0, elevator.getUsedCapacity());
+        assertFalse(elevator.containsRivalOf(DeveloperCompany.MUGTOME));
+        assertNull(developer.getElevator());
+    }
+
 }
@@ -4,7 +4,6 @@ import org.junit.Before;
 import org.junit.Test;
 import uk.ac.aston.dc2300.utility.RandomUtils;
 
-import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -86,7 +85,7 @@ public class EmployeeTest {
         groundFloor.addOccupant(employee);
 
         // Employee sets a destination
-        employee.setNewDestination(building, randomUtils, BigDecimal.ONE, 0);
+        employee.setNewDestination(building, randomUtils, 1, 0);
 
         // Employee's new destination is floor 1
         assertEquals(employee.getDestination().getFloorNumber(), 1);
@@ -102,7 +101,7 @@ public class EmployeeTest {
         floors.get(1).addOccupant(employee);
 
         // Employee sets a destination
-        employee.setNewDestination(building, randomUtils, BigDecimal.ONE, 0);
+        employee.setNewDestination(building, randomUtils, 1, 0);
 
         // Employee's new destination is floor 3
         assertEquals(employee.getDestination().getFloorNumber(), 3);
@@ -119,12 +118,28 @@ public class EmployeeTest {
         employee.setDestination(floors.get(1));
 
         // Employee sets a destination
-        employee.setNewDestination(building, new RandomUtils(1), BigDecimal.ZERO, 0);
+        employee.setNewDestination(building, new RandomUtils(1), 0, 0);
 
         // Employee's destination stays the same
         assertEquals(employee.getDestination().getFloorNumber(), 1);
     }
 
+    /**
+     * Test to ensure the employee chooses the same destination without changing anything
+     */
+    @Test
+    public void employeeChoosesDestinationWithoutSideEffects() {
+        groundFloor.addOccupant(employee);
+
+        Floor destination = employee.chooseRandomDestination(building, groundFloor, randomUtils, 1);
+
+        // Same choice as setNewDestination makes with the same numbers (see above)
+        assertEquals(floors.get(1), destination);
+        assertNull(employee.getDestination());
+        assertFalse(groundFloor.getElevatorQueue().contains(employee));
+        assertTrue(employee.choosesRandomDestination());
+    }
+
     /**
      * Test to ensure the employee leaves elevator on the correct floor
      */
@@ -169,4 +184,38 @@ public class EmployeeTest {
         assertEquals(employee.getQueueEntryTime(), 1234);
     }
 
+    /**
+     * Test to ensure the employee keeps every wait they have by default
+     */
+    @Test
+    public void employeeKeepsWaitHistory() {
+        employee.enterBuilding(building);
+        employee.callElevator(groundFloor, 10);
+        employee.getInElevator(elevator, groundFloor, 50);
+        elevator.removeOccupant(employee);
+        employee.callElevator(groundFloor, 100);
+        employee.getInElevator(elevator, groundFloor, 120);
+
+        assertArrayEquals(new int[]{40, 20}, employee.getWaitTimes());
+        assertEquals(2, employee.getNumberOfWaits());
+        assertEquals(60, employee.getTotalWaitTime());
+    }
+
+    /**
+     * Test to ensure the employee only keeps their totals in a building that doesn't want every wait
+     */
+    @Test(expected = IllegalStateException.class)
+    public void employeeKeepsOnlyTotals() {
+        Building totalsOnlyBuilding = new Building(new ArrayList<>(), floors, false);
+        employee.enterBuilding(totalsOnlyBuilding);
+        employee.callElevator(groundFloor, 10);
+        employee.getInElevator(elevator, groundFloor, 50);
+
+        assertEquals(1, employee.getNumberOfWaits());
+        assertEquals(40, employee.getTotalWaitTime());
+        assertEquals(40, totalsOnlyBuilding.getStatistics().getAverageTime());
+        // The individual waits weren't kept
+        employee.getWaitTimes();
+    }
+
 }
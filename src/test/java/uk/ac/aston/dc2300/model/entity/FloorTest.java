@@ -68,6 +68,28 @@ public class FloorTest {
         assertEquals(0, groundFloor.getOccupants().size());
     }
 
+    /**
+     * Test to check the occupant keeps track of the floor they are on as they are added and removed
+     */
+    @Test
+    public void occupantKnowsCurrentFloor() {
+        // Create new employee
+        Employee employee = new Employee(0);
+        // Employee isn't on a floor yet
+        assertEquals(null, employee.getCurrentFloor());
+        // Add occupant to floor 2
+        floors.get(2).addOccupant(employee);
+        // Employee knows they are on floor 2
+        assertEquals(floors.get(2), employee.getCurrentFloor());
+        // Removing the employee from a floor they aren't on doesn't change their floor
+        floors.get(3).removeOccupant(employee);
+        assertEquals(floors.get(2), employee.getCurrentFloor());
+        // Remove occupant from floor 2
+        floors.get(2).removeOccupant(employee);
+        // Employee is no longer on a floor
+        assertEquals(null, employee.getCurrentFloor());
+    }
+
     /**
      * Test to check occupant is added to the back of the elevator queue correctly
      */
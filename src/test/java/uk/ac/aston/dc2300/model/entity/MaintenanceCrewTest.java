@@ -4,7 +4,6 @@ import org.junit.Before;
 import org.junit.Test;
 import uk.ac.aston.dc2300.utility.RandomUtils;
 
-import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -86,7 +85,7 @@ public class MaintenanceCrewTest {
         groundFloor.addOccupant(maintenanceCrew);
 
         // Maintenance crew sets a destination with a random seed every time of current time in milliseconds
-        maintenanceCrew.setNewDestination(building, new RandomUtils((System.currentTimeMillis() % 1000)), BigDecimal.ONE, 0);
+        maintenanceCrew.setNewDestination(building, new RandomUtils((System.currentTimeMillis() % 1000)), 1, 0);
 
         // Maintenance crew's new destination is top floor
         assertEquals(maintenanceCrew.getDestination().getFloorNumber(), floors.size() -1);
@@ -105,7 +104,7 @@ public class MaintenanceCrewTest {
         maintenanceCrew.setDestination(groundFloor);
 
         // Maintenance crew leaves building due to time expired
-        maintenanceCrew.setNewDestination(building, randomUtils, BigDecimal.ONE, 1201);
+        maintenanceCrew.setNewDestination(building, randomUtils, 1, 1201);
 
         // Maintenance crew is no longer in the building
         assertEquals(groundFloor.getOccupants().size(), 0);
@@ -121,7 +120,7 @@ public class MaintenanceCrewTest {
         floors.get(1).addOccupant(maintenanceCrew);
 
         // Maintenance crew leaves building due to time expiring
-        maintenanceCrew.setNewDestination(building, randomUtils, BigDecimal.ONE, 1201);
+        maintenanceCrew.setNewDestination(building, randomUtils, 1, 1201);
 
         // Maintenance crew sets destination to ground floor and enters elevator queue on floor 1
         assertEquals(maintenanceCrew.getDestination(), groundFloor);
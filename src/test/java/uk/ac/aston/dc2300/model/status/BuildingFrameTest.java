@@ -0,0 +1,114 @@
+package uk.ac.aston.dc2300.model.status;
+
+import org.junit.Before;
+import org.junit.Test;
+import uk.ac.aston.dc2300.model.entity.Building;
+import uk.ac.aston.dc2300.model.entity.Client;
+import uk.ac.aston.dc2300.model.entity.Developer;
+import uk.ac.aston.dc2300.model.entity.Elevator;
+import uk.ac.aston.dc2300.model.entity.Employee;
+import uk.ac.aston.dc2300.model.entity.Floor;
+import uk.ac.aston.dc2300.model.entity.MaintenanceCrew;
+import uk.ac.aston.dc2300.model.status.BuildingFrame.OccupantType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Test class for the BuildingFrame functions
+ *
+ * @since 18/10/26
+ */
+public class BuildingFrameTest {
+
+    private List<Floor> floors;
+    private List<Elevator> elevators;
+    private Building building;
+
+    /**
+     * Setup before each test run for a basic building
+     */
+    @Before
+    public void setup() {
+        floors = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            floors.add(new Floor(i));
+        }
+        elevators = new ArrayList<>();
+        elevators.add(new Elevator(4, floors.get(0)));
+        elevators.add(new Elevator(4, floors.get(2)));
+        building = new Building(elevators, floors);
+    }
+
+    /**
+     * Test to check the frame separates queuing occupants from the rest of the floor and keeps queue order
+     */
+    @Test
+    public void captureFloors() {
+        Floor groundFloor = floors.get(0);
+        Employee employee = new Employee(0);
+        Client client = new Client(0, 0);
+        Developer developer = new Developer(0, DeveloperCompany.MUGTOME);
+        MaintenanceCrew maintenanceCrew = new MaintenanceCrew(0, 0);
+        groundFloor.addOccupant(employee);
+        groundFloor.addOccupant(client);
+        groundFloor.addOccupant(developer);
+        floors.get(3).addOccupant(maintenanceCrew);
+        groundFloor.addToBackOfQueue(developer);
+        groundFloor.addToFrontOfQueue(client);
+
+        BuildingFrame frame = BuildingFrame.capture(building, 30);
+
+        assertEquals(30, frame.getTime());
+        assertEquals(4, frame.getNumberOfFloors());
+        assertEquals(2, frame.getQueueLength(0));
+        assertEquals(OccupantType.CLIENT, frame.getQueuedOccupant(0, 0));
+        assertEquals(OccupantType.MUGTOME_DEVELOPER, frame.getQueuedOccupant(0, 1));
+        assertEquals(1, frame.getOnFloorCount(0));
+        assertEquals(OccupantType.EMPLOYEE, frame.getOnFloorOccupant(0, 0));
+        assertEquals(0, frame.getQueueLength(3));
+        assertEquals(1, frame.getOnFloorCount(3));
+        assertEquals(OccupantType.MAINTENANCE_CREW, frame.getOnFloorOccupant(3, 0));
+    }
+
+    /**
+     * Test to check the frame records where each elevator is and who is in it
+     */
+    @Test
+    public void captureElevators() {
+        elevators.get(1).addOccupant(new Developer(0, DeveloperCompany.GOGGLES));
+        elevators.get(1).addOccupant(new Employee(0));
+
+        BuildingFrame frame = BuildingFrame.capture(building, 0);
+
+        assertEquals(2, frame.getNumberOfElevators());
+        assertEquals(0, frame.getElevatorFloor(0));
+        assertEquals(0, frame.getPassengerCount(0));
+        assertEquals(2, frame.getElevatorFloor(1));
+        assertEquals(2, frame.getPassengerCount(1));
+        assertEquals(OccupantType.GOGGLES_DEVELOPER, frame.getPassenger(1, 0));
+        assertEquals(OccupantType.EMPLOYEE, frame.getPassenger(1, 1));
+    }
+
+    /**
+     * Test to check a frame doesn't change when the building changes after it was captured
+     */
+    @Test
+    public void frameUnaffectedByLaterChanges() {
+        Floor groundFloor = floors.get(0);
+        Employee employee = new Employee(0);
+        groundFloor.addOccupant(employee);
+
+        BuildingFrame frame = BuildingFrame.capture(building, 0);
+
+        groundFloor.addToBackOfQueue(employee);
+        groundFloor.addOccupant(new Client(0, 0));
+        elevators.get(0).addOccupant(new Employee(0));
+
+        assertEquals(0, frame.getQueueLength(0));
+        assertEquals(1, frame.getOnFloorCount(0));
+        assertEquals(0, frame.getPassengerCount(0));
+    }
+}
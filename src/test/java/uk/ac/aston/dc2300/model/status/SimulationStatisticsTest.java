@@ -5,6 +5,7 @@ import org.junit.Test;
 import uk.ac.aston.dc2300.model.entity.*;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import static org.junit.Assert.assertEquals;
@@ -64,14 +65,13 @@ public class SimulationStatisticsTest {
 
         // Add wait time for employee
         simulationStatistics.addWaitTimes(employee.getWaitTimes());
-        //Get list of wait times from statistics
-        List<Integer> waitTimes = simulationStatistics.getWaitTimes();
-        int firstWaitTime = waitTimes.get(0);
-        int secondWaitTime = waitTimes.get(1);
-        // First wait time is for employee which is 100
-        assertEquals(firstWaitTime, 100);
-        // Second wait time is for employees second time in queue which is 45
-        assertEquals(secondWaitTime, 45);
+        // Both waits are counted
+        assertEquals(simulationStatistics.getNumberOfWaits(), 2);
+        assertEquals(simulationStatistics.getTotalWaitTime(), 145);
+        // Longest wait time is the employees first time in the queue which is 100
+        assertEquals(simulationStatistics.getMaximumWaitTime(), 100);
+        // Shortest wait time is the employees second time in the queue which is 45
+        assertEquals(simulationStatistics.getMinimumWaitTime(), 45);
     }
 
     /**
@@ -95,14 +95,13 @@ public class SimulationStatisticsTest {
         // Add wait time for occupants
         simulationStatistics.addWaitTimes(employee.getWaitTimes());
         simulationStatistics.addWaitTimes(developer.getWaitTimes());
-        //Get list of wait times from statistics
-        List<Integer> waitTimes = simulationStatistics.getWaitTimes();
-        int firstWaitTime = waitTimes.get(0);
-        int secondWaitTime = waitTimes.get(1);
-        // First wait time is for employee which is 100
-        assertEquals(firstWaitTime, 100);
-        // Second wait time is for developer which is 50
-        assertEquals(secondWaitTime, 50);
+        // Both waits are counted
+        assertEquals(simulationStatistics.getNumberOfWaits(), 2);
+        assertEquals(simulationStatistics.getTotalWaitTime(), 150);
+        // Longest wait time is for employee which is 100
+        assertEquals(simulationStatistics.getMaximumWaitTime(), 100);
+        // Shortest wait time is for developer which is 50
+        assertEquals(simulationStatistics.getMinimumWaitTime(), 50);
     }
 
     /**
@@ -174,7 +173,58 @@ public class SimulationStatisticsTest {
         employee.getInElevator(elevator,groundFloor, 219);
         simulationStatistics.addWaitTimes(employee.getWaitTimes());
 
-        // String for CSV creation equals 219 (average wait time), 2 (number of complaints added in setup)
-        assertEquals(simulationStatistics.toCSV(), "219,2");
+        // String for CSV creation equals 219 (average wait time), 2 (number of complaints added in setup) then 219 for
+        // every percentile and the longest wait as there is only one wait
+        assertEquals(simulationStatistics.toCSV(), "219,2,219,219,219,219");
     }
-}
\ No newline at end of file
+
+    /**
+     * Test to ensure merging statistics joins the wait times and adds the complaints together
+     */
+    @Test
+    public void mergeCombinesStatistics() {
+        Employee employee = new Employee(0);
+        employee.callElevator(groundFloor, 0);
+        employee.getInElevator(elevator, groundFloor, 100);
+        simulationStatistics.addWaitTimes(employee.getWaitTimes());
+
+        Developer developer = new Developer(0, DeveloperCompany.GOGGLES);
+        developer.callElevator(groundFloor, 0);
+        developer.getInElevator(elevator, groundFloor, 300);
+        SimulationStatistics otherStatistics = new SimulationStatistics(3);
+        otherStatistics.addWaitTimes(developer.getWaitTimes());
+
+        SimulationStatistics merged = simulationStatistics.merge(otherStatistics);
+
+        // 2 complaints from setup plus 3, average of 100 and 300, half the waits were 100 and the rest 300
+        assertEquals(merged.toCSV(), "200,5,100,300,300,300");
+        // The originals are left unchanged
+        assertEquals(simulationStatistics.getNumberOfWaits(), 1);
+        // The merged statistics keep the shortest and longest waits of both
+        assertEquals(merged.getMinimumWaitTime(), 100);
+        assertEquals(merged.getMaximumWaitTime(), 300);
+    }
+
+    /**
+     * Test to ensure the statistics of a building are recorded as its occupants finish waiting
+     */
+    @Test
+    public void buildingRecordsWaitTimes() {
+        Building building = new Building(new ArrayList<>(Collections.singletonList(elevator)), floors);
+        Employee employee = new Employee(0);
+        employee.enterBuilding(building);
+        groundFloor.addOccupant(employee);
+        employee.callElevator(groundFloor, 0);
+        employee.getInElevator(elevator, groundFloor, 70);
+
+        SimulationStatistics statistics = building.getStatistics();
+        assertEquals(statistics.getNumberOfWaits(), 1);
+        assertEquals(statistics.getAverageTime(), 70);
+        // Later waits don't change statistics already read
+        elevator.removeOccupant(employee);
+        employee.callElevator(groundFloor, 100);
+        employee.getInElevator(elevator, groundFloor, 110);
+        assertEquals(statistics.getNumberOfWaits(), 1);
+        assertEquals(building.getStatistics().getAverageTime(), 40);
+    }
+}
@@ -0,0 +1,93 @@
+package uk.ac.aston.dc2300.model.status;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test class for the Wait Time Histogram functions
+ *
+ * @since 18/10/26
+ */
+public class WaitTimeHistogramTest {
+
+    /**
+     * Test to ensure short waits are counted exactly
+     */
+    @Test
+    public void shortWaitsAreExact() {
+        WaitTimeHistogram histogram = new WaitTimeHistogram();
+        for (int waitTime = 0; waitTime <= 100; waitTime += 10) {
+            histogram.record(waitTime);
+        }
+        assertEquals(11, histogram.getTotalCount());
+        assertEquals(0, histogram.getValueAtPercentile(0));
+        assertEquals(50, histogram.getValueAtPercentile(50));
+        assertEquals(100, histogram.getValueAtPercentile(100));
+    }
+
+    /**
+     * Test to ensure percentiles of long waits stay within the relative error of the true value
+     */
+    @Test
+    public void percentilesWithinRelativeError() {
+        Random random = new Random(420);
+        int[] waitTimes = new int[10000];
+        WaitTimeHistogram histogram = new WaitTimeHistogram();
+        for (int i = 0; i < waitTimes.length; i++) {
+            waitTimes[i] = random.nextInt(100000);
+            histogram.record(waitTimes[i]);
+        }
+        Arrays.sort(waitTimes);
+
+        for (double percentile : new double[]{50, 90, 99, 100}) {
+            int exact = waitTimes[(int) Math.ceil(percentile / 100 * waitTimes.length) - 1];
+            int estimate = histogram.getValueAtPercentile(percentile);
+            assertTrue(estimate >= exact);
+            assertTrue(estimate - exact <= exact / 64);
+        }
+    }
+
+    /**
+     * Test to ensure adding histograms together gives the same result as recording every wait in one
+     */
+    @Test
+    public void addingHistogramsLosesNothing() {
+        Random random = new Random(7);
+        WaitTimeHistogram first = new WaitTimeHistogram();
+        WaitTimeHistogram second = new WaitTimeHistogram();
+        WaitTimeHistogram combined = new WaitTimeHistogram();
+        for (int i = 0; i < 5000; i++) {
+            int waitTime = random.nextInt(5000);
+            (i % 3 == 0 ? first : second).record(waitTime);
+            combined.record(waitTime);
+        }
+        first.add(second);
+
+        assertEquals(combined.getTotalCount(), first.getTotalCount());
+        for (double percentile : new double[]{1, 50, 90, 99, 100}) {
+            assertEquals(combined.getValueAtPercentile(percentile), first.getValueAtPercentile(percentile));
+        }
+    }
+
+    /**
+     * Test to ensure an empty histogram reports no wait
+     */
+    @Test
+    public void emptyHistogram() {
+        assertEquals(0, new WaitTimeHistogram().getValueAtPercentile(90));
+    }
+
+    /**
+     * Test to ensure negative waits are rejected
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void negativeWaitRejected() {
+        new WaitTimeHistogram().record(-10);
+    }
+
+}
@@ -0,0 +1,131 @@
+package uk.ac.aston.dc2300.utility;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import uk.ac.aston.dc2300.model.configuration.SimulationConfiguration;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test class for reading options from the command line
+ *
+ * @since 18/10/26
+ */
+public class ArgumentUtilsTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    /**
+     * Test to check a configuration is assembled from the options with defaults for anything not passed
+     */
+    @Test
+    public void configurationFromOptions() {
+        ArgumentUtils arguments = new ArgumentUtils(new String[]{"run", "--floors=8", "--capacity=2", "--seed=-3"},
+                ArgumentUtils.CONFIGURATION_OPTIONS);
+
+        SimulationConfiguration configuration = arguments.getConfiguration();
+
+        assertEquals(8, configuration.getNumFloors());
+        assertEquals(2, configuration.getElevatorCapacity());
+        assertEquals(-3, configuration.getSeed());
+        assertEquals(10, configuration.getNumDevelopers());
+    }
+
+    /**
+     * Test to check an elevator which can't carry anybody is refused
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectZeroCapacity() {
+        new ArgumentUtils(new String[]{"run", "--capacity=0"},
+                ArgumentUtils.CONFIGURATION_OPTIONS).getConfiguration();
+    }
+
+    /**
+     * Test to check developers aren't put in a building with only one floor in its top half
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectDevelopersWithFewFloors() {
+        new ArgumentUtils(new String[]{"run", "--floors=3"},
+                ArgumentUtils.CONFIGURATION_OPTIONS).getConfiguration();
+    }
+
+    /**
+     * Test to check a small building is allowed when nobody in it needs another floor to move to
+     */
+    @Test
+    public void allowFewFloorsWithoutDevelopers() {
+        ArgumentUtils arguments = new ArgumentUtils(new String[]{"run", "--floors=2", "--developers=0"},
+                ArgumentUtils.CONFIGURATION_OPTIONS);
+
+        assertEquals(2, arguments.getConfiguration().getNumFloors());
+    }
+
+    /**
+     * Test to check employees aren't put in a building with a single floor
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectEmployeesWithSingleFloor() {
+        new ArgumentUtils(new String[]{"run", "--floors=1", "--developers=0"},
+                ArgumentUtils.CONFIGURATION_OPTIONS).getConfiguration();
+    }
+
+    /**
+     * Test to check a sweep is refused if any of its buildings can't be simulated
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectSweepWithInvalidBuilding() {
+        new ArgumentUtils(new String[]{"sweep", "--floors=2:10:2"},
+                ArgumentUtils.CONFIGURATION_OPTIONS).getSweep();
+    }
+
+    /**
+     * Test to check a sweep over valid buildings covers every combination
+     */
+    @Test
+    public void sweepFromOptions() {
+        ArgumentUtils arguments = new ArgumentUtils(new String[]{"sweep", "--floors=4:10:2", "--capacity=1,8"},
+                ArgumentUtils.CONFIGURATION_OPTIONS);
+
+        assertEquals(8, arguments.getSweep().size());
+    }
+
+    /**
+     * Test to check the options given by an interface, including flags, are read alongside the configuration
+     */
+    @Test
+    public void otherKnownOptions() {
+        ArgumentUtils arguments = new ArgumentUtils(new String[]{"run", "--verbose", "--output=stats.csv"},
+                ArgumentUtils.withConfigurationOptions("output", "verbose"));
+
+        assertTrue(arguments.hasOption("verbose"));
+        assertEquals("stats.csv", arguments.getString("output", null));
+    }
+
+    /**
+     * Test to check a misspelt option is refused rather than replaced by its default
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectUnknownOption() {
+        new ArgumentUtils(new String[]{"run", "--simulationTime=600"}, ArgumentUtils.CONFIGURATION_OPTIONS);
+    }
+
+    /**
+     * Test to check a misspelt option in a config file is refused
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectUnknownOptionInConfigFile() throws IOException {
+        Path file = folder.getRoot().toPath().resolve("options.properties");
+        Files.write(file, "floors=8\nfloor=10\n".getBytes(StandardCharsets.UTF_8));
+
+        new ArgumentUtils(new String[]{"run", "--config=" + file}, ArgumentUtils.CONFIGURATION_OPTIONS);
+    }
+
+}
@@ -0,0 +1,159 @@
+package uk.ac.aston.dc2300.utility;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import uk.ac.aston.dc2300.model.configuration.SimulationConfiguration;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Test class for reading options from a file
+ *
+ * @since 18/10/26
+ */
+public class OptionsFileTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    /**
+     * Test to check a JSON object of numbers and strings is read as text
+     */
+    @Test
+    public void readJson() throws IOException {
+        Path file = write("options.json", "{\n  \"floors\": 12,\n  \"p\" : \"0.02\",\n  \"output\": \"a \\\"b\\\"\\\\\"\n}\n");
+
+        Map<String, String> options = OptionsFile.read(file);
+
+        assertEquals(3, options.size());
+        assertEquals("12", options.get("floors"));
+        assertEquals("0.02", options.get("p"));
+        assertEquals("a \"b\"\\", options.get("output"));
+    }
+
+    /**
+     * Test to check a properties file is read
+     */
+    @Test
+    public void readProperties() throws IOException {
+        Path file = write("options.properties", "# nightly run\nfloors=12\ncapacity = 6 \n");
+
+        Map<String, String> options = OptionsFile.read(file);
+
+        assertEquals(2, options.size());
+        assertEquals("12", options.get("floors"));
+        assertEquals("6", options.get("capacity"));
+    }
+
+    /**
+     * Test to check nested JSON is refused
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectNestedJson() throws IOException {
+        OptionsFile.read(write("options.json", "{\"floors\": [1, 2]}"));
+    }
+
+    /**
+     * Test to check JSON missing its closing brace is refused
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectUnterminatedJson() throws IOException {
+        OptionsFile.read(write("options.json", "{\"floors\": 1,"));
+    }
+
+    /**
+     * Test to check a nested JSON object is refused
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectNestedObject() throws IOException {
+        OptionsFile.read(write("options.json", "{\"floors\": {\"count\": 2}}"));
+    }
+
+    /**
+     * Test to check a JSON string missing its closing quote is refused
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectUnterminatedString() throws IOException {
+        OptionsFile.read(write("options.json", "{\"output\": \"results.csv}"));
+    }
+
+    /**
+     * Test to check a JSON string ending part way through an escape is refused
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectUnterminatedEscape() throws IOException {
+        OptionsFile.read(write("options.json", "{\"output\": \"results\\"));
+    }
+
+    /**
+     * Test to check an option given twice is refused rather than one silently winning
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectDuplicateJsonOption() throws IOException {
+        OptionsFile.read(write("options.json", "{\"floors\": 8, \"floors\": 10}"));
+    }
+
+    /**
+     * Test to check an unquoted value which isn't a number or boolean is refused
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectBareWord() throws IOException {
+        OptionsFile.read(write("options.json", "{\"output\": results.csv}"));
+    }
+
+    /**
+     * Test to check a missing value is refused
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectMissingValue() throws IOException {
+        OptionsFile.read(write("options.json", "{\"floors\": }"));
+    }
+
+    /**
+     * Test to check anything after the object is refused
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectContentAfterObject() throws IOException {
+        OptionsFile.read(write("options.json", "{\"floors\": 8} {\"capacity\": 4}"));
+    }
+
+    /**
+     * Test to check a config file fills in options and command line options take precedence over it
+     */
+    @Test
+    public void argumentsOverrideConfigFile() throws IOException {
+        Path file = write("options.json", "{\"floors\": 12, \"capacity\": 6, \"p\": \"0.02\"}");
+
+        SimulationConfiguration configuration = new ArgumentUtils(new String[]{"run", "--config=" + file,
+                "--capacity=8"},
+                ArgumentUtils.CONFIGURATION_OPTIONS).getConfiguration();
+
+        assertEquals(12, configuration.getNumFloors());
+        assertEquals(8, configuration.getElevatorCapacity());
+        assertEquals(new BigDecimal("0.02"), configuration.getEmpFloorChangeProbability());
+        assertEquals(10, configuration.getNumEmployees());
+    }
+
+    /**
+     * Test to check a config file which doesn't exist is reported as an invalid option
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void missingConfigFile() {
+        new ArgumentUtils(new String[]{"run", "--config=" + folder.getRoot().toPath().resolve("missing.json")},
+                ArgumentUtils.CONFIGURATION_OPTIONS);
+    }
+
+    private Path write(String name, String content) throws IOException {
+        Path file = folder.getRoot().toPath().resolve(name);
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+}
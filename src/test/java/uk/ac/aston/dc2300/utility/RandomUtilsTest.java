@@ -0,0 +1,69 @@
+package uk.ac.aston.dc2300.utility;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+/**
+ * Test class for the RandomUtils functions
+ *
+ * @since 18/10/26
+ */
+public class RandomUtilsTest {
+
+    /**
+     * Test to ensure every seed still gives the same numbers as java.util.Random
+     */
+    @Test
+    public void sameNumbersAsJavaRandom() {
+        for (long seed : new long[]{0, 7, 420, -1, Long.MAX_VALUE}) {
+            RandomUtils randomUtils = new RandomUtils(seed);
+            Random random = new Random(seed);
+            for (int i = 0; i < 10000; i++) {
+                assertEquals(random.nextDouble(), randomUtils.getDouble(), 0);
+                // Both a power of two and an uneven range
+                assertEquals(random.nextInt(8) + 1, randomUtils.getIntInRange(1, 8));
+                assertEquals(random.nextInt(21) + 10, randomUtils.getIntInRange(10, 30));
+            }
+        }
+    }
+
+    /**
+     * Test to ensure restoring the state carries on with the same numbers
+     */
+    @Test
+    public void restoredStateContinues() {
+        RandomUtils randomUtils = new RandomUtils(420);
+        for (int i = 0; i < 100; i++) {
+            randomUtils.getDouble();
+        }
+        RandomUtils restored = RandomUtils.fromState(randomUtils.getState());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(randomUtils.getIntInRange(0, 1000), restored.getIntInRange(0, 1000));
+            assertEquals(randomUtils.getDouble(), restored.getDouble(), 0);
+        }
+    }
+
+    /**
+     * Test to ensure a keyed stream only depends on its seed and keys
+     */
+    @Test
+    public void keyedStreamsRepeat() {
+        RandomUtils first = RandomUtils.forKey(420, 10, 3);
+        RandomUtils again = RandomUtils.forKey(420, 10, 3);
+        RandomUtils otherKey = RandomUtils.forKey(420, 10, 4);
+        RandomUtils otherSeed = RandomUtils.forKey(421, 10, 3);
+
+        double firstDouble = first.getDouble();
+        assertEquals(firstDouble, again.getDouble(), 0);
+        assertNotEquals(firstDouble, otherKey.getDouble(), 0);
+        assertNotEquals(firstDouble, otherSeed.getDouble(), 0);
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(first.getIntInRange(0, 1000), again.getIntInRange(0, 1000));
+        }
+    }
+
+}
@@ -0,0 +1,88 @@
+package uk.ac.aston.dc2300.utility.checkpoint;
+
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.fail;
+
+/**
+ * Test class for writing in the background with BackgroundChannel
+ *
+ * @since 18/10/26
+ */
+public class BackgroundChannelTest {
+
+    /**
+     * Test to check everything written is in the channel, in order, once it is closed
+     */
+    @Test
+    public void writesEverythingInOrder() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        byte[] expected = new byte[1000];
+        try (BackgroundChannel channel = new BackgroundChannel(Channels.newChannel(output), 2)) {
+            for (int i = 0; i < expected.length; i += 10) {
+                byte[] block = new byte[10];
+                for (int j = 0; j < block.length; j++) {
+                    block[j] = (byte) (i + j);
+                    expected[i + j] = block[j];
+                }
+                channel.write(ByteBuffer.wrap(block));
+            }
+        }
+
+        assertArrayEquals(expected, output.toByteArray());
+    }
+
+    /**
+     * Test to check an interrupted background thread fails the writes rather than leaving them waiting forever
+     */
+    @Test(timeout = 10000)
+    public void interruptedWriterFailsWrites() throws IOException {
+        // Gives the writes time to fill the queue and wait, then interrupts the background thread
+        WritableByteChannel interrupting = new WritableByteChannel() {
+            @Override
+            public int write(ByteBuffer source) {
+                try {
+                    Thread.sleep(200);
+                } catch (InterruptedException e) {
+                    // Interrupted anyway below
+                }
+                Thread.currentThread().interrupt();
+                int length = source.remaining();
+                source.position(source.limit());
+                return length;
+            }
+
+            @Override
+            public boolean isOpen() {
+                return true;
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        BackgroundChannel channel = new BackgroundChannel(interrupting, 1);
+        try {
+            for (int i = 0; i < 100; i++) {
+                channel.write(ByteBuffer.wrap(new byte[10]));
+            }
+            fail("Writing should have failed");
+        } catch (IOException e) {
+            // Expected
+        }
+        try {
+            channel.close();
+            fail("Closing should have failed");
+        } catch (IOException e) {
+            // Expected
+        }
+    }
+
+}
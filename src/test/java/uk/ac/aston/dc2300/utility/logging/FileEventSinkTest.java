@@ -0,0 +1,67 @@
+package uk.ac.aston.dc2300.utility.logging;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Test class for the FileEventSink functions
+ *
+ * @since 18/10/26
+ */
+public class FileEventSinkTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    /**
+     * Test to ensure each event is written on its own line prefixed with its level
+     */
+    @Test
+    public void writesEventsWithLevels() throws IOException {
+        File file = folder.newFile("events.log");
+        FileEventSink sink = new FileEventSink(file);
+
+        sink.write(LogLevel.INFO, "Client arrived");
+        sink.write(LogLevel.DEBUG, "Time: 10");
+        sink.close();
+
+        assertEquals(Arrays.asList("INFO Client arrived", "DEBUG Time: 10"),
+                Files.readAllLines(file.toPath(), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Test to ensure a new sink replaces anything already in the file
+     */
+    @Test
+    public void replacesExistingContent() throws IOException {
+        File file = folder.newFile("events.log");
+        Files.write(file.toPath(), "old run\n".getBytes(StandardCharsets.UTF_8));
+
+        FileEventSink sink = new FileEventSink(file);
+        sink.write(LogLevel.INFO, "new run");
+        sink.close();
+
+        assertEquals(Arrays.asList("INFO new run"), Files.readAllLines(file.toPath(), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Test to ensure nothing can be written once the sink has been closed
+     */
+    @Test(expected = IllegalStateException.class)
+    public void writeAfterCloseRefused() throws IOException {
+        FileEventSink sink = new FileEventSink(folder.newFile("events.log"));
+        sink.close();
+
+        sink.write(LogLevel.INFO, "too late");
+    }
+
+}
@@ -0,0 +1,122 @@
+package uk.ac.aston.dc2300.utility.logging;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test class for the SimulationLog functions
+ *
+ * @since 18/10/26
+ */
+public class SimulationLogTest {
+
+    private RecordingEventSink sink;
+
+    /**
+     * Setup before each test run for a sink which keeps everything written to it
+     */
+    @Before
+    public void setup() {
+        sink = new RecordingEventSink();
+    }
+
+    /**
+     * Stops writing events once each test is done
+     */
+    @After
+    public void teardown() {
+        SimulationLog.close();
+    }
+
+    /**
+     * Test to ensure events below the configured level never reach the sink
+     */
+    @Test
+    public void disabledLevelsNotWritten() {
+        SimulationLog.configure(sink, LogLevel.INFO);
+
+        SimulationLog.debug("hidden");
+        SimulationLog.debug("hidden %s", 1);
+        SimulationLog.debug("hidden %s %s", 1, 2);
+        SimulationLog.info("Floor %s", 3);
+
+        assertFalse(SimulationLog.isEnabled(LogLevel.DEBUG));
+        assertEquals(1, sink.messages.size());
+        assertEquals("INFO Floor 3", sink.messages.get(0));
+    }
+
+    /**
+     * Test to ensure every level is written once debug is enabled
+     */
+    @Test
+    public void debugWritesEveryLevel() {
+        SimulationLog.configure(sink, LogLevel.DEBUG);
+
+        SimulationLog.debug("From %s to %s", 1, 4);
+        SimulationLog.info("Arrived");
+
+        assertEquals(2, sink.messages.size());
+        assertEquals("DEBUG From 1 to 4", sink.messages.get(0));
+        assertEquals("INFO Arrived", sink.messages.get(1));
+    }
+
+    /**
+     * Test to ensure nothing is written with the level turned off
+     */
+    @Test
+    public void offWritesNothing() {
+        SimulationLog.configure(sink, LogLevel.OFF);
+
+        SimulationLog.debug("hidden");
+        SimulationLog.info("hidden");
+
+        assertFalse(SimulationLog.isEnabled(LogLevel.INFO));
+        assertTrue(sink.messages.isEmpty());
+    }
+
+    /**
+     * Test to ensure the previous sink is closed when it is replaced and closing the log stops any more events
+     */
+    @Test
+    public void closeReleasesSink() {
+        SimulationLog.configure(sink, LogLevel.INFO);
+        RecordingEventSink nextSink = new RecordingEventSink();
+
+        SimulationLog.configure(nextSink, LogLevel.INFO);
+        assertTrue(sink.closed);
+        assertFalse(nextSink.closed);
+
+        SimulationLog.close();
+        SimulationLog.info("hidden");
+        assertTrue(nextSink.closed);
+        assertTrue(nextSink.messages.isEmpty());
+    }
+
+    /**
+     * An EventSink which keeps every event written to it
+     */
+    private static class RecordingEventSink implements EventSink {
+
+        private final List<String> messages = new ArrayList<>();
+        private boolean closed;
+
+        @Override
+        public void write(LogLevel level, String message) {
+            messages.add(level + " " + message);
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+
+}